@@ -0,0 +1,220 @@
+package io.kiota.benchmarks;
+
+import com.microsoft.kiota.HttpMethod;
+import com.microsoft.kiota.RequestAdapter;
+import com.microsoft.kiota.RequestInformation;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.kiota.http.jdk.JDKRequestAdapter;
+import io.kiota.http.vertx.VertXRequestAdapter;
+import io.kiota.serialization.json.JsonParseNodeFactory;
+import io.kiota.serialization.json.JsonSerializationWriterFactory;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.ext.web.client.WebClient;
+import io.vertx.ext.web.client.WebClientOptions;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Sends requests with the adapters to a server running in the same JVM, either the JDK
+ * {@code HttpServer} or a Vert.x server: a GET and a POST of a small Json object, and the
+ * streamed download of a large body. The sample time mode reports the latency percentiles, the
+ * concurrency is the number of JMH threads:
+ * {@code java -jar benchmarks.jar HttpAdapterBenchmark -t 16}
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+// the HttpServer responses would otherwise wait for the delayed acknowledgements
+@Fork(value = 1, jvmArgsAppend = "-Dsun.net.httpserver.nodelay=true")
+@State(Scope.Benchmark)
+public class HttpAdapterBenchmark {
+    private static final String contentType = "application/json";
+    private static final String downloadContentType = "application/octet-stream";
+    private static final int downloadSize = 1024 * 1024;
+
+    @Param({"jdk", "vertx"})
+    public String adapter;
+
+    @Param({"httpserver", "vertx"})
+    public String server;
+
+    private final byte[] person = Payloads.person();
+    private final byte[] download = new byte[downloadSize];
+    private Vertx vertx;
+    private HttpServer httpServer;
+    private ExecutorService serverExecutor;
+    private RequestAdapter requestAdapter;
+    private Person body;
+    private String baseUrl;
+
+    @Setup
+    public void setup() throws IOException {
+        vertx = Vertx.vertx();
+        final int port;
+        switch (server) {
+            case "httpserver":
+                port = startHttpServer();
+                break;
+            case "vertx":
+                port = startVertxServer();
+                break;
+            default:
+                throw new IllegalArgumentException("unknown server " + server);
+        }
+        baseUrl = "http://localhost:" + port;
+        switch (adapter) {
+            case "jdk":
+                requestAdapter =
+                        new JDKRequestAdapter(
+                                null,
+                                new JsonParseNodeFactory(),
+                                new JsonSerializationWriterFactory());
+                break;
+            case "vertx":
+                // as many connections as the JDK client opens for the JMH threads
+                requestAdapter =
+                        new VertXRequestAdapter(
+                                WebClient.create(vertx, new WebClientOptions().setMaxPoolSize(64)),
+                                new JsonParseNodeFactory(),
+                                new JsonSerializationWriterFactory());
+                break;
+            default:
+                throw new IllegalArgumentException("unknown adapter " + adapter);
+        }
+        body =
+                new JsonParseNodeFactory()
+                        .getParseNode(contentType, person, 0, person.length)
+                        .getObjectValue(Person::createFromDiscriminatorValue);
+    }
+
+    @TearDown
+    public void tearDown() {
+        if (httpServer != null) {
+            httpServer.stop(0);
+            serverExecutor.shutdownNow();
+        }
+        vertx.close().toCompletionStage().toCompletableFuture().join();
+    }
+
+    private int startHttpServer() throws IOException {
+        httpServer = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        httpServer.createContext(
+                "/person",
+                exchange -> {
+                    try (InputStream in = exchange.getRequestBody()) {
+                        final byte[] received = in.readAllBytes();
+                        respond(exchange, contentType, received.length > 0 ? received : person);
+                    }
+                });
+        httpServer.createContext(
+                "/download", exchange -> respond(exchange, downloadContentType, download));
+        serverExecutor = Executors.newFixedThreadPool(64);
+        httpServer.setExecutor(serverExecutor);
+        httpServer.start();
+        return httpServer.getAddress().getPort();
+    }
+
+    private static void respond(
+            final HttpExchange exchange, final String type, final byte[] response)
+            throws IOException {
+        exchange.getResponseHeaders().add("Content-Type", type);
+        exchange.sendResponseHeaders(200, response.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(response);
+        }
+    }
+
+    private int startVertxServer() {
+        final Buffer personBuffer = Buffer.buffer(person);
+        final Buffer downloadBuffer = Buffer.buffer(download);
+        return vertx.createHttpServer()
+                .requestHandler(
+                        request -> {
+                            switch (request.path()) {
+                                case "/person":
+                                    request.body()
+                                            .onSuccess(
+                                                    received ->
+                                                            respond(
+                                                                    request,
+                                                                    contentType,
+                                                                    received.length() > 0
+                                                                            ? received
+                                                                            : personBuffer));
+                                    break;
+                                case "/download":
+                                    respond(request, downloadContentType, downloadBuffer);
+                                    break;
+                                default:
+                                    request.response().setStatusCode(404).end();
+                                    break;
+                            }
+                        })
+                .listen(0, "localhost")
+                .toCompletionStage()
+                .toCompletableFuture()
+                .join()
+                .actualPort();
+    }
+
+    private static void respond(
+            final HttpServerRequest request, final String type, final Buffer response) {
+        request.response().putHeader("Content-Type", type).end(response);
+    }
+
+    private RequestInformation request(final HttpMethod method, final String path) {
+        final RequestInformation requestInfo = new RequestInformation();
+        requestInfo.httpMethod = method;
+        requestInfo.setUri(URI.create(baseUrl + path));
+        return requestInfo;
+    }
+
+    @Benchmark
+    public Person get() {
+        return requestAdapter.send(
+                request(HttpMethod.GET, "/person"), null, Person::createFromDiscriminatorValue);
+    }
+
+    @Benchmark
+    public Person post() {
+        final RequestInformation requestInfo = request(HttpMethod.POST, "/person");
+        requestInfo.setContentFromParsable(requestAdapter, contentType, body);
+        return requestAdapter.send(requestInfo, null, Person::createFromDiscriminatorValue);
+    }
+
+    @Benchmark
+    public long download() throws IOException {
+        try (InputStream in =
+                requestAdapter.sendPrimitive(
+                        request(HttpMethod.GET, "/download"), null, InputStream.class)) {
+            final byte[] buffer = new byte[8192];
+            long read = 0L;
+            for (int n = in.read(buffer); n >= 0; n = in.read(buffer)) {
+                read += n;
+            }
+            return read;
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package io.kiota.benchmarks;
+
+import com.microsoft.kiota.serialization.Parsable;
+import com.microsoft.kiota.serialization.ParsableFactory;
+import com.microsoft.kiota.serialization.ParseNode;
+import com.microsoft.kiota.serialization.SerializationWriter;
+import com.microsoft.kiota.serialization.SerializationWriterFactory;
+import io.kiota.serialization.json.JsonParseNodeFactory;
+import io.kiota.serialization.json.JsonSerializationWriterFactory;
+import io.kiota.serialization.json.JsonSerializedContent;
+import io.kiota.serialization.json.PooledJsonSerializationWriterFactory;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures each step of reading and writing a payload: building the parse node, deserializing
+ * the model from it, and serializing the model back, for a small object, a wide object, deeply
+ * nested objects and a large array. To be compared with the allocation profiler too:
+ * {@code java -jar benchmarks.jar JsonObjectBenchmark -prof gc}
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JsonObjectBenchmark {
+    private static final String contentType = "application/json";
+
+    @Param({"small", "wide", "deep", "largeArray"})
+    public String shape;
+
+    private byte[] payload;
+    private ParsableFactory<? extends Parsable> factory;
+    private boolean array;
+    private Object model;
+    private final JsonParseNodeFactory parseNodeFactory = new JsonParseNodeFactory();
+    private final SerializationWriterFactory writerFactory = new JsonSerializationWriterFactory();
+    private final SerializationWriterFactory pooledWriterFactory =
+            new PooledJsonSerializationWriterFactory();
+
+    @Setup
+    public void setup() {
+        switch (shape) {
+            case "small":
+                payload = Payloads.person();
+                factory = Person::createFromDiscriminatorValue;
+                break;
+            case "wide":
+                payload = Payloads.wideObject();
+                factory = WideObject::createFromDiscriminatorValue;
+                break;
+            case "deep":
+                payload = Payloads.nested(100);
+                factory = Nested::createFromDiscriminatorValue;
+                break;
+            case "largeArray":
+                payload = Payloads.people(10_000);
+                factory = Person::createFromDiscriminatorValue;
+                array = true;
+                break;
+            default:
+                throw new IllegalArgumentException("unknown shape " + shape);
+        }
+        model = getObjectValue();
+    }
+
+    @Benchmark
+    public ParseNode getParseNode() {
+        return parseNodeFactory.getParseNode(contentType, payload, 0, payload.length);
+    }
+
+    @Benchmark
+    public Object getObjectValue() {
+        final ParseNode node = getParseNode();
+        return array ? node.getCollectionOfObjectValues(factory) : node.getObjectValue(factory);
+    }
+
+    @Benchmark
+    public int writeObjectValue() throws IOException {
+        return write(writerFactory);
+    }
+
+    @Benchmark
+    public int writeObjectValuePooled() throws IOException {
+        return write(pooledWriterFactory);
+    }
+
+    @SuppressWarnings("unchecked")
+    private int write(final SerializationWriterFactory writerFactory) throws IOException {
+        try (SerializationWriter writer = writerFactory.getSerializationWriter(contentType)) {
+            if (array) {
+                writer.writeCollectionOfObjectValues(null, (List<Parsable>) model);
+            } else {
+                writer.writeObjectValue(null, (Parsable) model);
+            }
+            try (InputStream content = writer.getSerializedContent()) {
+                return ((JsonSerializedContent) content).getByteBuffer().remaining();
+            }
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package io.kiota.benchmarks;
+
+import com.microsoft.kiota.serialization.ParseNode;
+import io.kiota.serialization.json.JsonParseNodeFactory;
+import io.kiota.serialization.json.JsonStreamingParseNodeFactory;
+import jakarta.annotation.Nonnull;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the ways of feeding a payload to Jackson: decoding it through a Reader (the former
+ * implementation), handing the raw bytes to the UTF-8 parser, and reading them from memory.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+// the differences are within the noise of a single fork
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(5)
+@State(Scope.Benchmark)
+public class JsonReadBenchmark {
+    private static final String contentType = "application/json";
+
+    @Param({"10", "1000"})
+    public int size;
+
+    private byte[] payload;
+    private final JsonParseNodeFactory readerFactory = new ReaderJsonParseNodeFactory();
+    private final JsonParseNodeFactory treeFactory = new JsonParseNodeFactory();
+    private final JsonParseNodeFactory streamingFactory = new JsonStreamingParseNodeFactory();
+
+    @Setup
+    public void setup() {
+        payload = Payloads.people(size);
+    }
+
+    @Benchmark
+    public List<Person> readerTree() {
+        return read(readerFactory.getParseNode(contentType, new ByteArrayInputStream(payload)));
+    }
+
+    @Benchmark
+    public List<Person> inputStreamTree() {
+        return read(treeFactory.getParseNode(contentType, new ByteArrayInputStream(payload)));
+    }
+
+    @Benchmark
+    public List<Person> byteArrayTree() {
+        return read(treeFactory.getParseNode(contentType, payload, 0, payload.length));
+    }
+
+    @Benchmark
+    public List<Person> inputStreamStreaming() {
+        return read(streamingFactory.getParseNode(contentType, new ByteArrayInputStream(payload)));
+    }
+
+    @Benchmark
+    public List<Person> byteArrayStreaming() {
+        return read(streamingFactory.getParseNode(contentType, payload, 0, payload.length));
+    }
+
+    private static List<Person> read(final ParseNode node) {
+        return node.getCollectionOfObjectValues(Person::createFromDiscriminatorValue);
+    }
+
+    /** The char based implementation, kept as baseline. */
+    static class ReaderJsonParseNodeFactory extends JsonParseNodeFactory {
+        @Override
+        @Nonnull
+        protected ParseNode readParseNode(@Nonnull final InputStream rawResponse) {
+            try (final InputStreamReader reader =
+                    new InputStreamReader(rawResponse, StandardCharsets.UTF_8)) {
+                return createJsonParseNode(getObjectReader().readTree(reader));
+            } catch (IOException ex) {
+                throw new RuntimeException("could not close the reader", ex);
+            }
+        }
+    }
+}
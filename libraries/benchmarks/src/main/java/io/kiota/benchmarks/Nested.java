@@ -0,0 +1,37 @@
+package io.kiota.benchmarks;
+
+import com.microsoft.kiota.serialization.Parsable;
+import com.microsoft.kiota.serialization.ParseNode;
+import com.microsoft.kiota.serialization.SerializationWriter;
+import jakarta.annotation.Nonnull;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/** A model nesting another one, as the ones generated for deep API resources. */
+public class Nested implements Parsable {
+    private String name;
+    private Integer level;
+    private Nested child;
+
+    @Nonnull
+    public static Nested createFromDiscriminatorValue(@Nonnull final ParseNode parseNode) {
+        return new Nested();
+    }
+
+    @Nonnull
+    public Map<String, Consumer<ParseNode>> getFieldDeserializers() {
+        final HashMap<String, Consumer<ParseNode>> deserializerMap = new HashMap<>(3);
+        deserializerMap.put("name", n -> this.name = n.getStringValue());
+        deserializerMap.put("level", n -> this.level = n.getIntegerValue());
+        deserializerMap.put(
+                "child", n -> this.child = n.getObjectValue(Nested::createFromDiscriminatorValue));
+        return deserializerMap;
+    }
+
+    public void serialize(@Nonnull final SerializationWriter writer) {
+        writer.writeStringValue("name", name);
+        writer.writeIntegerValue("level", level);
+        writer.writeObjectValue("child", child);
+    }
+}
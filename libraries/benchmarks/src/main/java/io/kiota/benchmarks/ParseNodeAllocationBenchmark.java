@@ -0,0 +1,58 @@
+package io.kiota.benchmarks;
+
+import io.kiota.serialization.json.JsonParseNodeFactory;
+import io.kiota.serialization.json.JsonStreamingParseNodeFactory;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Deserializes collections of wide objects, to be run with the allocation profiler:
+ * {@code java -jar benchmarks.jar ParseNodeAllocationBenchmark -prof gc}
+ * and compared on {@code gc.alloc.rate.norm}, the bytes allocated per operation.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ParseNodeAllocationBenchmark {
+    private static final String contentType = "application/json";
+
+    @Param({"100"})
+    public int size;
+
+    private byte[] payload;
+    private final JsonParseNodeFactory treeFactory = new JsonParseNodeFactory();
+    private final JsonParseNodeFactory streamingFactory = new JsonStreamingParseNodeFactory();
+
+    @Setup
+    public void setup() {
+        payload = Payloads.wideObjects(size);
+    }
+
+    @Benchmark
+    public List<WideObject> tree() {
+        return treeFactory
+                .getParseNode(contentType, payload, 0, payload.length)
+                .getCollectionOfObjectValues(WideObject::createFromDiscriminatorValue);
+    }
+
+    @Benchmark
+    public List<WideObject> streaming() {
+        return streamingFactory
+                .getParseNode(contentType, payload, 0, payload.length)
+                .getCollectionOfObjectValues(WideObject::createFromDiscriminatorValue);
+    }
+}
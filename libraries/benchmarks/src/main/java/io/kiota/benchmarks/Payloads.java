@@ -0,0 +1,124 @@
+package io.kiota.benchmarks;
+
+import java.nio.charset.StandardCharsets;
+
+/** Generates the Json payloads used by the benchmarks. */
+public final class Payloads {
+    private Payloads() {}
+
+    /**
+     * Creates a Json array of people.
+     * @param count the number of elements in the array.
+     * @return the UTF-8 encoded payload.
+     */
+    public static byte[] people(final int count) {
+        final StringBuilder sb = new StringBuilder(count * 200);
+        sb.append('[');
+        for (int i = 0; i < count; i++) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            appendPerson(sb, i);
+        }
+        sb.append(']');
+        return sb.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Creates a Json object of a person, a small payload.
+     * @return the UTF-8 encoded payload.
+     */
+    public static byte[] person() {
+        return appendPerson(new StringBuilder(200), 0).toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static StringBuilder appendPerson(final StringBuilder sb, final int i) {
+        return sb.append("{\"id\":\"")
+                .append(i)
+                .append("\",\"displayName\":\"Person \u00d1ame ")
+                .append(i)
+                .append("\",\"email\":\"person")
+                .append(i)
+                .append("@example.com\",\"age\":")
+                .append(20 + i % 50)
+                .append(",\"active\":")
+                .append(i % 2 == 0)
+                .append(",\"score\":")
+                .append(i * 0.5)
+                .append(",\"createdAt\":\"2024-01-0")
+                .append(1 + i % 9)
+                .append("T10:15:30Z\",\"tags\":[\"a\",\"b\",\"c\"]}");
+    }
+
+    /**
+     * Creates a Json array of objects with many fields.
+     * @param count the number of elements in the array.
+     * @return the UTF-8 encoded payload.
+     */
+    public static byte[] wideObjects(final int count) {
+        final StringBuilder sb = new StringBuilder(count * WideObject.FIELDS * 20);
+        sb.append('[');
+        for (int i = 0; i < count; i++) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            appendWideObject(sb, i);
+        }
+        sb.append(']');
+        return sb.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Creates a Json object with many fields.
+     * @return the UTF-8 encoded payload.
+     */
+    public static byte[] wideObject() {
+        return appendWideObject(new StringBuilder(WideObject.FIELDS * 20), 0)
+                .toString()
+                .getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static StringBuilder appendWideObject(final StringBuilder sb, final int i) {
+        sb.append('{');
+        for (int f = 0; f < WideObject.FIELDS; f++) {
+            if (f > 0) {
+                sb.append(',');
+            }
+            sb.append('"').append(WideObject.fieldName(f)).append("\":");
+            switch (f % 4) {
+                case 0:
+                    sb.append("\"value ").append(f).append('"');
+                    break;
+                case 1:
+                    sb.append(i * f);
+                    break;
+                case 2:
+                    sb.append(f % 3 == 0);
+                    break;
+                default:
+                    sb.append('[').append(i).append(',').append(f).append(']');
+                    break;
+            }
+        }
+        return sb.append('}');
+    }
+
+    /**
+     * Creates Json objects nested in each other.
+     * @param depth the number of objects.
+     * @return the UTF-8 encoded payload.
+     */
+    public static byte[] nested(final int depth) {
+        final StringBuilder sb = new StringBuilder(depth * 60);
+        for (int i = 0; i < depth; i++) {
+            sb.append("{\"name\":\"level ").append(i).append("\",\"level\":").append(i);
+            if (i < depth - 1) {
+                sb.append(",\"child\":");
+            }
+        }
+        for (int i = 0; i < depth; i++) {
+            sb.append('}');
+        }
+        return sb.toString().getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,58 @@
+package io.kiota.benchmarks;
+
+import com.microsoft.kiota.serialization.Parsable;
+import com.microsoft.kiota.serialization.ParseNode;
+import com.microsoft.kiota.serialization.SerializationWriter;
+import jakarta.annotation.Nonnull;
+import java.time.OffsetDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/** A model shaped like the ones generated by Kiota, used as benchmark payload. */
+public class Person implements Parsable {
+    private String id;
+    private String displayName;
+    private String email;
+    private Integer age;
+    private Boolean active;
+    private Double score;
+    private OffsetDateTime createdAt;
+    private List<String> tags;
+
+    @Nonnull
+    public static Person createFromDiscriminatorValue(@Nonnull final ParseNode parseNode) {
+        return new Person();
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    @Nonnull
+    public Map<String, Consumer<ParseNode>> getFieldDeserializers() {
+        final HashMap<String, Consumer<ParseNode>> deserializerMap = new HashMap<>(8);
+        deserializerMap.put("id", n -> this.id = n.getStringValue());
+        deserializerMap.put("displayName", n -> this.displayName = n.getStringValue());
+        deserializerMap.put("email", n -> this.email = n.getStringValue());
+        deserializerMap.put("age", n -> this.age = n.getIntegerValue());
+        deserializerMap.put("active", n -> this.active = n.getBooleanValue());
+        deserializerMap.put("score", n -> this.score = n.getDoubleValue());
+        deserializerMap.put("createdAt", n -> this.createdAt = n.getOffsetDateTimeValue());
+        deserializerMap.put(
+                "tags", n -> this.tags = n.getCollectionOfPrimitiveValues(String.class));
+        return deserializerMap;
+    }
+
+    public void serialize(@Nonnull final SerializationWriter writer) {
+        writer.writeStringValue("id", id);
+        writer.writeStringValue("displayName", displayName);
+        writer.writeStringValue("email", email);
+        writer.writeIntegerValue("age", age);
+        writer.writeBooleanValue("active", active);
+        writer.writeDoubleValue("score", score);
+        writer.writeOffsetDateTimeValue("createdAt", createdAt);
+        writer.writeCollectionOfPrimitiveValues("tags", tags);
+    }
+}
@@ -0,0 +1,78 @@
+package io.kiota.benchmarks;
+
+import com.microsoft.kiota.serialization.Parsable;
+import com.microsoft.kiota.serialization.ParseNode;
+import com.microsoft.kiota.serialization.SerializationWriter;
+import jakarta.annotation.Nonnull;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/** A model with many fields, as the ones generated for wide API resources. */
+public class WideObject implements Parsable {
+    public static final int FIELDS = 64;
+    private static final String[] names = new String[FIELDS];
+
+    static {
+        for (int i = 0; i < FIELDS; i++) {
+            names[i] = ("field" + i).intern();
+        }
+    }
+
+    private final Object[] values = new Object[FIELDS];
+
+    @Nonnull
+    public static WideObject createFromDiscriminatorValue(@Nonnull final ParseNode parseNode) {
+        return new WideObject();
+    }
+
+    static String fieldName(final int index) {
+        return names[index];
+    }
+
+    @Nonnull
+    public Map<String, Consumer<ParseNode>> getFieldDeserializers() {
+        final HashMap<String, Consumer<ParseNode>> deserializerMap = new HashMap<>(FIELDS * 2);
+        for (int i = 0; i < FIELDS; i++) {
+            final int index = i;
+            switch (i % 4) {
+                case 0:
+                    deserializerMap.put(names[i], n -> values[index] = n.getStringValue());
+                    break;
+                case 1:
+                    deserializerMap.put(names[i], n -> values[index] = n.getIntegerValue());
+                    break;
+                case 2:
+                    deserializerMap.put(names[i], n -> values[index] = n.getBooleanValue());
+                    break;
+                default:
+                    deserializerMap.put(
+                            names[i],
+                            n -> values[index] = n.getCollectionOfPrimitiveValues(Long.class));
+                    break;
+            }
+        }
+        return deserializerMap;
+    }
+
+    @SuppressWarnings("unchecked")
+    public void serialize(@Nonnull final SerializationWriter writer) {
+        for (int i = 0; i < FIELDS; i++) {
+            switch (i % 4) {
+                case 0:
+                    writer.writeStringValue(names[i], (String) values[i]);
+                    break;
+                case 1:
+                    writer.writeIntegerValue(names[i], (Integer) values[i]);
+                    break;
+                case 2:
+                    writer.writeBooleanValue(names[i], (Boolean) values[i]);
+                    break;
+                default:
+                    writer.writeCollectionOfPrimitiveValues(names[i], (List<Long>) values[i]);
+                    break;
+            }
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package io.kiota.http;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Objects;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+/**
+ * Reads the bytes of a stream compressed in the gzip format, a chunk of the source is only
+ * read and compressed when the compressed bytes are read.
+ */
+public final class GzipCompressingInputStream extends InputStream {
+    private static final byte[] header = {
+        0x1f, (byte) 0x8b, Deflater.DEFLATED, 0, 0, 0, 0, 0, 0, (byte) 0xff
+    };
+
+    private final InputStream source;
+    private final Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+    private final CRC32 crc = new CRC32();
+    private final byte[] input = new byte[8192];
+    // the header, then the trailer, once they are read pending is null
+    private byte[] pending = header;
+    private int pendingPosition;
+    private boolean sourceEnded;
+    private boolean trailerPending = true;
+
+    /**
+     * Creates a stream compressing a source.
+     * @param source the stream read as it is compressed, closed with this one.
+     */
+    public GzipCompressingInputStream(final InputStream source) {
+        this.source = Objects.requireNonNull(source);
+    }
+
+    @Override
+    public int read() throws IOException {
+        final byte[] single = new byte[1];
+        return read(single, 0, 1) < 0 ? -1 : single[0] & 0xff;
+    }
+
+    @Override
+    public int read(final byte[] b, final int off, final int len) throws IOException {
+        Objects.checkFromIndexSize(off, len, b.length);
+        if (len == 0) {
+            return 0;
+        }
+        while (true) {
+            if (pending != null) {
+                final int read = Math.min(len, pending.length - pendingPosition);
+                System.arraycopy(pending, pendingPosition, b, off, read);
+                pendingPosition += read;
+                if (pendingPosition == pending.length) {
+                    pending = null;
+                }
+                return read;
+            }
+            if (deflater.finished()) {
+                if (!trailerPending) {
+                    return -1;
+                }
+                trailerPending = false;
+                pending = trailer();
+                pendingPosition = 0;
+                continue;
+            }
+            if (!sourceEnded && deflater.needsInput()) {
+                final int read = source.read(input, 0, input.length);
+                if (read < 0) {
+                    sourceEnded = true;
+                    deflater.finish();
+                } else {
+                    crc.update(input, 0, read);
+                    deflater.setInput(input, 0, read);
+                }
+            }
+            final int deflated = deflater.deflate(b, off, len);
+            if (deflated > 0) {
+                return deflated;
+            }
+        }
+    }
+
+    private byte[] trailer() {
+        final byte[] trailer = new byte[8];
+        writeInt(trailer, 0, crc.getValue());
+        writeInt(trailer, 4, deflater.getBytesRead());
+        return trailer;
+    }
+
+    // little endian, modulo 2^32
+    private static void writeInt(final byte[] bytes, final int offset, final long value) {
+        for (int i = 0; i < 4; i++) {
+            bytes[offset + i] = (byte) (value >>> (8 * i));
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        deflater.end();
+        source.close();
+    }
+}
@@ -0,0 +1,138 @@
+package io.kiota.http;
+
+import com.microsoft.kiota.serialization.Parsable;
+import com.microsoft.kiota.serialization.ParsableFactory;
+import com.microsoft.kiota.serialization.ParseNode;
+import io.kiota.serialization.json.JsonSerializedContent;
+import io.kiota.serialization.json.JsonStreamingParseNode;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Compatibility class to use the capabilities of kiota-serialization-jackson,
+ * an optional dependency, when it is available on the classpath.
+ */
+public final class JsonCompatibility {
+    private JsonCompatibility() {}
+
+    private static final boolean jacksonAvailable =
+            isAvailable("io.kiota.serialization.json.JsonStreamingParseNode");
+
+    private static boolean isAvailable(final String className) {
+        try {
+            Class.forName(className, false, JsonCompatibility.class.getClassLoader());
+            return true;
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+
+    /**
+     * Returns the objects of a collection, read one at a time when the node is a streaming one.
+     * @param done called once the objects are read, when reading them failed, or when the stream
+     *     is closed, whichever comes first.
+     * @return the objects of the collection.
+     */
+    @Nonnull
+    public static <T extends Parsable> Stream<T> streamCollectionOfObjectValues(
+            @Nonnull final ParseNode node,
+            @Nonnull final ParsableFactory<T> factory,
+            @Nonnull final Runnable done) {
+        if (jacksonAvailable && Jackson.isStreaming(node)) {
+            final Runnable once = once(done);
+            final Stream<T> elements;
+            try {
+                elements = Jackson.streamCollectionOfObjectValues(node, factory);
+            } catch (RuntimeException e) {
+                once.run();
+                throw e;
+            }
+            return whenDone(elements, once);
+        }
+        final List<T> result;
+        try {
+            result = node.getCollectionOfObjectValues(factory);
+        } finally {
+            done.run();
+        }
+        return result == null ? Stream.empty() : result.stream();
+    }
+
+    private static Runnable once(final Runnable action) {
+        final AtomicBoolean ran = new AtomicBoolean();
+        return () -> {
+            if (ran.compareAndSet(false, true)) {
+                action.run();
+            }
+        };
+    }
+
+    // the elements are read as the stream is consumed, it doesn't tell when they are all read
+    private static <T> Stream<T> whenDone(final Stream<T> elements, final Runnable done) {
+        final Spliterator<T> source = elements.spliterator();
+        return StreamSupport.stream(
+                        new Spliterators.AbstractSpliterator<T>(
+                                Long.MAX_VALUE, Spliterator.ORDERED) {
+                            @Override
+                            public boolean tryAdvance(final Consumer<? super T> action) {
+                                final boolean advanced;
+                                try {
+                                    advanced = source.tryAdvance(action);
+                                } catch (RuntimeException e) {
+                                    done.run();
+                                    throw e;
+                                }
+                                if (!advanced) {
+                                    done.run();
+                                }
+                                return advanced;
+                            }
+                        },
+                        false)
+                .onClose(elements::close)
+                .onClose(done);
+    }
+
+    /**
+     * Returns the bytes of a content produced by a JsonSerializationWriter.
+     * @return a view of the bytes, or null when the content is not a serialized one.
+     */
+    @Nullable
+    public static ByteBuffer getSerializedContent(@Nonnull final InputStream content) {
+        if (jacksonAvailable && Jackson.isSerializedContent(content)) {
+            return Jackson.getByteBuffer(content);
+        }
+        return null;
+    }
+
+    // kept apart so that the Jackson classes are only resolved when available
+    private static class Jackson {
+        private Jackson() {}
+
+        static boolean isSerializedContent(final InputStream content) {
+            return content instanceof JsonSerializedContent;
+        }
+
+        static ByteBuffer getByteBuffer(final InputStream content) {
+            return ((JsonSerializedContent) content).getByteBuffer();
+        }
+
+        static boolean isStreaming(final ParseNode node) {
+            return node instanceof JsonStreamingParseNode;
+        }
+
+        static <T extends Parsable> Stream<T> streamCollectionOfObjectValues(
+                final ParseNode node, final ParsableFactory<T> factory) {
+            return ((JsonStreamingParseNode) node).streamCollectionOfObjectValues(factory);
+        }
+    }
+}
@@ -0,0 +1,177 @@
+package io.kiota.http;
+
+import com.microsoft.kiota.serialization.Parsable;
+import com.microsoft.kiota.serialization.ParsableFactory;
+import com.microsoft.kiota.store.BackedModel;
+import com.microsoft.kiota.store.BackingStore;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Keeps the objects deserialized from the responses having an ETag, by URI and factory. A
+ * response with the same ETag, e.g. served from the HTTP cache or revalidated, is
+ * then returned without being parsed again. The least recently used objects are evicted once
+ * the cache is full.
+ *
+ * <p>Only the models with a backing store are cached, each caller gets its own copy of the
+ * model and of the nested models and collections. The models without one, or nesting one
+ * without one, are parsed for each response as they can't be copied.
+ */
+public class ParsableCache {
+    private final LinkedHashMap<Key, Cached> entries;
+
+    /**
+     * Creates a cache.
+     * @param maxEntries the maximum number of cached objects.
+     */
+    public ParsableCache(final int maxEntries) {
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("maxEntries must be positive");
+        }
+        this.entries =
+                new LinkedHashMap<>(16, 0.75f, true) {
+                    @Override
+                    protected boolean removeEldestEntry(final Map.Entry<Key, Cached> eldest) {
+                        return size() > maxEntries;
+                    }
+                };
+    }
+
+    /** Removes all the cached objects. */
+    public synchronized void clear() {
+        entries.clear();
+    }
+
+    /**
+     * Returns a copy of the object deserialized from a response.
+     * @param uri the URI of the request.
+     * @param etag the ETag of the response.
+     * @param factory the factory the object was created with.
+     * @return the object, or null when none is cached for this ETag.
+     * @param <T> the type of the object.
+     */
+    @Nullable
+    public <T extends Parsable> T get(
+            @Nonnull final String uri,
+            @Nonnull final String etag,
+            @Nonnull final ParsableFactory<T> factory) {
+        final Cached entry;
+        synchronized (this) {
+            entry = entries.get(new Key(uri, factory));
+        }
+        if (entry == null || !entry.etag.equals(etag)) {
+            return null;
+        }
+        @SuppressWarnings("unchecked")
+        final T value = (T) copy(entry.value);
+        return value;
+    }
+
+    /**
+     * Keeps a copy of an object deserialized from a response.
+     * @param uri the URI of the request.
+     * @param etag the ETag of the response.
+     * @param factory the factory the object was created with.
+     * @param value the object.
+     */
+    public void put(
+            @Nonnull final String uri,
+            @Nonnull final String etag,
+            @Nonnull final ParsableFactory<?> factory,
+            @Nonnull final Parsable value) {
+        final Object copy;
+        try {
+            // the caller gets the parsed object, the cache keeps its own
+            copy = copy(value);
+        } catch (RuntimeException e) {
+            // e.g. a model without a backing store or a no-arg constructor, it isn't cached
+            return;
+        }
+        synchronized (this) {
+            entries.put(new Key(uri, factory), new Cached(etag, copy));
+        }
+    }
+
+    private static Object copy(@Nullable final Object value) {
+        if (value instanceof BackedModel) {
+            final BackingStore source = ((BackedModel) value).getBackingStore();
+            final BackedModel copy;
+            try {
+                copy = (BackedModel) value.getClass().getDeclaredConstructor().newInstance();
+            } catch (ReflectiveOperationException e) {
+                throw new RuntimeException(e);
+            }
+            final BackingStore target = copy.getBackingStore();
+            for (final Map.Entry<String, Object> field : source.enumerate().entrySet()) {
+                target.set(field.getKey(), copy(field.getValue()));
+            }
+            target.setIsInitializationCompleted(true);
+            return copy;
+        } else if (value instanceof List) {
+            final List<Object> copy = new ArrayList<>(((List<?>) value).size());
+            for (final Object item : (Collection<?>) value) {
+                copy.add(copy(item));
+            }
+            return copy;
+        } else if (value instanceof Map) {
+            // e.g. the additional data
+            final Map<Object, Object> copy = new HashMap<>();
+            for (final Map.Entry<?, ?> item : ((Map<?, ?>) value).entrySet()) {
+                copy.put(item.getKey(), copy(item.getValue()));
+            }
+            return copy;
+        } else if (value instanceof Parsable) {
+            throw new IllegalArgumentException(
+                    "a model without a backing store can't be copied: " + value.getClass());
+        } else if (value instanceof byte[]) {
+            return ((byte[]) value).clone();
+        } else if (value instanceof EnumSet) {
+            // the flags
+            return ((EnumSet<?>) value).clone();
+        }
+        // the other values are immutable
+        return value;
+    }
+
+    private static final class Key {
+        private final String uri;
+        private final ParsableFactory<?> factory;
+
+        private Key(final String uri, final ParsableFactory<?> factory) {
+            this.uri = uri;
+            this.factory = factory;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            final Key other = (Key) o;
+            return uri.equals(other.uri) && factory == other.factory;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(uri, System.identityHashCode(factory));
+        }
+    }
+
+    private static final class Cached {
+        private final String etag;
+        private final Object value;
+
+        private Cached(final String etag, final Object value) {
+            this.etag = etag;
+            this.value = value;
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package io.kiota.http;
+
+import com.microsoft.kiota.RequestInformation;
+import com.microsoft.kiota.RequestOption;
+import jakarta.annotation.Nonnull;
+import java.util.Objects;
+
+/**
+ * Compresses the body of a request with gzip while it is sent, and sets its Content-Encoding.
+ * Bodies already encoded, with a Content-Encoding header, are sent as is.
+ */
+public class RequestCompressionOption implements RequestOption {
+    private boolean enabled = true;
+
+    /** Creates an option compressing the request body. */
+    public RequestCompressionOption() {}
+
+    /**
+     * Whether the request body is compressed.
+     * @return true by default.
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Sets whether the request body is compressed.
+     * @param enabled false to send the body as is.
+     */
+    public void setEnabled(final boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * Whether the body of the request is to be compressed.
+     * @param requestInfo the request.
+     * @return true when an enabled option is set on the request.
+     */
+    public static boolean isEnabled(@Nonnull final RequestInformation requestInfo) {
+        Objects.requireNonNull(requestInfo);
+        for (final RequestOption option : requestInfo.getRequestOptions()) {
+            if (option instanceof RequestCompressionOption) {
+                return ((RequestCompressionOption) option).isEnabled();
+            }
+        }
+        return false;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T extends RequestOption> Class<T> getType() {
+        return (Class<T>) RequestCompressionOption.class;
+    }
+}
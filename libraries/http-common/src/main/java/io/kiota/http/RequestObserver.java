@@ -0,0 +1,37 @@
+package io.kiota.http;
+
+import com.microsoft.kiota.RequestInformation;
+import jakarta.annotation.Nonnull;
+
+/**
+ * Receives how long the phases of each request sent by an adapter took, e.g. to export them as
+ * metrics. It is called by the thread completing the phase and must not block.
+ */
+@FunctionalInterface
+public interface RequestObserver {
+    /** Converting the request information to a request of the client. */
+    String CONVERT = "convert";
+
+    /** Sending the request and waiting for the response, the interceptors included. */
+    String NETWORK = "network";
+
+    /** Checking the status code of the response, and deserializing the error of a failed one. */
+    String STATUS = "status";
+
+    /** Deserializing the body of a successful response. */
+    String DESERIALIZE = "deserialize";
+
+    /**
+     * Called once a phase of a request completed, successfully or not.
+     * @param requestInfo the request, its {@code urlTemplate} identifies the operation.
+     * @param phase one of the phases declared by this interface.
+     * @param statusCode the status code of the response, 0 when there is no response yet or
+     *     the request failed.
+     * @param durationNanos how long the phase took, in nanoseconds.
+     */
+    void onPhase(
+            @Nonnull RequestInformation requestInfo,
+            @Nonnull String phase,
+            int statusCode,
+            long durationNanos);
+}
@@ -0,0 +1,254 @@
+package io.kiota.http;
+
+import com.microsoft.kiota.RequestInformation;
+import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanBuilder;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.context.Scope;
+import io.opentelemetry.context.propagation.TextMapPropagator;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import java.net.URISyntaxException;
+import java.time.Instant;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Traces the requests of an adapter with OpenTelemetry: a client span per request, current
+ * while the request is converted, sent and its response deserialized, and a child span per
+ * phase reported to {@link RequestObserver}.
+ */
+public class RequestTracing {
+    private static final AttributeKey<String> methodKey =
+            AttributeKey.stringKey("http.request.method");
+    private static final AttributeKey<String> urlTemplateKey =
+            AttributeKey.stringKey("url.template");
+    private static final AttributeKey<String> urlKey = AttributeKey.stringKey("url.full");
+    private static final AttributeKey<Long> statusCodeKey =
+            AttributeKey.longKey("http.response.status_code");
+
+    @Nonnull private final Tracer tracer;
+    @Nonnull private final TextMapPropagator propagator;
+
+    /**
+     * Creates the tracing of an adapter.
+     * @param openTelemetry the instance creating the spans.
+     * @param instrumentationName the name of the tracer, e.g. the package of the adapter.
+     */
+    public RequestTracing(
+            @Nonnull final OpenTelemetry openTelemetry, @Nonnull final String instrumentationName) {
+        Objects.requireNonNull(openTelemetry, "parameter openTelemetry cannot be null");
+        Objects.requireNonNull(instrumentationName, "parameter instrumentationName cannot be null");
+        this.tracer = openTelemetry.getTracer(instrumentationName);
+        this.propagator = openTelemetry.getPropagators().getTextMapPropagator();
+    }
+
+    /**
+     * Sends a request under its client span, ended once it is sent.
+     * @param requestInfo the request, with its base URL set.
+     * @param send sends the request.
+     * @return the result of the request.
+     * @param <T> the type of the result.
+     */
+    public <T> T traced(
+            @Nonnull final RequestInformation requestInfo, @Nonnull final Supplier<T> send) {
+        final Span span = start(requestInfo);
+        final T result;
+        try (Scope scope = span.makeCurrent()) {
+            result = send.get();
+        } catch (RuntimeException e) {
+            end(span, e);
+            throw e;
+        }
+        end(span, null);
+        return result;
+    }
+
+    /**
+     * Sends a request under its client span, ended once its result is completed.
+     * @param requestInfo the request, with its base URL set.
+     * @param send sends the request.
+     * @return the result of the request.
+     * @param <T> the type of the result.
+     */
+    public <T> CompletableFuture<T> tracedAsync(
+            @Nonnull final RequestInformation requestInfo,
+            @Nonnull final Supplier<CompletableFuture<T>> send) {
+        final Span span = start(requestInfo);
+        final CompletableFuture<T> result;
+        try (Scope scope = span.makeCurrent()) {
+            result = send.get();
+        } catch (RuntimeException e) {
+            end(span, e);
+            throw e;
+        }
+        return result.whenComplete(
+                (value, failure) ->
+                        end(
+                                span,
+                                failure instanceof CompletionException && failure.getCause() != null
+                                        ? failure.getCause()
+                                        : failure));
+    }
+
+    /**
+     * Sends a request under its client span, for the results the adapter completes itself, e.g.
+     * a Vert.x future. The span is ended by the callback registered on the result.
+     * @param requestInfo the request, with its base URL set.
+     * @param send sends the request.
+     * @param whenComplete registers on the result the callback ending the span, called with why
+     * the request failed or null when it succeeded, and returns the result.
+     * @return the result of the request.
+     * @param <T> the type of the result.
+     */
+    public <T> T tracedAsync(
+            @Nonnull final RequestInformation requestInfo,
+            @Nonnull final Supplier<T> send,
+            @Nonnull final BiFunction<T, Consumer<Throwable>, T> whenComplete) {
+        final Span span = start(requestInfo);
+        final T result;
+        try (Scope scope = span.makeCurrent()) {
+            result = send.get();
+        } catch (RuntimeException e) {
+            end(span, e);
+            throw e;
+        }
+        return whenComplete.apply(result, failure -> end(span, failure));
+    }
+
+    private Span start(final RequestInformation requestInfo) {
+        Objects.requireNonNull(requestInfo, "parameter requestInfo cannot be null");
+        final String method =
+                requestInfo.httpMethod == null ? "HTTP" : requestInfo.httpMethod.name();
+        final SpanBuilder builder =
+                tracer.spanBuilder(
+                                requestInfo.urlTemplate == null
+                                        ? method
+                                        : method + " " + requestInfo.urlTemplate)
+                        .setSpanKind(SpanKind.CLIENT)
+                        .setAttribute(methodKey, method);
+        if (requestInfo.urlTemplate != null) {
+            builder.setAttribute(urlTemplateKey, requestInfo.urlTemplate);
+        }
+        final String url = getUrl(requestInfo);
+        if (url != null) {
+            builder.setAttribute(urlKey, url);
+        }
+        return builder.startSpan();
+    }
+
+    private static void end(final Span span, @Nullable final Throwable failure) {
+        if (failure != null) {
+            span.recordException(failure);
+            span.setStatus(StatusCode.ERROR);
+        }
+        span.end();
+    }
+
+    /**
+     * Sets the headers propagating the span current when the request is converted, with the
+     * propagators of the OpenTelemetry instance, e.g. the W3C traceparent header. The headers set
+     * by the request already are kept.
+     * @param headers the names of the headers of the request.
+     * @param setter sets a header of the converted request.
+     */
+    public void inject(
+            @Nonnull final Set<String> headers, @Nonnull final BiConsumer<String, String> setter) {
+        Objects.requireNonNull(headers, "parameter headers cannot be null");
+        Objects.requireNonNull(setter, "parameter setter cannot be null");
+        propagator.inject(
+                Context.current(),
+                setter,
+                (carrier, key, value) -> {
+                    for (final String header : headers) {
+                        if (header.equalsIgnoreCase(key)) {
+                            return;
+                        }
+                    }
+                    carrier.accept(key, value);
+                });
+    }
+
+    /**
+     * The executor running the tasks in the context current when they are submitted.
+     * @param executor the executor running the tasks.
+     * @return the wrapped executor.
+     */
+    @Nonnull
+    public static Executor currentContext(@Nonnull final Executor executor) {
+        return Context.current().wrap(executor);
+    }
+
+    /**
+     * The callback running in the context current when it is created, e.g. on an event loop.
+     * @param callback the callback.
+     * @return the wrapped callback.
+     */
+    @Nonnull
+    public static <T, R> Function<T, R> currentContext(@Nonnull final Function<T, R> callback) {
+        return Context.current().wrapFunction(callback);
+    }
+
+    /**
+     * The task running in the context current when it is created, e.g. on a worker thread.
+     * @param task the task.
+     * @return the wrapped task.
+     */
+    @Nonnull
+    public static <T> Callable<T> currentContext(@Nonnull final Callable<T> task) {
+        return Context.current().wrap(task);
+    }
+
+    /**
+     * Records a phase of a request reported to a {@link RequestObserver}, as a child of the
+     * current client span created once the phase completed.
+     * @param phase one of the phases of {@link RequestObserver}.
+     * @param statusCode the status code of the response, 0 when there is none.
+     * @param durationNanos how long the phase took, in nanoseconds.
+     */
+    public void phase(@Nonnull final String phase, final int statusCode, final long durationNanos) {
+        final Span current = Span.current();
+        if (!current.getSpanContext().isValid()) {
+            return;
+        }
+        if (statusCode != 0) {
+            current.setAttribute(statusCodeKey, (long) statusCode);
+        }
+        if (phase.equals(RequestObserver.NETWORK)) {
+            // the client span itself
+            return;
+        }
+        final Instant now = Instant.now();
+        final long end = TimeUnit.SECONDS.toNanos(now.getEpochSecond()) + now.getNano();
+        tracer.spanBuilder(phase)
+                .setParent(Context.current())
+                .setStartTimestamp(end - durationNanos, TimeUnit.NANOSECONDS)
+                .startSpan()
+                .end(end, TimeUnit.NANOSECONDS);
+    }
+
+    @Nullable
+    private static String getUrl(final RequestInformation requestInfo) {
+        try {
+            return requestInfo.getUri().toString();
+        } catch (URISyntaxException | RuntimeException e) {
+            // reported when the request is converted
+            return null;
+        }
+    }
+}
@@ -0,0 +1,199 @@
+package io.kiota.http;
+
+import com.microsoft.kiota.HttpMethod;
+import com.microsoft.kiota.RequestInformation;
+import com.microsoft.kiota.RequestOption;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import java.io.ByteArrayInputStream;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Configures the retries of the requests failing with a 429 or 503 status code, or with a 504
+ * one for the idempotent methods, by a {@code RetryInterceptor} of an adapter. Set on a request, it replaces the options of the
+ * interceptor.
+ */
+public class RetryOption implements RequestOption {
+    private int maxRetries = 3;
+    private Duration delay = Duration.ofMillis(500);
+    private Duration maxDelay = Duration.ofSeconds(30);
+
+    /** Creates an option retrying 3 times, waiting from 500ms up to 30s between the retries. */
+    public RetryOption() {}
+
+    /**
+     * The maximum number of retries of a request.
+     * @return the maximum number of retries.
+     */
+    public int getMaxRetries() {
+        return maxRetries;
+    }
+
+    /**
+     * Sets the maximum number of retries of a request.
+     * @param maxRetries the maximum number of retries, 0 to disable them.
+     */
+    public void setMaxRetries(final int maxRetries) {
+        if (maxRetries < 0) {
+            throw new IllegalArgumentException("maxRetries cannot be negative");
+        }
+        this.maxRetries = maxRetries;
+    }
+
+    /**
+     * The minimum delay before a retry.
+     * @return the minimum delay.
+     */
+    @Nonnull
+    public Duration getDelay() {
+        return delay;
+    }
+
+    /**
+     * Sets the minimum delay before a retry, the delays grow with random jitter from it.
+     * @param delay the minimum delay.
+     */
+    public void setDelay(@Nonnull final Duration delay) {
+        Objects.requireNonNull(delay, "parameter delay cannot be null");
+        if (delay.isNegative()) {
+            throw new IllegalArgumentException("delay cannot be negative");
+        }
+        this.delay = delay;
+    }
+
+    /**
+     * The maximum delay before a retry.
+     * @return the maximum delay.
+     */
+    @Nonnull
+    public Duration getMaxDelay() {
+        return maxDelay;
+    }
+
+    /**
+     * Sets the maximum delay before a retry, a request isn't retried when the server asks to
+     * wait longer with a Retry-After header.
+     * @param maxDelay the maximum delay.
+     */
+    public void setMaxDelay(@Nonnull final Duration maxDelay) {
+        Objects.requireNonNull(maxDelay, "parameter maxDelay cannot be null");
+        if (maxDelay.isNegative()) {
+            throw new IllegalArgumentException("maxDelay cannot be negative");
+        }
+        this.maxDelay = maxDelay;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T extends RequestOption> Class<T> getType() {
+        return (Class<T>) RetryOption.class;
+    }
+
+    /**
+     * Returns the option set on a request.
+     * @param requestInfo the request.
+     * @param defaults the option used when none is set on the request.
+     * @return the option of the request, or the defaults.
+     */
+    @Nonnull
+    public static RetryOption of(
+            @Nonnull final RequestInformation requestInfo, @Nonnull final RetryOption defaults) {
+        for (final RequestOption option : requestInfo.getRequestOptions()) {
+            if (option instanceof RetryOption) {
+                return (RetryOption) option;
+            }
+        }
+        return defaults;
+    }
+
+    /**
+     * Whether a request can be sent again, its content is sent as is without being serialized
+     * again.
+     * @param requestInfo the request.
+     * @return true when the request has no content or an in-memory one.
+     */
+    public static boolean isReplayable(@Nonnull final RequestInformation requestInfo) {
+        return requestInfo.content == null || requestInfo.content instanceof ByteArrayInputStream;
+    }
+
+    /**
+     * Whether a response is retried. A gateway timeout doesn't tell whether the request was
+     * processed, so a 504 status code is retried only for the idempotent methods.
+     * @param requestInfo the request.
+     * @param statusCode the status code of the response.
+     * @return true for a 429 or 503 status code, or a 504 one for a GET, HEAD, PUT, DELETE or
+     * OPTIONS request.
+     */
+    public static boolean isRetried(
+            @Nonnull final RequestInformation requestInfo, final int statusCode) {
+        if (statusCode == 504) {
+            return isIdempotent(requestInfo.httpMethod);
+        }
+        return statusCode == 429 || statusCode == 503;
+    }
+
+    private static boolean isIdempotent(@Nullable final HttpMethod method) {
+        if (method == null) {
+            return false;
+        }
+        switch (method) {
+            case GET:
+            case HEAD:
+            case PUT:
+            case DELETE:
+            case OPTIONS:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Returns how long to wait before the next retry, as asked by the server or with a
+     * decorrelated jitter: a random delay between the minimum delay and three times the
+     * previous one, or the minimum delay before the first retry.
+     * @param previousMillis the previous delay in milliseconds, 0 before the first retry.
+     * @param retryAfter the Retry-After header of the response, if any.
+     * @return the delay in milliseconds, or -1 when the server asks to wait too long.
+     */
+    public long nextDelayMillis(final long previousMillis, @Nullable final String retryAfter) {
+        final long max = maxDelay.toMillis();
+        final long asked = parseRetryAfter(retryAfter);
+        if (asked >= 0) {
+            return asked <= max ? asked : -1L;
+        }
+        final long min = delay.toMillis();
+        // the first retry is jittered too, so the clients failing together don't retry together
+        final long previous = Math.max(min, previousMillis);
+        final long bound = Math.max(min, previous * 3);
+        final long jittered =
+                bound > min ? ThreadLocalRandom.current().nextLong(min, bound + 1) : min;
+        return Math.min(jittered, max);
+    }
+
+    // a number of seconds or a date, -1 when absent or invalid
+    private static long parseRetryAfter(@Nullable final String retryAfter) {
+        if (retryAfter == null || retryAfter.isBlank()) {
+            return -1L;
+        }
+        final String value = retryAfter.trim();
+        try {
+            final long seconds = Long.parseLong(value);
+            return seconds < 0 ? -1L : Duration.ofSeconds(seconds).toMillis();
+        } catch (NumberFormatException | ArithmeticException e) {
+            // not a number of seconds
+        }
+        try {
+            final ZonedDateTime date =
+                    ZonedDateTime.parse(value, DateTimeFormatter.RFC_1123_DATE_TIME);
+            return Math.max(0L, Duration.between(ZonedDateTime.now(), date).toMillis());
+        } catch (DateTimeParseException | ArithmeticException e) {
+            return -1L;
+        }
+    }
+}
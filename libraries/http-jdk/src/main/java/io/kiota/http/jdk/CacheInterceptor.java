@@ -0,0 +1,360 @@
+package io.kiota.http.jdk;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.net.http.HttpClient;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Caches the responses to the GET requests in memory, as allowed by their Cache-Control or
+ * Expires headers. Fresh responses are served without sending the request, stale ones are
+ * revalidated with If-None-Match or If-Modified-Since when they have an ETag or a
+ * Last-Modified header. The least recently used responses are evicted once the bodies exceed
+ * the size of the cache, and a response larger than a quarter of the cache isn't stored.
+ */
+public class CacheInterceptor implements Interceptor {
+    private static final String cacheControlHeaderKey = "Cache-Control";
+    private static final String varyHeaderKey = "Vary";
+    private static final String etagHeaderKey = "ETag";
+    private static final String lastModifiedHeaderKey = "Last-Modified";
+
+    private final long maxSize;
+    private final long maxEntrySize;
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long size;
+
+    /**
+     * Creates a cache.
+     * @param maxSize the maximum size of the cached bodies, in bytes.
+     */
+    public CacheInterceptor(final long maxSize) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("maxSize must be positive");
+        }
+        this.maxSize = maxSize;
+        this.maxEntrySize = Math.min(maxSize / 4, Integer.MAX_VALUE - 8);
+    }
+
+    @Override
+    @Nonnull
+    public HttpResponse<InputStream> intercept(@Nonnull final Chain chain)
+            throws IOException, InterruptedException {
+        final HttpRequest request = chain.request();
+        if (!isCacheable(request)) {
+            final HttpResponse<InputStream> response = chain.proceed(request);
+            invalidate(request, response);
+            return response;
+        }
+        final Entry cached = get(request);
+        if (cached != null && cached.isFresh() && !requiresRevalidation(request)) {
+            return cached.toResponse(request);
+        }
+        return onResponse(request, cached, chain.proceed(conditional(request, cached)));
+    }
+
+    @Override
+    @Nonnull
+    public CompletableFuture<HttpResponse<InputStream>> interceptAsync(@Nonnull final Chain chain) {
+        final HttpRequest request = chain.request();
+        if (!isCacheable(request)) {
+            return chain.proceedAsync(request)
+                    .thenApply(
+                            response -> {
+                                invalidate(request, response);
+                                return response;
+                            });
+        }
+        final Entry cached = get(request);
+        if (cached != null && cached.isFresh() && !requiresRevalidation(request)) {
+            return CompletableFuture.completedFuture(cached.toResponse(request));
+        }
+        return chain.proceedAsync(conditional(request, cached))
+                .thenApply(
+                        response -> {
+                            try {
+                                return onResponse(request, cached, response);
+                            } catch (IOException e) {
+                                throw new CompletionException(e);
+                            }
+                        });
+    }
+
+    /** Removes all the cached responses. */
+    public synchronized void clear() {
+        entries.clear();
+        size = 0L;
+    }
+
+    private static boolean isCacheable(final HttpRequest request) {
+        return request.method().equals("GET")
+                && !directives(request.headers()).containsKey("no-store");
+    }
+
+    private static boolean requiresRevalidation(final HttpRequest request) {
+        final Map<String, String> directives = directives(request.headers());
+        return directives.containsKey("no-cache") || "0".equals(directives.get("max-age"));
+    }
+
+    // the responses to the successful unsafe requests are stale
+    private void invalidate(final HttpRequest request, final HttpResponse<InputStream> response) {
+        if (!request.method().equals("HEAD")
+                && response.statusCode() >= 200
+                && response.statusCode() < 400) {
+            remove(request.uri().toString());
+        }
+    }
+
+    private static HttpRequest conditional(
+            final HttpRequest request, @Nullable final Entry cached) {
+        if (cached == null) {
+            return request;
+        }
+        final Map<String, String> validators = new HashMap<>();
+        cached.headers.firstValue(etagHeaderKey).ifPresent(v -> validators.put("If-None-Match", v));
+        cached.headers
+                .firstValue(lastModifiedHeaderKey)
+                .ifPresent(v -> validators.put("If-Modified-Since", v));
+        return validators.isEmpty()
+                ? request
+                : HttpRequestCompatibility.setHeaders(request, validators);
+    }
+
+    private HttpResponse<InputStream> onResponse(
+            final HttpRequest request,
+            @Nullable final Entry cached,
+            final HttpResponse<InputStream> response)
+            throws IOException {
+        if (response.statusCode() == 304 && cached != null) {
+            response.body().close();
+            final Entry revalidated = cached.revalidated(response.headers());
+            put(request.uri().toString(), revalidated);
+            return revalidated.toResponse(request);
+        }
+        final long freshness = response.statusCode() == 200 ? freshness(response.headers()) : -1L;
+        if (freshness < 0) {
+            return response;
+        }
+        final OptionalLong length = response.headers().firstValueAsLong("Content-Length");
+        if (length.isPresent() && length.getAsLong() > maxEntrySize) {
+            return response;
+        }
+        final InputStream body = response.body();
+        final byte[] bytes = body.readNBytes((int) maxEntrySize + 1);
+        if (bytes.length > maxEntrySize) {
+            // too large, the rest of the body is still streamed
+            return new ResponseWithBody(
+                    request,
+                    response.statusCode(),
+                    response.headers(),
+                    response.version(),
+                    new SequenceInputStream(new ByteArrayInputStream(bytes), body));
+        }
+        body.close();
+        final Entry entry =
+                new Entry(
+                        response.headers(),
+                        response.version(),
+                        bytes,
+                        System.currentTimeMillis() + freshness,
+                        varyingHeaders(request, response.headers()));
+        if (entry.varying != null) {
+            put(request.uri().toString(), entry);
+        }
+        return entry.toResponse(request);
+    }
+
+    /**
+     * How long a response is fresh.
+     * @return the freshness in milliseconds, or -1 when the response can't be cached.
+     */
+    private static long freshness(final HttpHeaders headers) {
+        final Map<String, String> directives = directives(headers);
+        if (directives.containsKey("no-store")) {
+            return -1L;
+        }
+        long freshness = 0L;
+        if (!directives.containsKey("no-cache")) {
+            final String maxAge = directives.get("max-age");
+            if (maxAge != null) {
+                freshness = parseSeconds(maxAge) * 1000L;
+            } else {
+                final ZonedDateTime expires = parseDate(headers.firstValue("Expires").orElse(null));
+                final ZonedDateTime date = parseDate(headers.firstValue("Date").orElse(null));
+                if (expires != null) {
+                    freshness =
+                            expires.toInstant().toEpochMilli()
+                                    - (date == null
+                                            ? System.currentTimeMillis()
+                                            : date.toInstant().toEpochMilli());
+                }
+            }
+            freshness -= parseSeconds(headers.firstValue("Age").orElse("0")) * 1000L;
+        }
+        final boolean validated =
+                headers.firstValue(etagHeaderKey).isPresent()
+                        || headers.firstValue(lastModifiedHeaderKey).isPresent();
+        if (freshness <= 0L) {
+            // can only be served once revalidated
+            return validated ? 0L : -1L;
+        }
+        return freshness;
+    }
+
+    // the values of the request headers the response varies on, null when it can't be matched
+    @Nullable
+    private static Map<String, List<String>> varyingHeaders(
+            final HttpRequest request, final HttpHeaders headers) {
+        final Map<String, List<String>> varying = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        for (final String vary : headers.allValues(varyHeaderKey)) {
+            for (final String name : vary.split(",")) {
+                final String trimmed = name.trim();
+                if (trimmed.equals("*")) {
+                    return null;
+                }
+                if (!trimmed.isEmpty()) {
+                    varying.put(trimmed, request.headers().allValues(trimmed));
+                }
+            }
+        }
+        return varying;
+    }
+
+    private static Map<String, String> directives(final HttpHeaders headers) {
+        final Map<String, String> directives = new HashMap<>();
+        for (final String value : headers.allValues(cacheControlHeaderKey)) {
+            for (final String directive : value.split(",")) {
+                final int equals = directive.indexOf('=');
+                if (equals < 0) {
+                    directives.put(directive.trim().toLowerCase(Locale.ROOT), "");
+                } else {
+                    directives.put(
+                            directive.substring(0, equals).trim().toLowerCase(Locale.ROOT),
+                            directive.substring(equals + 1).trim().replace("\"", ""));
+                }
+            }
+        }
+        return directives;
+    }
+
+    private static long parseSeconds(final String value) {
+        try {
+            return Math.max(0L, Long.parseLong(value.trim()));
+        } catch (NumberFormatException e) {
+            return 0L;
+        }
+    }
+
+    @Nullable
+    private static ZonedDateTime parseDate(@Nullable final String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return ZonedDateTime.parse(value.trim(), DateTimeFormatter.RFC_1123_DATE_TIME);
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    @Nullable
+    private synchronized Entry get(final HttpRequest request) {
+        final Entry entry = entries.get(request.uri().toString());
+        return entry != null && entry.matches(request) ? entry : null;
+    }
+
+    private synchronized void put(final String key, final Entry entry) {
+        final Entry previous = entries.put(key, entry);
+        if (previous != null) {
+            size -= previous.body.length;
+        }
+        size += entry.body.length;
+        final Iterator<Entry> eldest = entries.values().iterator();
+        while (size > maxSize && eldest.hasNext()) {
+            size -= eldest.next().body.length;
+            eldest.remove();
+        }
+    }
+
+    private synchronized void remove(final String key) {
+        final Entry previous = entries.remove(key);
+        if (previous != null) {
+            size -= previous.body.length;
+        }
+    }
+
+    private static final class Entry {
+        private final HttpHeaders headers;
+        private final HttpClient.Version version;
+        private final byte[] body;
+        private final long freshUntil;
+        @Nullable private final Map<String, List<String>> varying;
+
+        private Entry(
+                final HttpHeaders headers,
+                final HttpClient.Version version,
+                final byte[] body,
+                final long freshUntil,
+                @Nullable final Map<String, List<String>> varying) {
+            this.headers = headers;
+            this.version = version;
+            this.body = body;
+            this.freshUntil = freshUntil;
+            this.varying = varying;
+        }
+
+        private boolean isFresh() {
+            return System.currentTimeMillis() < freshUntil;
+        }
+
+        private boolean matches(final HttpRequest request) {
+            for (final Map.Entry<String, List<String>> header : varying.entrySet()) {
+                if (!request.headers().allValues(header.getKey()).equals(header.getValue())) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        // the headers of the 304 response replace the cached ones
+        private Entry revalidated(final HttpHeaders notModified) {
+            final Map<String, List<String>> merged = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+            merged.putAll(headers.map());
+            for (final Map.Entry<String, List<String>> header : notModified.map().entrySet()) {
+                if (!header.getKey().equalsIgnoreCase("Content-Length")) {
+                    merged.put(header.getKey(), header.getValue());
+                }
+            }
+            final HttpHeaders revalidated = HttpHeaders.of(merged, (name, value) -> true);
+            return new Entry(
+                    revalidated,
+                    version,
+                    body,
+                    System.currentTimeMillis() + Math.max(0L, freshness(revalidated)),
+                    varying);
+        }
+
+        private HttpResponse<InputStream> toResponse(final HttpRequest request) {
+            return new ResponseWithBody(
+                    request, 200, headers, version, new ByteArrayInputStream(body));
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package io.kiota.http.jdk;
+
+import jakarta.annotation.Nonnull;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Sends the identical GET and HEAD requests made concurrently only once, the callers waiting
+ * for the same response. Requests are identical when they have the same URI and headers, so
+ * the response can't vary between them. The body of a response shared with other callers is
+ * received in memory, each caller reads its own copy of it. When no other caller waits for it,
+ * the response is returned as is, e.g. its body streamed.
+ */
+public class CoalescingInterceptor implements Interceptor {
+    private final ConcurrentHashMap<String, InFlight> inFlight = new ConcurrentHashMap<>();
+
+    @Override
+    @Nonnull
+    public HttpResponse<InputStream> intercept(@Nonnull final Chain chain)
+            throws IOException, InterruptedException {
+        final HttpRequest request = chain.request();
+        if (!isCoalesced(chain)) {
+            return chain.proceed(request);
+        }
+        final String key = key(request);
+        final InFlight created = new InFlight();
+        final InFlight joined = join(key, created);
+        if (joined != created) {
+            try {
+                return joined.received.get().toResponse(request);
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) e.getCause();
+                }
+                throw new IOException(e.getCause());
+            }
+        }
+        final HttpResponse<InputStream> response;
+        try {
+            response = chain.proceed(request);
+        } catch (IOException | InterruptedException | RuntimeException e) {
+            inFlight.remove(key, created);
+            created.received.completeExceptionally(e);
+            throw e;
+        }
+        // the requests made from now on are sent again, no other caller can join
+        inFlight.remove(key, created);
+        if (created.callers.get() == 1) {
+            return response;
+        }
+        final Received received;
+        try (InputStream body = response.body()) {
+            received = new Received(response, body.readAllBytes());
+        } catch (IOException | RuntimeException e) {
+            created.received.completeExceptionally(e);
+            throw e;
+        }
+        created.received.complete(received);
+        return received.toResponse(request);
+    }
+
+    @Override
+    @Nonnull
+    public CompletableFuture<HttpResponse<InputStream>> interceptAsync(@Nonnull final Chain chain) {
+        final HttpRequest request = chain.request();
+        if (!isCoalesced(chain)) {
+            return chain.proceedAsync(request);
+        }
+        final String key = key(request);
+        final InFlight created = new InFlight();
+        final InFlight joined = join(key, created);
+        if (joined != created) {
+            return joined.received.thenApply(received -> received.toResponse(request));
+        }
+        return chain.proceedAsync(request)
+                .handle(
+                        (response, failure) -> {
+                            inFlight.remove(key, created);
+                            if (failure != null) {
+                                created.received.completeExceptionally(failure);
+                                throw failure instanceof CompletionException
+                                        ? (CompletionException) failure
+                                        : new CompletionException(failure);
+                            }
+                            if (created.callers.get() == 1) {
+                                return response;
+                            }
+                            final Received received;
+                            try (InputStream body = response.body()) {
+                                // already received
+                                received = new Received(response, body.readAllBytes());
+                            } catch (IOException | RuntimeException e) {
+                                created.received.completeExceptionally(e);
+                                throw e instanceof CompletionException
+                                        ? (CompletionException) e
+                                        : new CompletionException(e);
+                            }
+                            created.received.complete(received);
+                            return received.toResponse(request);
+                        });
+    }
+
+    // the request in flight with the key, created unless another caller sent it already
+    private InFlight join(final String key, final InFlight created) {
+        return inFlight.compute(
+                key,
+                (k, existing) -> {
+                    if (existing == null) {
+                        return created;
+                    }
+                    // counted atomically with its removal, once the response is received
+                    existing.callers.incrementAndGet();
+                    return existing;
+                });
+    }
+
+    private static boolean isCoalesced(final Chain chain) {
+        final String method = chain.request().method();
+        return (method.equals("GET") || method.equals("HEAD"))
+                && chain.requestInformation().content == null;
+    }
+
+    // the header names of the request are sorted and case insensitive
+    private static String key(final HttpRequest request) {
+        return request.method() + " " + request.uri() + " " + request.headers().map();
+    }
+
+    private static final class InFlight {
+        private final CompletableFuture<Received> received = new CompletableFuture<>();
+        private final AtomicInteger callers = new AtomicInteger(1);
+    }
+
+    private static final class Received {
+        private final HttpResponse<InputStream> response;
+        private final byte[] body;
+
+        private Received(final HttpResponse<InputStream> response, final byte[] body) {
+            this.response = response;
+            this.body = body;
+        }
+
+        private HttpResponse<InputStream> toResponse(final HttpRequest request) {
+            return new ResponseWithBody(
+                    request,
+                    response.statusCode(),
+                    response.headers(),
+                    response.version(),
+                    new ByteArrayInputStream(body));
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package io.kiota.http.jdk;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PushbackInputStream;
+import java.net.http.HttpResponse;
+import java.util.Locale;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Decodes the gzip and deflate compressed response bodies while they are read, the JDK client
+ * returns them as received.
+ */
+final class ContentDecoding {
+    static final String acceptEncodingHeaderKey = "Accept-Encoding";
+    static final String acceptedEncodings = "gzip, deflate";
+    private static final String contentEncodingHeaderKey = "Content-Encoding";
+
+    private ContentDecoding() {}
+
+    static HttpResponse.BodyHandler<InputStream> decoding(
+            final HttpResponse.BodyHandler<InputStream> handler) {
+        return info -> {
+            final String encoding =
+                    info.headers()
+                            .firstValue(contentEncodingHeaderKey)
+                            .map(value -> value.trim().toLowerCase(Locale.ROOT))
+                            .orElse("identity");
+            switch (encoding) {
+                case "gzip":
+                case "x-gzip":
+                case "deflate":
+                    return HttpResponse.BodySubscribers.mapping(
+                            handler.apply(info), body -> new DecodingInputStream(body, encoding));
+                default:
+                    return handler.apply(info);
+            }
+        };
+    }
+
+    // the decoder reads the header of the body, it is created on the first read so that the
+    // client never blocks on it
+    private static final class DecodingInputStream extends InputStream {
+        private final InputStream encoded;
+        private final String encoding;
+        private InputStream decoded;
+
+        DecodingInputStream(final InputStream encoded, final String encoding) {
+            this.encoded = encoded;
+            this.encoding = encoding;
+        }
+
+        private InputStream decoded() throws IOException {
+            if (decoded == null) {
+                final PushbackInputStream body = new PushbackInputStream(encoded, 1);
+                final int first = body.read();
+                if (first < 0) {
+                    // nothing to decode, e.g. the response to a HEAD request
+                    decoded = InputStream.nullInputStream();
+                } else {
+                    body.unread(first);
+                    decoded =
+                            encoding.equals("deflate")
+                                    ? new InflaterInputStream(body)
+                                    : new GZIPInputStream(body, 8192);
+                }
+            }
+            return decoded;
+        }
+
+        @Override
+        public int read() throws IOException {
+            return decoded().read();
+        }
+
+        @Override
+        public int read(final byte[] b, final int off, final int len) throws IOException {
+            return decoded().read(b, off, len);
+        }
+
+        @Override
+        public int available() throws IOException {
+            return decoded == null ? 0 : decoded.available();
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (decoded != null) {
+                decoded.close();
+            }
+            encoded.close();
+        }
+    }
+}
@@ -1,29 +1,57 @@
 package io.kiota.http.jdk;
 
-import java.io.IOException;
+import io.kiota.http.GzipCompressingInputStream;
+import io.kiota.http.JsonCompatibility;
+import io.kiota.http.RequestCompressionOption;
+import io.kiota.http.RequestTracing;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
 import java.net.URISyntaxException;
 import java.net.http.HttpRequest;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
 
 public class HttpRequestCompatibility {
+    private static final String contentEncodingHeaderKey = "Content-Encoding";
+
     private HttpRequestCompatibility() {}
 
     public static HttpRequest convert(com.microsoft.kiota.RequestInformation requestInfo) {
+        return convert(requestInfo, null);
+    }
+
+    /**
+     * Converts the request information to a request of the JDK client.
+     * @param requestInfo the request to convert.
+     * @param timeout how long to wait for the response, no limit when null.
+     * @return the request to send.
+     */
+    public static HttpRequest convert(
+            com.microsoft.kiota.RequestInformation requestInfo, Duration timeout) {
+        return convert(requestInfo, timeout, null);
+    }
+
+    // the tracing propagates the current span, when enabled
+    static HttpRequest convert(
+            final com.microsoft.kiota.RequestInformation requestInfo,
+            final Duration timeout,
+            final RequestTracing tracing) {
+        final boolean compressed =
+                requestInfo.content != null
+                        && RequestCompressionOption.isEnabled(requestInfo)
+                        && !requestInfo.headers.containsKey(contentEncodingHeaderKey);
         final HttpRequest.BodyPublisher body;
         if (requestInfo.content == null) {
             body = HttpRequest.BodyPublishers.noBody();
+        } else if (compressed) {
+            body = getCompressedBodyPublisher(requestInfo.content);
         } else {
-            try {
-                final byte[] contentBytes = requestInfo.content.readAllBytes();
-                if (contentBytes.length == 0) {
-                    body = HttpRequest.BodyPublishers.noBody();
-                } else {
-                    body = HttpRequest.BodyPublishers.ofByteArray(contentBytes);
-                }
-            } catch (IOException e) {
-                throw new RuntimeException(e);
-            }
+            body = getBodyPublisher(requestInfo.content);
         }
         final HttpRequest.Builder requestBuilder;
         try {
@@ -35,6 +63,10 @@ public class HttpRequestCompatibility {
             throw new RuntimeException(e);
         }
 
+        if (timeout != null) {
+            requestBuilder.timeout(timeout);
+        }
+
         if (requestInfo.headers != null) {
             for (final Map.Entry<String, Set<String>> headerEntry :
                     requestInfo.headers.entrySet()) {
@@ -43,7 +75,100 @@ public class HttpRequestCompatibility {
                 }
             }
         }
+        if (tracing != null) {
+            tracing.inject(
+                    requestInfo.headers == null ? Set.of() : requestInfo.headers.keySet(),
+                    requestBuilder::setHeader);
+        }
+        if (compressed) {
+            requestBuilder.setHeader(contentEncodingHeaderKey, "gzip");
+        }
 
         return requestBuilder.build();
     }
+
+    /**
+     * Copies a request, setting headers.
+     * @param request the request to copy.
+     * @param headers the headers to set, replacing the ones of the request.
+     * @return the copy.
+     */
+    public static HttpRequest setHeaders(
+            final HttpRequest request, final Map<String, String> headers) {
+        final HttpRequest.Builder requestBuilder =
+                HttpRequest.newBuilder(request.uri())
+                        .method(
+                                request.method(),
+                                request.bodyPublisher()
+                                        .orElseGet(HttpRequest.BodyPublishers::noBody))
+                        .expectContinue(request.expectContinue());
+        request.timeout().ifPresent(requestBuilder::timeout);
+        request.version().ifPresent(requestBuilder::version);
+        for (final Map.Entry<String, List<String>> header : request.headers().map().entrySet()) {
+            if (headers.keySet().stream().noneMatch(header.getKey()::equalsIgnoreCase)) {
+                for (final String value : header.getValue()) {
+                    requestBuilder.header(header.getKey(), value);
+                }
+            }
+        }
+        headers.forEach(requestBuilder::setHeader);
+        return requestBuilder.build();
+    }
+
+    // the content is pulled by the client while sending, instead of being copied upfront,
+    // only the in memory content can be sent again (e.g. when a redirect is followed)
+    private static HttpRequest.BodyPublisher getBodyPublisher(final InputStream content) {
+        final ByteBuffer serialized = JsonCompatibility.getSerializedContent(content);
+        if (serialized != null) {
+            // produced by the Json writer, its buffer is sent as is
+            if (!serialized.hasRemaining()) {
+                return HttpRequest.BodyPublishers.noBody();
+            }
+            return HttpRequest.BodyPublishers.ofByteArray(
+                    serialized.array(),
+                    serialized.arrayOffset() + serialized.position(),
+                    serialized.remaining());
+        } else if (content instanceof ByteArrayInputStream) {
+            // in memory, read once so that each send (e.g. a retry) has its own view of it
+            final byte[] bytes = ((ByteArrayInputStream) content).readAllBytes();
+            if (bytes.length == 0) {
+                return HttpRequest.BodyPublishers.noBody();
+            }
+            return HttpRequest.BodyPublishers.ofByteArray(bytes);
+        }
+        return HttpRequest.BodyPublishers.ofInputStream(once(content));
+    }
+
+    // compressed while sending, the length isn't known upfront
+    private static HttpRequest.BodyPublisher getCompressedBodyPublisher(final InputStream content) {
+        final ByteBuffer serialized = JsonCompatibility.getSerializedContent(content);
+        final Supplier<InputStream> source;
+        if (serialized != null) {
+            source =
+                    () ->
+                            new ByteArrayInputStream(
+                                    serialized.array(),
+                                    serialized.arrayOffset() + serialized.position(),
+                                    serialized.remaining());
+        } else if (content instanceof ByteArrayInputStream) {
+            final byte[] bytes = ((ByteArrayInputStream) content).readAllBytes();
+            source = () -> new ByteArrayInputStream(bytes);
+        } else {
+            source = once(content);
+        }
+        return HttpRequest.BodyPublishers.ofInputStream(
+                () -> new GzipCompressingInputStream(source.get()));
+    }
+
+    // a stream is read once, sending it again fails rather than sending what is left of it
+    private static Supplier<InputStream> once(final InputStream content) {
+        final AtomicBoolean supplied = new AtomicBoolean();
+        return () -> {
+            if (!supplied.compareAndSet(false, true)) {
+                throw new IllegalStateException(
+                        "the content of the request is a stream, it can't be sent again");
+            }
+            return content;
+        };
+    }
 }
@@ -0,0 +1,80 @@
+package io.kiota.http.jdk;
+
+import com.microsoft.kiota.RequestInformation;
+import jakarta.annotation.Nonnull;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Observes, modifies or short-circuits the requests sent by a {@link JDKRequestAdapter}, and
+ * their responses. The interceptors added to an adapter are called in order, the first one
+ * being the closest to the caller and the last one calling the client.
+ */
+public interface Interceptor {
+
+    /**
+     * Sends a request of the blocking methods of the adapter, usually by calling {@link
+     * Chain#proceed}. The body of the response is streamed, it must be closed when an
+     * interceptor discards the response.
+     * @param chain the request and the rest of the chain.
+     * @return the response.
+     * @throws IOException when the request could not be sent.
+     * @throws InterruptedException when the thread has been interrupted.
+     */
+    @Nonnull
+    HttpResponse<InputStream> intercept(@Nonnull Chain chain)
+            throws IOException, InterruptedException;
+
+    /**
+     * Sends a request of the async methods of the adapter, usually by calling {@link
+     * Chain#proceedAsync}, without blocking the calling thread. The body of the response has
+     * been received in memory.
+     * @param chain the request and the rest of the chain.
+     * @return the response.
+     */
+    @Nonnull
+    CompletableFuture<HttpResponse<InputStream>> interceptAsync(@Nonnull Chain chain);
+
+    /** The request being sent, and the interceptors after the current one. */
+    interface Chain {
+
+        /**
+         * The request, as converted from the request information or given by the previous
+         * interceptor.
+         * @return the request.
+         */
+        @Nonnull
+        HttpRequest request();
+
+        /**
+         * The request information the request has been converted from, its options can
+         * configure the interceptors.
+         * @return the request information.
+         */
+        @Nonnull
+        RequestInformation requestInformation();
+
+        /**
+         * Sends the request to the next interceptor, or to the client for the last one. A
+         * request can be sent more than once, e.g. to retry it.
+         * @param request the request to send.
+         * @return the response.
+         * @throws IOException when the request could not be sent.
+         * @throws InterruptedException when the thread has been interrupted.
+         */
+        @Nonnull
+        HttpResponse<InputStream> proceed(@Nonnull HttpRequest request)
+                throws IOException, InterruptedException;
+
+        /**
+         * Like {@link #proceed} but doesn't block.
+         * @param request the request to send.
+         * @return the response.
+         */
+        @Nonnull
+        CompletableFuture<HttpResponse<InputStream>> proceedAsync(@Nonnull HttpRequest request);
+    }
+}
@@ -20,30 +20,57 @@ import com.microsoft.kiota.serialization.SerializationWriterFactoryRegistry;
 import com.microsoft.kiota.serialization.ValuedEnumParser;
 import com.microsoft.kiota.store.BackingStoreFactory;
 import com.microsoft.kiota.store.BackingStoreFactorySingleton;
+import io.kiota.http.JsonCompatibility;
+import io.kiota.http.ParsableCache;
+import io.kiota.http.RequestObserver;
+import io.kiota.http.RequestTracing;
+import io.opentelemetry.api.OpenTelemetry;
 import jakarta.annotation.Nonnull;
 import jakarta.annotation.Nullable;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.math.BigDecimal;
 import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalTime;
 import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Objects;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 /** RequestAdapter implementation for VertX */
 public class JDKRequestAdapter implements RequestAdapter {
+    private static final String instrumentationName = "io.kiota.http.jdk";
     private static final String contentTypeHeaderKey = "Content-Type";
+    private static final String etagHeaderKey = "ETag";
     @Nonnull private final HttpClient client;
+    @Nonnull private final Executor asyncExecutor;
+    @Nullable private final Duration requestTimeout;
+    private final boolean decompressionSupported;
+    @Nonnull private final HttpResponse.BodyHandler<InputStream> streamedBody;
+    @Nonnull private final HttpResponse.BodyHandler<InputStream> receivedBody;
     @Nonnull private ParseNodeFactory pNodeFactory;
     @Nonnull private SerializationWriterFactory sWriterFactory;
     @Nonnull private String baseUrl = "";
+    @Nonnull private volatile Interceptor[] interceptors = new Interceptor[0];
+    @Nullable private volatile ParsableCache parsableCache;
+    @Nullable private volatile RequestObserver requestObserver;
+    @Nullable private volatile RequestTracing tracing;
 
     public void setBaseUrl(@Nonnull final String baseUrl) {
         this.baseUrl = Objects.requireNonNull(baseUrl);
@@ -71,11 +98,54 @@ public class JDKRequestAdapter implements RequestAdapter {
             @Nullable final HttpClient client,
             @Nullable final ParseNodeFactory parseNodeFactory,
             @Nullable final SerializationWriterFactory serializationWriterFactory) {
+        this(client, parseNodeFactory, serializationWriterFactory, null);
+    }
+
+    /**
+     * Creates a new adapter
+     * @param client the client sending the requests, a default one when null (using virtual
+     *     threads on Java 21 and later).
+     * @param parseNodeFactory the factory of the parse nodes, the default registry when null.
+     * @param serializationWriterFactory the factory of the serialization writers, the default
+     *     registry when null.
+     * @param asyncExecutor runs the deserialization of the responses of the async methods,
+     *     the executor of the client or the common pool (virtual threads on Java 21 and later)
+     *     when null.
+     */
+    public JDKRequestAdapter(
+            @Nullable final HttpClient client,
+            @Nullable final ParseNodeFactory parseNodeFactory,
+            @Nullable final SerializationWriterFactory serializationWriterFactory,
+            @Nullable final Executor asyncExecutor) {
+        this(client, parseNodeFactory, serializationWriterFactory, asyncExecutor, null, false);
+    }
+
+    private JDKRequestAdapter(
+            @Nullable final HttpClient client,
+            @Nullable final ParseNodeFactory parseNodeFactory,
+            @Nullable final SerializationWriterFactory serializationWriterFactory,
+            @Nullable final Executor asyncExecutor,
+            @Nullable final Duration requestTimeout,
+            final boolean decompressionSupported) {
         if (client == null) {
-            this.client = HttpClient.newHttpClient();
+            this.client = ThreadingCompatibility.newHttpClientBuilder().build();
         } else {
             this.client = client;
         }
+        this.requestTimeout = requestTimeout;
+        this.decompressionSupported = decompressionSupported;
+        if (decompressionSupported) {
+            this.streamedBody = ContentDecoding.decoding(HttpResponse.BodyHandlers.ofInputStream());
+            this.receivedBody = ContentDecoding.decoding(receivedBytes);
+        } else {
+            this.streamedBody = HttpResponse.BodyHandlers.ofInputStream();
+            this.receivedBody = receivedBytes;
+        }
+        if (asyncExecutor == null) {
+            this.asyncExecutor = ThreadingCompatibility.defaultAsyncExecutor(this.client);
+        } else {
+            this.asyncExecutor = asyncExecutor;
+        }
         if (parseNodeFactory == null) {
             pNodeFactory = ParseNodeFactoryRegistry.defaultInstance;
         } else {
@@ -94,6 +164,50 @@ public class JDKRequestAdapter implements RequestAdapter {
         return sWriterFactory;
     }
 
+    /**
+     * Adds an interceptor of the requests, called after the interceptors already added.
+     * @param interceptor the interceptor.
+     */
+    public void addInterceptor(@Nonnull final Interceptor interceptor) {
+        Objects.requireNonNull(interceptor, "parameter interceptor cannot be null");
+        synchronized (this) {
+            final Interceptor[] added = Arrays.copyOf(interceptors, interceptors.length + 1);
+            added[interceptors.length] = interceptor;
+            interceptors = added;
+        }
+    }
+
+    /**
+     * Sets the cache of the objects deserialized from the responses having an ETag, the
+     * responses with the same ETag aren't parsed again.
+     * @param parsableCache the cache, or null to stop caching.
+     */
+    public void setParsableCache(@Nullable final ParsableCache parsableCache) {
+        this.parsableCache = parsableCache;
+    }
+
+    /**
+     * Sets the observer of how long the phases of the requests take.
+     * @param requestObserver the observer, or null to stop observing.
+     */
+    public void setRequestObserver(@Nullable final RequestObserver requestObserver) {
+        this.requestObserver = requestObserver;
+    }
+
+    /**
+     * Traces the requests with OpenTelemetry: a client span per request and a child span per
+     * phase (see {@link RequestObserver}). The span of a traced request is propagated with the
+     * propagators of the OpenTelemetry instance, e.g. the W3C traceparent header, no header is
+     * added when the requests aren't traced.
+     * @param openTelemetry the instance creating the spans, or null to stop tracing.
+     */
+    public void setOpenTelemetry(@Nullable final OpenTelemetry openTelemetry) {
+        this.tracing =
+                openTelemetry == null
+                        ? null
+                        : new RequestTracing(openTelemetry, instrumentationName);
+    }
+
     public void enableBackingStore(@Nullable final BackingStoreFactory backingStoreFactory) {
         this.pNodeFactory =
                 Objects.requireNonNull(
@@ -119,19 +233,122 @@ public class JDKRequestAdapter implements RequestAdapter {
         Objects.requireNonNull(requestInfo, nullRequestInfoParameter);
         Objects.requireNonNull(factory, nullFactoryParameter);
 
-        HttpResponse response = this.getHttpResponseMessage(requestInfo);
+        return traced(
+                requestInfo,
+                () ->
+                        handleCollection(
+                                this.getHttpResponseMessage(requestInfo),
+                                requestInfo,
+                                getResponseHandler(requestInfo),
+                                errorMappings,
+                                factory));
+    }
+
+    /**
+     * Like {@link #sendCollection} but doesn't block, the response is deserialized on the async
+     * executor.
+     */
+    @Nonnull
+    public <ModelType extends Parsable> CompletableFuture<List<ModelType>> sendCollectionAsync(
+            @Nonnull final RequestInformation requestInfo,
+            @Nullable final HashMap<String, ParsableFactory<? extends Parsable>> errorMappings,
+            @Nonnull final ParsableFactory<ModelType> factory) {
+        Objects.requireNonNull(requestInfo, nullRequestInfoParameter);
+        Objects.requireNonNull(factory, nullFactoryParameter);
+
         final ResponseHandler responseHandler = getResponseHandler(requestInfo);
+        return tracedAsync(
+                requestInfo,
+                () ->
+                        this.getHttpResponseMessageAsync(requestInfo)
+                                .thenApplyAsync(
+                                        response ->
+                                                handleCollection(
+                                                        response,
+                                                        requestInfo,
+                                                        responseHandler,
+                                                        errorMappings,
+                                                        factory),
+                                        currentExecutor()));
+    }
+
+    private <ModelType extends Parsable> List<ModelType> handleCollection(
+            @Nonnull final HttpResponse response,
+            @Nonnull final RequestInformation requestInfo,
+            @Nullable final ResponseHandler responseHandler,
+            @Nullable final HashMap<String, ParsableFactory<? extends Parsable>> errorMappings,
+            @Nonnull final ParsableFactory<ModelType> factory) {
         if (responseHandler == null) {
-            this.throwIfFailedResponse(response, errorMappings);
+            this.throwIfFailedResponse(response, requestInfo, errorMappings);
             if (this.shouldReturnNull(response)) {
                 return null;
             }
-            final ParseNode rootNode = getRootParseNode(response);
+            final long start = System.nanoTime();
+            try {
+                final ParseNode rootNode = getRootParseNode(response);
+                if (rootNode == null) {
+                    return null;
+                }
+                final List<ModelType> result = rootNode.getCollectionOfObjectValues(factory);
+                return result;
+            } finally {
+                closeBody(response);
+                observe(requestInfo, RequestObserver.DESERIALIZE, response.statusCode(), start);
+            }
+        } else {
+            return responseHandler.handleResponse(response, errorMappings);
+        }
+    }
+
+    /**
+     * Like {@link #sendCollection} but returns the elements lazily, as they are deserialized.
+     * The stream should be closed if it's not fully consumed.
+     */
+    @Nonnull
+    public <ModelType extends Parsable> Stream<ModelType> sendCollectionStream(
+            @Nonnull final RequestInformation requestInfo,
+            @Nullable final HashMap<String, ParsableFactory<? extends Parsable>> errorMappings,
+            @Nonnull final ParsableFactory<ModelType> factory) {
+        Objects.requireNonNull(requestInfo, nullRequestInfoParameter);
+        Objects.requireNonNull(factory, nullFactoryParameter);
+
+        return traced(requestInfo, () -> streamCollection(requestInfo, errorMappings, factory));
+    }
+
+    private <ModelType extends Parsable> Stream<ModelType> streamCollection(
+            @Nonnull final RequestInformation requestInfo,
+            @Nullable final HashMap<String, ParsableFactory<? extends Parsable>> errorMappings,
+            @Nonnull final ParsableFactory<ModelType> factory) {
+        HttpResponse response = this.getHttpResponseMessage(requestInfo);
+        final ResponseHandler responseHandler = getResponseHandler(requestInfo);
+        if (responseHandler == null) {
+            this.throwIfFailedResponse(response, requestInfo, errorMappings);
+            if (this.shouldReturnNull(response)) {
+                return Stream.empty();
+            }
+            final long start = System.nanoTime();
+            // the elements are deserialized as the stream is consumed
+            final Runnable done =
+                    () -> {
+                        closeBody(response);
+                        observe(
+                                requestInfo,
+                                RequestObserver.DESERIALIZE,
+                                response.statusCode(),
+                                start);
+                    };
+            final ParseNode rootNode;
+            try {
+                rootNode = getRootParseNode(response);
+            } catch (RuntimeException e) {
+                done.run();
+                throw e;
+            }
             if (rootNode == null) {
-                return null;
+                done.run();
+                return Stream.empty();
             }
-            final List<ModelType> result = rootNode.getCollectionOfObjectValues(factory);
-            return result;
+            return JsonCompatibility.streamCollectionOfObjectValues(rootNode, factory, done);
         } else {
             return responseHandler.handleResponse(response, errorMappings);
         }
@@ -156,19 +373,144 @@ public class JDKRequestAdapter implements RequestAdapter {
         Objects.requireNonNull(requestInfo, nullRequestInfoParameter);
         Objects.requireNonNull(factory, nullFactoryParameter);
 
-        HttpResponse response = this.getHttpResponseMessage(requestInfo);
+        return traced(
+                requestInfo,
+                () ->
+                        handleObject(
+                                this.getHttpResponseMessage(requestInfo),
+                                requestInfo,
+                                getResponseHandler(requestInfo),
+                                errorMappings,
+                                factory));
+    }
+
+    /**
+     * Like {@link #send} but doesn't block, the response is deserialized on the async executor.
+     */
+    @Nonnull
+    public <ModelType extends Parsable> CompletableFuture<ModelType> sendAsync(
+            @Nonnull final RequestInformation requestInfo,
+            @Nullable final HashMap<String, ParsableFactory<? extends Parsable>> errorMappings,
+            @Nonnull final ParsableFactory<ModelType> factory) {
+        Objects.requireNonNull(requestInfo, nullRequestInfoParameter);
+        Objects.requireNonNull(factory, nullFactoryParameter);
+
         final ResponseHandler responseHandler = getResponseHandler(requestInfo);
+        return tracedAsync(
+                requestInfo,
+                () ->
+                        this.getHttpResponseMessageAsync(requestInfo)
+                                .thenApplyAsync(
+                                        response ->
+                                                handleObject(
+                                                        response,
+                                                        requestInfo,
+                                                        responseHandler,
+                                                        errorMappings,
+                                                        factory),
+                                        currentExecutor()));
+    }
+
+    /**
+     * Sends independent requests concurrently, keeping at most maxInFlight of them in flight.
+     * Requests to the same host share a connection when the client negotiates HTTP/2.
+     * No new request is sent once one failed, its error is thrown when the requests in flight
+     * are completed.
+     * @param requests the requests to send.
+     * @param errorMappings the error factories mapping to use in case of a failed request.
+     * @param factory the factory to create the parsable objects.
+     * @param maxInFlight the maximum number of requests waiting for their response.
+     * @return the deserialized responses, in the order of the requests.
+     */
+    @Nonnull
+    public <ModelType extends Parsable> List<ModelType> sendBatch(
+            @Nonnull final List<RequestInformation> requests,
+            @Nullable final HashMap<String, ParsableFactory<? extends Parsable>> errorMappings,
+            @Nonnull final ParsableFactory<ModelType> factory,
+            final int maxInFlight) {
+        Objects.requireNonNull(requests, "parameter requests cannot be null");
+        Objects.requireNonNull(factory, nullFactoryParameter);
+        if (maxInFlight <= 0) {
+            throw new IllegalArgumentException("maxInFlight must be positive");
+        }
+
+        final Semaphore window = new Semaphore(maxInFlight);
+        final AtomicBoolean failed = new AtomicBoolean();
+        final List<CompletableFuture<ModelType>> responses = new ArrayList<>(requests.size());
+        try {
+            for (final RequestInformation requestInfo : requests) {
+                window.acquire();
+                if (failed.get()) {
+                    break;
+                }
+                final CompletableFuture<ModelType> response =
+                        sendAsync(requestInfo, errorMappings, factory);
+                responses.add(response);
+                response.whenComplete(
+                        (result, failure) -> {
+                            if (failure != null) {
+                                failed.set(true);
+                            }
+                            window.release();
+                        });
+            }
+        } catch (InterruptedException e) {
+            responses.forEach(response -> response.cancel(true));
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        }
+
+        final List<ModelType> results = new ArrayList<>(responses.size());
+        for (final CompletableFuture<ModelType> response : responses) {
+            try {
+                results.add(response.join());
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) e.getCause();
+                }
+                throw e;
+            }
+        }
+        return results;
+    }
+
+    private <ModelType extends Parsable> ModelType handleObject(
+            @Nonnull final HttpResponse<InputStream> response,
+            @Nonnull final RequestInformation requestInfo,
+            @Nullable final ResponseHandler responseHandler,
+            @Nullable final HashMap<String, ParsableFactory<? extends Parsable>> errorMappings,
+            @Nonnull final ParsableFactory<ModelType> factory) {
         if (responseHandler == null) {
-            this.throwIfFailedResponse(response, errorMappings);
+            this.throwIfFailedResponse(response, requestInfo, errorMappings);
             if (this.shouldReturnNull(response)) {
                 return null;
             }
-            final ParseNode rootNode = getRootParseNode(response);
-            if (rootNode == null) {
-                return null;
+            final long start = System.nanoTime();
+            try {
+                final ParsableCache cache = parsableCache;
+                final String etag =
+                        cache == null
+                                ? null
+                                : response.headers().firstValue(etagHeaderKey).orElse(null);
+                if (etag != null) {
+                    final ModelType cached = cache.get(response.uri().toString(), etag, factory);
+                    if (cached != null) {
+                        return cached;
+                    }
+                }
+                final ParseNode rootNode = getRootParseNode(response);
+                if (rootNode == null) {
+                    return null;
+                }
+                final ModelType result = rootNode.getObjectValue(factory);
+                if (etag != null && result != null) {
+                    cache.put(response.uri().toString(), etag, factory, result);
+                }
+                return result;
+            } finally {
+                closeBody(response);
+                observe(requestInfo, RequestObserver.DESERIALIZE, response.statusCode(), start);
             }
-            final ModelType result = rootNode.getObjectValue(factory);
-            return result;
         } else {
             return responseHandler.handleResponse(response, errorMappings);
         }
@@ -182,59 +524,110 @@ public class JDKRequestAdapter implements RequestAdapter {
         Objects.requireNonNull(requestInfo, nullRequestInfoParameter);
         Objects.requireNonNull(targetClass, "parameter targetClass cannot be null");
 
-        HttpResponse response = this.getHttpResponseMessage(requestInfo);
+        return traced(
+                requestInfo,
+                () ->
+                        handlePrimitive(
+                                this.getHttpResponseMessage(requestInfo),
+                                requestInfo,
+                                getResponseHandler(requestInfo),
+                                errorMappings,
+                                targetClass));
+    }
+
+    /**
+     * Like {@link #sendPrimitive} but doesn't block, the response is deserialized on the async
+     * executor. An InputStream is read from the received body, it is not streamed.
+     */
+    @Nonnull
+    public <ModelType> CompletableFuture<ModelType> sendPrimitiveAsync(
+            @Nonnull final RequestInformation requestInfo,
+            @Nullable final HashMap<String, ParsableFactory<? extends Parsable>> errorMappings,
+            @Nonnull final Class<ModelType> targetClass) {
+        Objects.requireNonNull(requestInfo, nullRequestInfoParameter);
+        Objects.requireNonNull(targetClass, "parameter targetClass cannot be null");
+
         final ResponseHandler responseHandler = getResponseHandler(requestInfo);
+        return tracedAsync(
+                requestInfo,
+                () ->
+                        this.getHttpResponseMessageAsync(requestInfo)
+                                .thenApplyAsync(
+                                        response ->
+                                                handlePrimitive(
+                                                        response,
+                                                        requestInfo,
+                                                        responseHandler,
+                                                        errorMappings,
+                                                        targetClass),
+                                        currentExecutor()));
+    }
+
+    private <ModelType> ModelType handlePrimitive(
+            @Nonnull final HttpResponse response,
+            @Nonnull final RequestInformation requestInfo,
+            @Nullable final ResponseHandler responseHandler,
+            @Nullable final HashMap<String, ParsableFactory<? extends Parsable>> errorMappings,
+            @Nonnull final Class<ModelType> targetClass) {
         if (responseHandler == null) {
-            this.throwIfFailedResponse(response, errorMappings);
+            this.throwIfFailedResponse(response, requestInfo, errorMappings);
             if (this.shouldReturnNull(response)) {
                 return null;
             }
-            if (targetClass == Void.class) {
-                return null;
-            } else {
-                if (targetClass == InputStream.class) {
-                    // TODO: verify streaming responses
-                    return (ModelType) response.body();
-                }
-                final ParseNode rootNode = getRootParseNode(response);
-                if (rootNode == null) {
+            final long start = System.nanoTime();
+            try {
+                if (targetClass == Void.class) {
                     return null;
-                }
-                Object result;
-                if (targetClass == Boolean.class) {
-                    result = rootNode.getBooleanValue();
-                } else if (targetClass == Byte.class) {
-                    result = rootNode.getByteValue();
-                } else if (targetClass == String.class) {
-                    result = rootNode.getStringValue();
-                } else if (targetClass == Short.class) {
-                    result = rootNode.getShortValue();
-                } else if (targetClass == BigDecimal.class) {
-                    result = rootNode.getBigDecimalValue();
-                } else if (targetClass == Double.class) {
-                    result = rootNode.getDoubleValue();
-                } else if (targetClass == Integer.class) {
-                    result = rootNode.getIntegerValue();
-                } else if (targetClass == Float.class) {
-                    result = rootNode.getFloatValue();
-                } else if (targetClass == Long.class) {
-                    result = rootNode.getLongValue();
-                } else if (targetClass == UUID.class) {
-                    result = rootNode.getUUIDValue();
-                } else if (targetClass == OffsetDateTime.class) {
-                    result = rootNode.getOffsetDateTimeValue();
-                } else if (targetClass == LocalDate.class) {
-                    result = rootNode.getLocalDateValue();
-                } else if (targetClass == LocalTime.class) {
-                    result = rootNode.getLocalTimeValue();
-                } else if (targetClass == PeriodAndDuration.class) {
-                    result = rootNode.getPeriodAndDurationValue();
-                } else if (targetClass == byte[].class) {
-                    result = rootNode.getByteArrayValue();
                 } else {
-                    throw new RuntimeException("unexpected payload type " + targetClass.getName());
+                    if (targetClass == InputStream.class) {
+                        return (ModelType) response.body();
+                    }
+                    final ParseNode rootNode = getRootParseNode(response);
+                    if (rootNode == null) {
+                        return null;
+                    }
+                    Object result;
+                    if (targetClass == Boolean.class) {
+                        result = rootNode.getBooleanValue();
+                    } else if (targetClass == Byte.class) {
+                        result = rootNode.getByteValue();
+                    } else if (targetClass == String.class) {
+                        result = rootNode.getStringValue();
+                    } else if (targetClass == Short.class) {
+                        result = rootNode.getShortValue();
+                    } else if (targetClass == BigDecimal.class) {
+                        result = rootNode.getBigDecimalValue();
+                    } else if (targetClass == Double.class) {
+                        result = rootNode.getDoubleValue();
+                    } else if (targetClass == Integer.class) {
+                        result = rootNode.getIntegerValue();
+                    } else if (targetClass == Float.class) {
+                        result = rootNode.getFloatValue();
+                    } else if (targetClass == Long.class) {
+                        result = rootNode.getLongValue();
+                    } else if (targetClass == UUID.class) {
+                        result = rootNode.getUUIDValue();
+                    } else if (targetClass == OffsetDateTime.class) {
+                        result = rootNode.getOffsetDateTimeValue();
+                    } else if (targetClass == LocalDate.class) {
+                        result = rootNode.getLocalDateValue();
+                    } else if (targetClass == LocalTime.class) {
+                        result = rootNode.getLocalTimeValue();
+                    } else if (targetClass == PeriodAndDuration.class) {
+                        result = rootNode.getPeriodAndDurationValue();
+                    } else if (targetClass == byte[].class) {
+                        result = rootNode.getByteArrayValue();
+                    } else {
+                        throw new RuntimeException(
+                                "unexpected payload type " + targetClass.getName());
+                    }
+                    return (ModelType) result;
                 }
-                return (ModelType) result;
+            } finally {
+                if (targetClass != InputStream.class) {
+                    closeBody(response);
+                }
+                observe(requestInfo, RequestObserver.DESERIALIZE, response.statusCode(), start);
             }
         } else {
             return responseHandler.handleResponse(response, errorMappings);
@@ -249,19 +642,67 @@ public class JDKRequestAdapter implements RequestAdapter {
         Objects.requireNonNull(requestInfo, nullRequestInfoParameter);
         Objects.requireNonNull(enumParser, nullEnumParserParameter);
 
-        HttpResponse response = this.getHttpResponseMessage(requestInfo);
+        return traced(
+                requestInfo,
+                () ->
+                        handleEnum(
+                                this.getHttpResponseMessage(requestInfo),
+                                requestInfo,
+                                getResponseHandler(requestInfo),
+                                errorMappings,
+                                enumParser));
+    }
+
+    /**
+     * Like {@link #sendEnum} but doesn't block, the response is deserialized on the async executor.
+     */
+    @Nonnull
+    public <ModelType extends Enum<ModelType>> CompletableFuture<ModelType> sendEnumAsync(
+            @Nonnull final RequestInformation requestInfo,
+            @Nullable final HashMap<String, ParsableFactory<? extends Parsable>> errorMappings,
+            @Nonnull final ValuedEnumParser<ModelType> enumParser) {
+        Objects.requireNonNull(requestInfo, nullRequestInfoParameter);
+        Objects.requireNonNull(enumParser, nullEnumParserParameter);
+
         final ResponseHandler responseHandler = getResponseHandler(requestInfo);
+        return tracedAsync(
+                requestInfo,
+                () ->
+                        this.getHttpResponseMessageAsync(requestInfo)
+                                .thenApplyAsync(
+                                        response ->
+                                                handleEnum(
+                                                        response,
+                                                        requestInfo,
+                                                        responseHandler,
+                                                        errorMappings,
+                                                        enumParser),
+                                        currentExecutor()));
+    }
+
+    private <ModelType extends Enum<ModelType>> ModelType handleEnum(
+            @Nonnull final HttpResponse response,
+            @Nonnull final RequestInformation requestInfo,
+            @Nullable final ResponseHandler responseHandler,
+            @Nullable final HashMap<String, ParsableFactory<? extends Parsable>> errorMappings,
+            @Nonnull final ValuedEnumParser<ModelType> enumParser) {
         if (responseHandler == null) {
-            this.throwIfFailedResponse(response, errorMappings);
+            this.throwIfFailedResponse(response, requestInfo, errorMappings);
             if (this.shouldReturnNull(response)) {
                 return null;
             }
-            final ParseNode rootNode = getRootParseNode(response);
-            if (rootNode == null) {
-                return null;
+            final long start = System.nanoTime();
+            try {
+                final ParseNode rootNode = getRootParseNode(response);
+                if (rootNode == null) {
+                    return null;
+                }
+                final Object result = rootNode.getEnumValue(enumParser);
+                return (ModelType) result;
+            } finally {
+                closeBody(response);
+                observe(requestInfo, RequestObserver.DESERIALIZE, response.statusCode(), start);
             }
-            final Object result = rootNode.getEnumValue(enumParser);
-            return (ModelType) result;
         } else {
             return responseHandler.handleResponse(response, errorMappings);
         }
@@ -275,19 +716,71 @@ public class JDKRequestAdapter implements RequestAdapter {
         Objects.requireNonNull(requestInfo, nullRequestInfoParameter);
         Objects.requireNonNull(enumParser, nullEnumParserParameter);
 
-        HttpResponse response = this.getHttpResponseMessage(requestInfo);
+        return traced(
+                requestInfo,
+                () ->
+                        handleEnumCollection(
+                                this.getHttpResponseMessage(requestInfo),
+                                requestInfo,
+                                getResponseHandler(requestInfo),
+                                errorMappings,
+                                enumParser));
+    }
+
+    /**
+     * Like {@link #sendEnumCollection} but doesn't block, the response is deserialized on the async
+     * executor.
+     */
+    @Nonnull
+    public <ModelType extends Enum<ModelType>>
+            CompletableFuture<List<ModelType>> sendEnumCollectionAsync(
+                    @Nonnull final RequestInformation requestInfo,
+                    @Nullable
+                            final HashMap<String, ParsableFactory<? extends Parsable>>
+                                    errorMappings,
+                    @Nonnull final ValuedEnumParser<ModelType> enumParser) {
+        Objects.requireNonNull(requestInfo, nullRequestInfoParameter);
+        Objects.requireNonNull(enumParser, nullEnumParserParameter);
+
         final ResponseHandler responseHandler = getResponseHandler(requestInfo);
+        return tracedAsync(
+                requestInfo,
+                () ->
+                        this.getHttpResponseMessageAsync(requestInfo)
+                                .thenApplyAsync(
+                                        response ->
+                                                handleEnumCollection(
+                                                        response,
+                                                        requestInfo,
+                                                        responseHandler,
+                                                        errorMappings,
+                                                        enumParser),
+                                        currentExecutor()));
+    }
+
+    private <ModelType extends Enum<ModelType>> List<ModelType> handleEnumCollection(
+            @Nonnull final HttpResponse response,
+            @Nonnull final RequestInformation requestInfo,
+            @Nullable final ResponseHandler responseHandler,
+            @Nullable final HashMap<String, ParsableFactory<? extends Parsable>> errorMappings,
+            @Nonnull final ValuedEnumParser<ModelType> enumParser) {
         if (responseHandler == null) {
-            this.throwIfFailedResponse(response, errorMappings);
+            this.throwIfFailedResponse(response, requestInfo, errorMappings);
             if (this.shouldReturnNull(response)) {
                 return null;
             }
-            final ParseNode rootNode = getRootParseNode(response);
-            if (rootNode == null) {
-                return null;
+            final long start = System.nanoTime();
+            try {
+                final ParseNode rootNode = getRootParseNode(response);
+                if (rootNode == null) {
+                    return null;
+                }
+                final Object result = rootNode.getCollectionOfEnumValues(enumParser);
+                return (List<ModelType>) result;
+            } finally {
+                closeBody(response);
+                observe(requestInfo, RequestObserver.DESERIALIZE, response.statusCode(), start);
             }
-            final Object result = rootNode.getCollectionOfEnumValues(enumParser);
-            return (List<ModelType>) result;
         } else {
             return responseHandler.handleResponse(response, errorMappings);
         }
@@ -300,19 +793,67 @@ public class JDKRequestAdapter implements RequestAdapter {
             @Nonnull final Class<ModelType> targetClass) {
         Objects.requireNonNull(requestInfo, nullRequestInfoParameter);
 
-        HttpResponse response = getHttpResponseMessage(requestInfo);
+        return traced(
+                requestInfo,
+                () ->
+                        handlePrimitiveCollection(
+                                this.getHttpResponseMessage(requestInfo),
+                                requestInfo,
+                                getResponseHandler(requestInfo),
+                                errorMappings,
+                                targetClass));
+    }
+
+    /**
+     * Like {@link #sendPrimitiveCollection} but doesn't block, the response is deserialized on the
+     * async executor.
+     */
+    @Nonnull
+    public <ModelType> CompletableFuture<List<ModelType>> sendPrimitiveCollectionAsync(
+            @Nonnull final RequestInformation requestInfo,
+            @Nullable final HashMap<String, ParsableFactory<? extends Parsable>> errorMappings,
+            @Nonnull final Class<ModelType> targetClass) {
+        Objects.requireNonNull(requestInfo, nullRequestInfoParameter);
+
         final ResponseHandler responseHandler = getResponseHandler(requestInfo);
+        return tracedAsync(
+                requestInfo,
+                () ->
+                        this.getHttpResponseMessageAsync(requestInfo)
+                                .thenApplyAsync(
+                                        response ->
+                                                handlePrimitiveCollection(
+                                                        response,
+                                                        requestInfo,
+                                                        responseHandler,
+                                                        errorMappings,
+                                                        targetClass),
+                                        currentExecutor()));
+    }
+
+    private <ModelType> List<ModelType> handlePrimitiveCollection(
+            @Nonnull final HttpResponse response,
+            @Nonnull final RequestInformation requestInfo,
+            @Nullable final ResponseHandler responseHandler,
+            @Nullable final HashMap<String, ParsableFactory<? extends Parsable>> errorMappings,
+            @Nonnull final Class<ModelType> targetClass) {
         if (responseHandler == null) {
-            this.throwIfFailedResponse(response, errorMappings);
+            this.throwIfFailedResponse(response, requestInfo, errorMappings);
             if (this.shouldReturnNull(response)) {
                 return null;
             }
-            final ParseNode rootNode = getRootParseNode(response);
-            if (rootNode == null) {
-                return null;
+            final long start = System.nanoTime();
+            try {
+                final ParseNode rootNode = getRootParseNode(response);
+                if (rootNode == null) {
+                    return null;
+                }
+                final List<ModelType> result = rootNode.getCollectionOfPrimitiveValues(targetClass);
+                return result;
+            } finally {
+                closeBody(response);
+                observe(requestInfo, RequestObserver.DESERIALIZE, response.statusCode(), start);
             }
-            final List<ModelType> result = rootNode.getCollectionOfPrimitiveValues(targetClass);
-            return result;
         } else {
             return responseHandler.handleResponse(response, errorMappings);
         }
@@ -332,10 +873,79 @@ public class JDKRequestAdapter implements RequestAdapter {
         return pNodeFactory.getParseNode(contentType, rawInputStream);
     }
 
+    // releases the connection once the body is deserialized, even if it wasn't fully read
+    private static void closeBody(final HttpResponse<InputStream> response) {
+        final InputStream body = response.body();
+        if (body == null) {
+            return;
+        }
+        try {
+            body.close();
+        } catch (IOException e) {
+            // the body isn't needed, nothing to recover
+        }
+    }
+
     private boolean shouldReturnNull(final HttpResponse response) {
         return response.statusCode() == 204;
     }
 
+    private void throwIfFailedResponse(
+            @Nonnull final HttpResponse response,
+            @Nonnull final RequestInformation requestInfo,
+            @Nullable final HashMap<String, ParsableFactory<? extends Parsable>> errorMappings) {
+        final long start = System.nanoTime();
+        try {
+            throwIfFailedResponse(response, errorMappings);
+        } finally {
+            observe(requestInfo, RequestObserver.STATUS, response.statusCode(), start);
+        }
+    }
+
+    private void observe(
+            final RequestInformation requestInfo,
+            final String phase,
+            final int statusCode,
+            final long start) {
+        final RequestObserver observer = requestObserver;
+        final RequestTracing requestTracing = tracing;
+        if (observer != null || requestTracing != null) {
+            final long duration = System.nanoTime() - start;
+            if (observer != null) {
+                observer.onPhase(requestInfo, phase, statusCode, duration);
+            }
+            if (requestTracing != null) {
+                requestTracing.phase(phase, statusCode, duration);
+            }
+        }
+    }
+
+    private <T> T traced(
+            @Nonnull final RequestInformation requestInfo, @Nonnull final Supplier<T> send) {
+        final RequestTracing requestTracing = tracing;
+        if (requestTracing == null) {
+            return send.get();
+        }
+        this.setBaseUrlForRequestInformation(requestInfo);
+        return requestTracing.traced(requestInfo, send);
+    }
+
+    private <T> CompletableFuture<T> tracedAsync(
+            @Nonnull final RequestInformation requestInfo,
+            @Nonnull final Supplier<CompletableFuture<T>> send) {
+        final RequestTracing requestTracing = tracing;
+        if (requestTracing == null) {
+            return send.get();
+        }
+        this.setBaseUrlForRequestInformation(requestInfo);
+        return requestTracing.tracedAsync(requestInfo, send);
+    }
+
+    // the responses are deserialized under the span current when the request is sent
+    private Executor currentExecutor() {
+        return tracing == null ? asyncExecutor : RequestTracing.currentContext(asyncExecutor);
+    }
+
     private HttpResponse<InputStream> throwIfFailedResponse(
             @Nonnull final HttpResponse response,
             @Nullable final HashMap<String, ParsableFactory<? extends Parsable>> errorMappings) {
@@ -362,6 +972,7 @@ public class JDKRequestAdapter implements RequestAdapter {
                             .withResponseStatusCode(statusCode)
                             .withResponseHeaders(responseHeaders)
                             .build();
+            closeBody(response);
             throw result;
         }
 
@@ -382,13 +993,19 @@ public class JDKRequestAdapter implements RequestAdapter {
                             .withResponseStatusCode(statusCode)
                             .withResponseHeaders(responseHeaders)
                             .build();
+            closeBody(response);
             throw result;
         }
-        ApiException result =
-                new ApiExceptionBuilder(() -> rootNode.getObjectValue(errorClass))
-                        .withResponseStatusCode(statusCode)
-                        .withResponseHeaders(responseHeaders)
-                        .build();
+        final ApiException result;
+        try {
+            result =
+                    new ApiExceptionBuilder(() -> rootNode.getObjectValue(errorClass))
+                            .withResponseStatusCode(statusCode)
+                            .withResponseHeaders(responseHeaders)
+                            .build();
+        } finally {
+            closeBody(response);
+        }
         throw result;
     }
 
@@ -396,14 +1013,156 @@ public class JDKRequestAdapter implements RequestAdapter {
             @Nonnull final RequestInformation requestInfo) {
         Objects.requireNonNull(requestInfo, nullRequestInfoParameter);
         this.setBaseUrlForRequestInformation(requestInfo);
+        final HttpResponse<InputStream> response;
+        final long start = System.nanoTime();
+        final HttpRequest request;
+        try {
+            request = convertToNativeRequest(requestInfo);
+        } catch (RuntimeException e) {
+            observe(requestInfo, RequestObserver.CONVERT, 0, start);
+            closeContent(requestInfo);
+            throw e;
+        }
+        observe(requestInfo, RequestObserver.CONVERT, 0, start);
+        final long sent = System.nanoTime();
         try {
-            return this.client.send(
-                    convertToNativeRequest(requestInfo), HttpResponse.BodyHandlers.ofInputStream());
+            final Interceptor[] chain = interceptors;
+            if (chain.length == 0) {
+                response = this.client.send(request, streamedBody);
+            } else {
+                response = new InterceptorChain(chain, 0, requestInfo, request).proceed(request);
+            }
         } catch (IOException e) {
+            observe(requestInfo, RequestObserver.NETWORK, 0, sent);
+            closeContent(requestInfo);
             throw new RuntimeException(e);
+        } catch (RuntimeException e) {
+            observe(requestInfo, RequestObserver.NETWORK, 0, sent);
+            closeContent(requestInfo);
+            throw e;
         } catch (InterruptedException e) {
+            observe(requestInfo, RequestObserver.NETWORK, 0, sent);
+            // the request may still be reading the content, it is left open
             throw new RuntimeException(e);
         }
+        observe(requestInfo, RequestObserver.NETWORK, response.statusCode(), sent);
+        closeContent(requestInfo);
+        return response;
+    }
+
+    // the body is received without holding a thread, then read from memory
+    private static final HttpResponse.BodyHandler<InputStream> receivedBytes =
+            info ->
+                    HttpResponse.BodySubscribers.mapping(
+                            HttpResponse.BodySubscribers.ofByteArray(), ByteArrayInputStream::new);
+
+    private CompletableFuture<HttpResponse<InputStream>> getHttpResponseMessageAsync(
+            @Nonnull final RequestInformation requestInfo) {
+        Objects.requireNonNull(requestInfo, nullRequestInfoParameter);
+        this.setBaseUrlForRequestInformation(requestInfo);
+        final long start = System.nanoTime();
+        final HttpRequest request;
+        try {
+            request = convertToNativeRequest(requestInfo);
+        } catch (RuntimeException e) {
+            observe(requestInfo, RequestObserver.CONVERT, 0, start);
+            closeContent(requestInfo);
+            return CompletableFuture.failedFuture(e);
+        }
+        observe(requestInfo, RequestObserver.CONVERT, 0, start);
+        final long sent = System.nanoTime();
+        final Interceptor[] chain = interceptors;
+        CompletableFuture<HttpResponse<InputStream>> response;
+        if (chain.length == 0) {
+            response = this.client.sendAsync(request, receivedBody);
+        } else {
+            response = new InterceptorChain(chain, 0, requestInfo, request).proceedAsync(request);
+        }
+        return response.whenComplete(
+                (result, failure) -> {
+                    observe(
+                            requestInfo,
+                            RequestObserver.NETWORK,
+                            result == null ? 0 : result.statusCode(),
+                            sent);
+                    closeContent(requestInfo);
+                });
+    }
+
+    // a chain is created only when interceptors have been added, and for each of them
+    private final class InterceptorChain implements Interceptor.Chain {
+        private final Interceptor[] interceptors;
+        private final int index;
+        private final RequestInformation requestInfo;
+        private final HttpRequest request;
+
+        private InterceptorChain(
+                final Interceptor[] interceptors,
+                final int index,
+                final RequestInformation requestInfo,
+                final HttpRequest request) {
+            this.interceptors = interceptors;
+            this.index = index;
+            this.requestInfo = requestInfo;
+            this.request = request;
+        }
+
+        @Override
+        @Nonnull
+        public HttpRequest request() {
+            return request;
+        }
+
+        @Override
+        @Nonnull
+        public RequestInformation requestInformation() {
+            return requestInfo;
+        }
+
+        @Override
+        @Nonnull
+        public HttpResponse<InputStream> proceed(@Nonnull final HttpRequest request)
+                throws IOException, InterruptedException {
+            Objects.requireNonNull(request, "parameter request cannot be null");
+            if (index == interceptors.length) {
+                return client.send(request, streamedBody);
+            }
+            return Objects.requireNonNull(
+                    interceptors[index].intercept(next(request)),
+                    "an interceptor returned a null response");
+        }
+
+        @Override
+        @Nonnull
+        public CompletableFuture<HttpResponse<InputStream>> proceedAsync(
+                @Nonnull final HttpRequest request) {
+            Objects.requireNonNull(request, "parameter request cannot be null");
+            if (index == interceptors.length) {
+                return client.sendAsync(request, receivedBody);
+            }
+            try {
+                return Objects.requireNonNull(
+                        interceptors[index].interceptAsync(next(request)),
+                        "an interceptor returned a null response");
+            } catch (RuntimeException e) {
+                return CompletableFuture.failedFuture(e);
+            }
+        }
+
+        private InterceptorChain next(final HttpRequest request) {
+            return new InterceptorChain(interceptors, index + 1, requestInfo, request);
+        }
+    }
+
+    // the content has been sent, pooled buffers can be reused
+    private static void closeContent(@Nonnull final RequestInformation requestInfo) {
+        if (requestInfo.content != null) {
+            try {
+                requestInfo.content.close();
+            } catch (IOException e) {
+                // the content has been sent, nothing to recover
+            }
+        }
     }
 
     private void setBaseUrlForRequestInformation(@Nonnull final RequestInformation requestInfo) {
@@ -420,6 +1179,235 @@ public class JDKRequestAdapter implements RequestAdapter {
 
     protected @Nonnull HttpRequest getRequestFromRequestInformation(
             @Nonnull final RequestInformation requestInfo) {
-        return HttpRequestCompatibility.convert(requestInfo);
+        if (decompressionSupported) {
+            requestInfo.headers.tryAdd(
+                    ContentDecoding.acceptEncodingHeaderKey, ContentDecoding.acceptedEncodings);
+        }
+        return HttpRequestCompatibility.convert(requestInfo, requestTimeout, tracing);
+    }
+
+    /**
+     * Creates a builder of adapters, to tune the client created for the adapter.
+     * @return a new builder.
+     */
+    @Nonnull
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /** Builds an adapter and the client it uses. */
+    public static final class Builder {
+        private static final String connectionPoolSizeProperty =
+                "jdk.httpclient.connectionPoolSize";
+        private static final String keepAliveTimeoutProperty = "jdk.httpclient.keepalive.timeout";
+
+        private HttpClient.Version version;
+        private Executor executor;
+        private Duration connectTimeout;
+        private Duration requestTimeout;
+        private Integer priority;
+        private Integer connectionPoolSize;
+        private Duration keepAliveTimeout;
+        private ParseNodeFactory parseNodeFactory;
+        private SerializationWriterFactory serializationWriterFactory;
+        private Executor asyncExecutor;
+        private boolean decompressionSupported;
+
+        private Builder() {}
+
+        /**
+         * Sets the preferred HTTP version, HTTP/2 is negotiated by default.
+         * @param version the preferred version.
+         * @return this builder.
+         */
+        @Nonnull
+        public Builder version(@Nonnull final HttpClient.Version version) {
+            this.version = Objects.requireNonNull(version, "parameter version cannot be null");
+            return this;
+        }
+
+        /**
+         * Sets the executor of the client, a default one when not set (virtual threads on
+         * Java 21 and later).
+         * @param executor the executor running the tasks of the client.
+         * @return this builder.
+         */
+        @Nonnull
+        public Builder executor(@Nonnull final Executor executor) {
+            this.executor = Objects.requireNonNull(executor, "parameter executor cannot be null");
+            return this;
+        }
+
+        /**
+         * Sets how long to wait for a connection to be established.
+         * @param connectTimeout the connection timeout.
+         * @return this builder.
+         */
+        @Nonnull
+        public Builder connectTimeout(@Nonnull final Duration connectTimeout) {
+            this.connectTimeout =
+                    Objects.requireNonNull(
+                            connectTimeout, "parameter connectTimeout cannot be null");
+            return this;
+        }
+
+        /**
+         * Sets how long to wait for the response of every request.
+         * @param requestTimeout the request timeout.
+         * @return this builder.
+         */
+        @Nonnull
+        public Builder requestTimeout(@Nonnull final Duration requestTimeout) {
+            this.requestTimeout =
+                    Objects.requireNonNull(
+                            requestTimeout, "parameter requestTimeout cannot be null");
+            return this;
+        }
+
+        /**
+         * Sets the priority of the HTTP/2 streams of the requests.
+         * @param priority the priority, between 1 and 256.
+         * @return this builder.
+         */
+        @Nonnull
+        public Builder priority(final int priority) {
+            if (priority < 1 || priority > 256) {
+                throw new IllegalArgumentException("priority must be between 1 and 256");
+            }
+            this.priority = priority;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of idle HTTP/1.1 connections kept per host, through the
+         * jdk.httpclient.connectionPoolSize system property. The property applies to the whole
+         * JVM and is read once, it is only set when it isn't already and before the first
+         * client is created.
+         * @param connectionPoolSize the pool size, 0 for no limit.
+         * @return this builder.
+         */
+        @Nonnull
+        public Builder connectionPoolSize(final int connectionPoolSize) {
+            if (connectionPoolSize < 0) {
+                throw new IllegalArgumentException("connectionPoolSize cannot be negative");
+            }
+            this.connectionPoolSize = connectionPoolSize;
+            return this;
+        }
+
+        /**
+         * Sets how long idle connections are kept alive, through the
+         * jdk.httpclient.keepalive.timeout system property. Like {@link #connectionPoolSize},
+         * the property applies to the whole JVM and is only set when it isn't already.
+         * @param keepAliveTimeout the keep alive timeout, in seconds.
+         * @return this builder.
+         */
+        @Nonnull
+        public Builder keepAliveTimeout(@Nonnull final Duration keepAliveTimeout) {
+            Objects.requireNonNull(keepAliveTimeout, "parameter keepAliveTimeout cannot be null");
+            if (keepAliveTimeout.getSeconds() <= 0) {
+                throw new IllegalArgumentException("keepAliveTimeout must be at least a second");
+            }
+            this.keepAliveTimeout = keepAliveTimeout;
+            return this;
+        }
+
+        /**
+         * Asks for gzip or deflate compressed responses, when the request doesn't set the
+         * Accept-Encoding header, and decompresses them while they are read. Disabled by
+         * default.
+         * @param decompressionSupported whether compressed responses are negotiated.
+         * @return this builder.
+         */
+        @Nonnull
+        public Builder decompressionSupported(final boolean decompressionSupported) {
+            this.decompressionSupported = decompressionSupported;
+            return this;
+        }
+
+        /**
+         * Sets the factory of the parse nodes, the default registry when not set.
+         * @param parseNodeFactory the factory.
+         * @return this builder.
+         */
+        @Nonnull
+        public Builder parseNodeFactory(@Nonnull final ParseNodeFactory parseNodeFactory) {
+            this.parseNodeFactory =
+                    Objects.requireNonNull(
+                            parseNodeFactory, "parameter parseNodeFactory cannot be null");
+            return this;
+        }
+
+        /**
+         * Sets the factory of the serialization writers, the default registry when not set.
+         * @param serializationWriterFactory the factory.
+         * @return this builder.
+         */
+        @Nonnull
+        public Builder serializationWriterFactory(
+                @Nonnull final SerializationWriterFactory serializationWriterFactory) {
+            this.serializationWriterFactory =
+                    Objects.requireNonNull(
+                            serializationWriterFactory,
+                            "parameter serializationWriterFactory cannot be null");
+            return this;
+        }
+
+        /**
+         * Sets the executor deserializing the responses of the async methods, the executor of
+         * the client when not set.
+         * @param asyncExecutor the executor.
+         * @return this builder.
+         */
+        @Nonnull
+        public Builder asyncExecutor(@Nonnull final Executor asyncExecutor) {
+            this.asyncExecutor =
+                    Objects.requireNonNull(asyncExecutor, "parameter asyncExecutor cannot be null");
+            return this;
+        }
+
+        /**
+         * Creates the client and the adapter.
+         * @return the adapter.
+         */
+        @Nonnull
+        public JDKRequestAdapter build() {
+            if (connectionPoolSize != null) {
+                setPropertyIfAbsent(connectionPoolSizeProperty, connectionPoolSize.toString());
+            }
+            if (keepAliveTimeout != null) {
+                setPropertyIfAbsent(
+                        keepAliveTimeoutProperty, Long.toString(keepAliveTimeout.getSeconds()));
+            }
+            final HttpClient.Builder clientBuilder =
+                    executor == null
+                            ? ThreadingCompatibility.newHttpClientBuilder()
+                            : HttpClient.newBuilder().executor(executor);
+            if (version != null) {
+                clientBuilder.version(version);
+            }
+            if (connectTimeout != null) {
+                clientBuilder.connectTimeout(connectTimeout);
+            }
+            if (priority != null) {
+                clientBuilder.priority(priority);
+            }
+            return new JDKRequestAdapter(
+                    clientBuilder.build(),
+                    parseNodeFactory,
+                    serializationWriterFactory,
+                    asyncExecutor,
+                    requestTimeout,
+                    decompressionSupported);
+        }
+
+        // the settings given on the command line win
+        private static void setPropertyIfAbsent(final String name, final String value) {
+            synchronized (System.getProperties()) {
+                if (System.getProperty(name) == null) {
+                    System.setProperty(name, value);
+                }
+            }
+        }
     }
 }
@@ -0,0 +1,72 @@
+package io.kiota.http.jdk;
+
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Optional;
+import javax.net.ssl.SSLSession;
+
+/** A response not received from the client, like a cached one, or with another body. */
+final class ResponseWithBody implements HttpResponse<InputStream> {
+    private final HttpRequest request;
+    private final int statusCode;
+    private final HttpHeaders headers;
+    private final HttpClient.Version version;
+    private final InputStream body;
+
+    ResponseWithBody(
+            final HttpRequest request,
+            final int statusCode,
+            final HttpHeaders headers,
+            final HttpClient.Version version,
+            final InputStream body) {
+        this.request = request;
+        this.statusCode = statusCode;
+        this.headers = headers;
+        this.version = version;
+        this.body = body;
+    }
+
+    @Override
+    public int statusCode() {
+        return statusCode;
+    }
+
+    @Override
+    public HttpRequest request() {
+        return request;
+    }
+
+    @Override
+    public Optional<HttpResponse<InputStream>> previousResponse() {
+        return Optional.empty();
+    }
+
+    @Override
+    public HttpHeaders headers() {
+        return headers;
+    }
+
+    @Override
+    public InputStream body() {
+        return body;
+    }
+
+    @Override
+    public Optional<SSLSession> sslSession() {
+        return Optional.empty();
+    }
+
+    @Override
+    public URI uri() {
+        return request.uri();
+    }
+
+    @Override
+    public HttpClient.Version version() {
+        return version;
+    }
+}
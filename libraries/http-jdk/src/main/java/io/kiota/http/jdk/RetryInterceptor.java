@@ -0,0 +1,106 @@
+package io.kiota.http.jdk;
+
+import io.kiota.http.RetryOption;
+import jakarta.annotation.Nonnull;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Retries the requests failing with a 429 or 503 status code, or with a 504 one for the
+ * idempotent methods, as configured by the {@link RetryOption} of the request or of the
+ * interceptor. Only the requests without content,
+ * or with an in memory content (like the serialized ones) are retried, the content is sent
+ * again as is.
+ */
+public class RetryInterceptor implements Interceptor {
+    private static final String retryAfterHeaderKey = "Retry-After";
+    @Nonnull private final RetryOption defaults;
+
+    /** Creates an interceptor with the default {@link RetryOption}. */
+    public RetryInterceptor() {
+        this(new RetryOption());
+    }
+
+    /**
+     * Creates an interceptor.
+     * @param defaults the options of the requests without a {@link RetryOption}.
+     */
+    public RetryInterceptor(@Nonnull final RetryOption defaults) {
+        this.defaults = Objects.requireNonNull(defaults, "parameter defaults cannot be null");
+    }
+
+    @Override
+    @Nonnull
+    public HttpResponse<InputStream> intercept(@Nonnull final Chain chain)
+            throws IOException, InterruptedException {
+        final HttpRequest request = chain.request();
+        HttpResponse<InputStream> response = chain.proceed(request);
+        if (!RetryOption.isReplayable(chain.requestInformation())) {
+            return response;
+        }
+        final RetryOption option = RetryOption.of(chain.requestInformation(), defaults);
+        long previousDelay = 0L;
+        for (int retries = 0;
+                retries < option.getMaxRetries()
+                        && RetryOption.isRetried(chain.requestInformation(), response.statusCode());
+                retries++) {
+            final long delay =
+                    option.nextDelayMillis(
+                            previousDelay,
+                            response.headers().firstValue(retryAfterHeaderKey).orElse(null));
+            if (delay < 0) {
+                break;
+            }
+            response.body().close();
+            Thread.sleep(delay);
+            previousDelay = delay;
+            response = chain.proceed(request);
+        }
+        return response;
+    }
+
+    @Override
+    @Nonnull
+    public CompletableFuture<HttpResponse<InputStream>> interceptAsync(@Nonnull final Chain chain) {
+        if (!RetryOption.isReplayable(chain.requestInformation())) {
+            return chain.proceedAsync(chain.request());
+        }
+        return proceedAsync(chain, RetryOption.of(chain.requestInformation(), defaults), 0, 0L);
+    }
+
+    // waits without holding a thread
+    private CompletableFuture<HttpResponse<InputStream>> proceedAsync(
+            final Chain chain, final RetryOption option, final int retries, final long previous) {
+        return chain.proceedAsync(chain.request())
+                .thenCompose(
+                        response -> {
+                            if (retries >= option.getMaxRetries()
+                                    || !RetryOption.isRetried(
+                                            chain.requestInformation(), response.statusCode())) {
+                                return CompletableFuture.completedFuture(response);
+                            }
+                            final long delay =
+                                    option.nextDelayMillis(
+                                            previous,
+                                            response.headers()
+                                                    .firstValue(retryAfterHeaderKey)
+                                                    .orElse(null));
+                            if (delay < 0) {
+                                return CompletableFuture.completedFuture(response);
+                            }
+                            return CompletableFuture.runAsync(
+                                            () -> {},
+                                            CompletableFuture.delayedExecutor(
+                                                    delay, TimeUnit.MILLISECONDS))
+                                    .thenCompose(
+                                            waited ->
+                                                    proceedAsync(
+                                                            chain, option, retries + 1, delay));
+                        });
+    }
+}
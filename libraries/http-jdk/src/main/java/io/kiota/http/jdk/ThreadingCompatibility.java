@@ -0,0 +1,23 @@
+package io.kiota.http.jdk;
+
+import java.net.http.HttpClient;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * The threads used by the adapter when none are given. On Java 21 and later this class is
+ * replaced by its version in src/main/java21, which uses virtual threads.
+ */
+final class ThreadingCompatibility {
+    private ThreadingCompatibility() {}
+
+    /** Creates the builder of the client used when none is given. */
+    static HttpClient.Builder newHttpClientBuilder() {
+        return HttpClient.newBuilder();
+    }
+
+    /** The executor deserializing the responses of the async methods when none is given. */
+    static Executor defaultAsyncExecutor(final HttpClient client) {
+        return client.executor().orElseGet(ForkJoinPool::commonPool);
+    }
+}
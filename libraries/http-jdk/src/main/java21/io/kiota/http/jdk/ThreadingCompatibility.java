@@ -0,0 +1,25 @@
+package io.kiota.http.jdk;
+
+import java.net.http.HttpClient;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+
+/**
+ * The threads used by the adapter when none are given, on Java 21 and later. The default client
+ * and the deserialization of the async responses run on virtual threads.
+ */
+final class ThreadingCompatibility {
+    private static final Executor virtualThreads = Executors.newVirtualThreadPerTaskExecutor();
+
+    private ThreadingCompatibility() {}
+
+    /** Creates the builder of the client used when none is given. */
+    static HttpClient.Builder newHttpClientBuilder() {
+        return HttpClient.newBuilder().executor(virtualThreads);
+    }
+
+    /** The executor deserializing the responses of the async methods when none is given. */
+    static Executor defaultAsyncExecutor(final HttpClient client) {
+        return client.executor().orElse(virtualThreads);
+    }
+}
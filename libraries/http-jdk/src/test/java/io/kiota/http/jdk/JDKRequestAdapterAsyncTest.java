@@ -0,0 +1,120 @@
+package io.kiota.http.jdk;
+
+import com.microsoft.kiota.ApiException;
+import com.microsoft.kiota.HttpMethod;
+import com.microsoft.kiota.RequestInformation;
+import com.sun.net.httpserver.HttpServer;
+import io.kiota.serialization.json.JsonParseNodeFactory;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+public class JDKRequestAdapterAsyncTest {
+
+    private static HttpServer server;
+    private static String baseUrl;
+
+    @BeforeAll
+    public static void startServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(0), 0);
+        server.createContext(
+                "/echo",
+                exchange -> {
+                    try {
+                        String query = exchange.getRequestURI().getQuery();
+                        byte[] body = ("\"" + query + "\"").getBytes(StandardCharsets.UTF_8);
+                        exchange.getResponseHeaders().add("Content-Type", "application/json");
+                        exchange.sendResponseHeaders(
+                                query.startsWith("fail") ? 500 : 200, body.length);
+                        exchange.getResponseBody().write(body);
+                    } finally {
+                        exchange.close();
+                    }
+                });
+        server.setExecutor(Executors.newFixedThreadPool(4));
+        server.start();
+        baseUrl = "http://localhost:" + server.getAddress().getPort();
+    }
+
+    @AfterAll
+    public static void stopServer() {
+        if (server != null) {
+            server.stop(0);
+        }
+    }
+
+    private static RequestInformation echoRequest(String value) {
+        RequestInformation requestInfo = new RequestInformation();
+        requestInfo.setUri(URI.create(baseUrl + "/echo?" + value));
+        requestInfo.httpMethod = HttpMethod.GET;
+        return requestInfo;
+    }
+
+    @Test
+    public void sendsConcurrentRequests() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            JDKRequestAdapter adapter =
+                    new JDKRequestAdapter(null, new JsonParseNodeFactory(), null, executor);
+            List<CompletableFuture<String>> responses = new ArrayList<>();
+            for (int i = 0; i < 200; i++) {
+                responses.add(
+                        adapter.sendPrimitiveAsync(echoRequest("value-" + i), null, String.class));
+            }
+
+            for (int i = 0; i < 200; i++) {
+                Assertions.assertEquals("value-" + i, responses.get(i).get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void completesExceptionallyOnFailedResponses() {
+        JDKRequestAdapter adapter = new JDKRequestAdapter(null, new JsonParseNodeFactory());
+
+        CompletableFuture<String> response =
+                adapter.sendPrimitiveAsync(echoRequest("fail"), null, String.class);
+
+        ExecutionException e = Assertions.assertThrows(ExecutionException.class, response::get);
+        Assertions.assertInstanceOf(ApiException.class, e.getCause());
+        Assertions.assertEquals(500, ((ApiException) e.getCause()).getResponseStatusCode());
+    }
+
+    @Test
+    public void closesTheContentWhenTheRequestCannotBeConverted() {
+        JDKRequestAdapter adapter = new JDKRequestAdapter(null, new JsonParseNodeFactory());
+        AtomicBoolean closed = new AtomicBoolean();
+        RequestInformation requestInfo = echoRequest("value");
+        // no method to convert the request with
+        requestInfo.httpMethod = null;
+        requestInfo.content =
+                new ByteArrayInputStream(new byte[42]) {
+                    @Override
+                    public void close() throws IOException {
+                        closed.set(true);
+                        super.close();
+                    }
+                };
+
+        CompletableFuture<String> response =
+                adapter.sendPrimitiveAsync(requestInfo, null, String.class);
+
+        Assertions.assertThrows(ExecutionException.class, response::get);
+        Assertions.assertTrue(closed.get());
+    }
+}
@@ -0,0 +1,151 @@
+package io.kiota.http.jdk;
+
+import com.microsoft.kiota.ApiException;
+import com.microsoft.kiota.HttpMethod;
+import com.microsoft.kiota.RequestInformation;
+import com.microsoft.kiota.serialization.Parsable;
+import com.microsoft.kiota.serialization.ParseNode;
+import com.microsoft.kiota.serialization.SerializationWriter;
+import com.sun.net.httpserver.HttpServer;
+import io.kiota.serialization.json.JsonParseNodeFactory;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class JDKRequestAdapterBatchTest {
+
+    private static final AtomicInteger inFlight = new AtomicInteger();
+    private static final AtomicInteger maxInFlight = new AtomicInteger();
+    private static final AtomicInteger received = new AtomicInteger();
+    private static HttpServer server;
+    private static String baseUrl;
+
+    @BeforeAll
+    public static void startServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(0), 0);
+        server.createContext(
+                "/items",
+                exchange -> {
+                    received.incrementAndGet();
+                    maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                    try {
+                        Thread.sleep(20);
+                        String name = exchange.getRequestURI().getQuery();
+                        byte[] body =
+                                ("{\"name\":\"" + name + "\"}").getBytes(StandardCharsets.UTF_8);
+                        exchange.getResponseHeaders().add("Content-Type", "application/json");
+                        exchange.sendResponseHeaders(name.equals("fail") ? 500 : 200, body.length);
+                        exchange.getResponseBody().write(body);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    } finally {
+                        inFlight.decrementAndGet();
+                        exchange.close();
+                    }
+                });
+        server.setExecutor(Executors.newFixedThreadPool(16));
+        server.start();
+        baseUrl = "http://localhost:" + server.getAddress().getPort();
+    }
+
+    @AfterAll
+    public static void stopServer() {
+        if (server != null) {
+            server.stop(0);
+        }
+    }
+
+    @BeforeEach
+    public void resetCounters() {
+        maxInFlight.set(0);
+        received.set(0);
+    }
+
+    private static RequestInformation itemRequest(String name) {
+        RequestInformation requestInfo = new RequestInformation();
+        requestInfo.setUri(URI.create(baseUrl + "/items?" + name));
+        requestInfo.httpMethod = HttpMethod.GET;
+        return requestInfo;
+    }
+
+    @Test
+    public void sendsRequestsConcurrentlyWithinTheWindow() {
+        JDKRequestAdapter adapter = new JDKRequestAdapter(null, new JsonParseNodeFactory());
+        List<RequestInformation> requests = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            requests.add(itemRequest("item-" + i));
+        }
+
+        List<Item> items = adapter.sendBatch(requests, null, n -> new Item(), 8);
+
+        Assertions.assertEquals(50, items.size());
+        for (int i = 0; i < 50; i++) {
+            Assertions.assertEquals("item-" + i, items.get(i).name);
+        }
+        Assertions.assertTrue(maxInFlight.get() > 1);
+        Assertions.assertTrue(maxInFlight.get() <= 8);
+    }
+
+    @Test
+    public void stopsSendingOnceARequestFailed() {
+        JDKRequestAdapter adapter = new JDKRequestAdapter(null, new JsonParseNodeFactory());
+        List<RequestInformation> requests = new ArrayList<>();
+        requests.add(itemRequest("fail"));
+        for (int i = 0; i < 50; i++) {
+            requests.add(itemRequest("item-" + i));
+        }
+
+        ApiException e =
+                Assertions.assertThrows(
+                        ApiException.class,
+                        () -> adapter.sendBatch(requests, null, n -> new Item(), 1));
+
+        Assertions.assertEquals(500, e.getResponseStatusCode());
+        Assertions.assertEquals(1, received.get());
+    }
+
+    @Test
+    public void keepsTheThreadInterrupted() {
+        JDKRequestAdapter adapter = new JDKRequestAdapter(null, new JsonParseNodeFactory());
+        List<RequestInformation> requests = List.of(itemRequest("item-0"), itemRequest("item-1"));
+
+        Thread.currentThread().interrupt();
+        RuntimeException e =
+                Assertions.assertThrows(
+                        RuntimeException.class,
+                        () -> adapter.sendBatch(requests, null, n -> new Item(), 1));
+
+        // clears the flag for the following tests
+        Assertions.assertTrue(Thread.interrupted());
+        Assertions.assertInstanceOf(InterruptedException.class, e.getCause());
+    }
+
+    public static class Item implements Parsable {
+        String name;
+
+        @Override
+        public Map<String, Consumer<ParseNode>> getFieldDeserializers() {
+            Map<String, Consumer<ParseNode>> deserializers = new HashMap<>();
+            deserializers.put("name", n -> name = n.getStringValue());
+            return deserializers;
+        }
+
+        @Override
+        public void serialize(SerializationWriter writer) {
+            writer.writeStringValue("name", name);
+        }
+    }
+}
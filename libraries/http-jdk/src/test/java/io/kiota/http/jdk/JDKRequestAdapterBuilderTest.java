@@ -0,0 +1,129 @@
+package io.kiota.http.jdk;
+
+import com.microsoft.kiota.HttpMethod;
+import com.microsoft.kiota.RequestInformation;
+import com.sun.net.httpserver.HttpServer;
+import io.kiota.serialization.json.JsonParseNodeFactory;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+public class JDKRequestAdapterBuilderTest {
+
+    private static HttpServer server;
+    private static String baseUrl;
+
+    @BeforeAll
+    public static void startServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(0), 0);
+        server.createContext(
+                "/slow",
+                exchange -> {
+                    try {
+                        Thread.sleep(2000);
+                        byte[] body = "\"late\"".getBytes(StandardCharsets.UTF_8);
+                        exchange.getResponseHeaders().add("Content-Type", "application/json");
+                        exchange.sendResponseHeaders(200, body.length);
+                        exchange.getResponseBody().write(body);
+                    } catch (InterruptedException | IOException e) {
+                        // the client went away
+                    } finally {
+                        exchange.close();
+                    }
+                });
+        server.createContext(
+                "/fast",
+                exchange -> {
+                    byte[] body = "\"on time\"".getBytes(StandardCharsets.UTF_8);
+                    exchange.getResponseHeaders().add("Content-Type", "application/json");
+                    exchange.sendResponseHeaders(200, body.length);
+                    exchange.getResponseBody().write(body);
+                    exchange.close();
+                });
+        server.start();
+        baseUrl = "http://localhost:" + server.getAddress().getPort();
+    }
+
+    @AfterAll
+    public static void stopServer() {
+        if (server != null) {
+            server.stop(0);
+        }
+    }
+
+    private static RequestInformation request(String path) {
+        RequestInformation requestInfo = new RequestInformation();
+        requestInfo.setUri(URI.create(baseUrl + path));
+        requestInfo.httpMethod = HttpMethod.GET;
+        return requestInfo;
+    }
+
+    @Test
+    public void appliesTheRequestTimeout() {
+        JDKRequestAdapter adapter =
+                JDKRequestAdapter.builder()
+                        .version(HttpClient.Version.HTTP_1_1)
+                        .connectTimeout(Duration.ofSeconds(5))
+                        .requestTimeout(Duration.ofMillis(200))
+                        .parseNodeFactory(new JsonParseNodeFactory())
+                        .build();
+
+        Assertions.assertEquals(
+                "on time", adapter.sendPrimitive(request("/fast"), null, String.class));
+        RuntimeException e =
+                Assertions.assertThrows(
+                        RuntimeException.class,
+                        () -> adapter.sendPrimitive(request("/slow"), null, String.class));
+        Assertions.assertInstanceOf(HttpTimeoutException.class, e.getCause());
+    }
+
+    @Test
+    public void setsThePoolPropertiesOnlyWhenAbsent() {
+        String poolSize = "jdk.httpclient.connectionPoolSize";
+        String keepAlive = "jdk.httpclient.keepalive.timeout";
+        String previousPoolSize = System.getProperty(poolSize);
+        String previousKeepAlive = System.getProperty(keepAlive);
+        try {
+            System.clearProperty(poolSize);
+            System.setProperty(keepAlive, "42");
+
+            JDKRequestAdapter.builder()
+                    .connectionPoolSize(16)
+                    .keepAliveTimeout(Duration.ofMinutes(2))
+                    .build();
+
+            Assertions.assertEquals("16", System.getProperty(poolSize));
+            Assertions.assertEquals("42", System.getProperty(keepAlive));
+        } finally {
+            restore(poolSize, previousPoolSize);
+            restore(keepAlive, previousKeepAlive);
+        }
+    }
+
+    @Test
+    public void rejectsInvalidSettings() {
+        Assertions.assertThrows(
+                IllegalArgumentException.class, () -> JDKRequestAdapter.builder().priority(0));
+        Assertions.assertThrows(
+                IllegalArgumentException.class,
+                () -> JDKRequestAdapter.builder().connectionPoolSize(-1));
+        Assertions.assertThrows(
+                NullPointerException.class, () -> JDKRequestAdapter.builder().version(null));
+    }
+
+    private static void restore(String name, String value) {
+        if (value == null) {
+            System.clearProperty(name);
+        } else {
+            System.setProperty(name, value);
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package io.kiota.http.jdk;
+
+import com.microsoft.kiota.HttpMethod;
+import com.microsoft.kiota.RequestInformation;
+import com.sun.net.httpserver.HttpServer;
+import io.kiota.serialization.json.JsonParseNodeFactory;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class JDKRequestAdapterCacheTest {
+
+    private static final AtomicInteger received = new AtomicInteger();
+    private static final AtomicInteger notModified = new AtomicInteger();
+    private static HttpServer server;
+    private static String baseUrl;
+
+    @BeforeAll
+    public static void startServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(0), 0);
+        server.createContext(
+                "/",
+                exchange -> {
+                    int count = received.incrementAndGet();
+                    String path = exchange.getRequestURI().getPath();
+                    exchange.getResponseHeaders().add("Content-Type", "application/json");
+                    if (path.startsWith("/fresh")) {
+                        exchange.getResponseHeaders().add("Cache-Control", "max-age=60");
+                    } else if (path.startsWith("/validated")) {
+                        exchange.getResponseHeaders().add("Cache-Control", "no-cache");
+                        exchange.getResponseHeaders().add("ETag", "\"v1\"");
+                        if ("\"v1\""
+                                .equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+                            notModified.incrementAndGet();
+                            exchange.sendResponseHeaders(304, -1);
+                            exchange.close();
+                            return;
+                        }
+                    }
+                    byte[] body =
+                            ("\"" + path + ":" + count + "\"").getBytes(StandardCharsets.UTF_8);
+                    exchange.sendResponseHeaders(200, body.length);
+                    exchange.getResponseBody().write(body);
+                    exchange.close();
+                });
+        server.start();
+        baseUrl = "http://localhost:" + server.getAddress().getPort();
+    }
+
+    @AfterAll
+    public static void stopServer() {
+        if (server != null) {
+            server.stop(0);
+        }
+    }
+
+    @BeforeEach
+    public void reset() {
+        received.set(0);
+        notModified.set(0);
+    }
+
+    private static JDKRequestAdapter adapter(long maxSize) {
+        JDKRequestAdapter adapter = new JDKRequestAdapter(null, new JsonParseNodeFactory());
+        adapter.addInterceptor(new CacheInterceptor(maxSize));
+        return adapter;
+    }
+
+    private static RequestInformation request(HttpMethod method, String path) {
+        RequestInformation requestInfo = new RequestInformation();
+        requestInfo.setUri(URI.create(baseUrl + path));
+        requestInfo.httpMethod = method;
+        return requestInfo;
+    }
+
+    private static String get(JDKRequestAdapter adapter, String path) {
+        return adapter.sendPrimitive(request(HttpMethod.GET, path), null, String.class);
+    }
+
+    @Test
+    public void servesFreshResponsesWithoutSendingTheRequest() {
+        JDKRequestAdapter adapter = adapter(1024 * 1024);
+
+        Assertions.assertEquals("/fresh:1", get(adapter, "/fresh"));
+        Assertions.assertEquals("/fresh:1", get(adapter, "/fresh"));
+        Assertions.assertEquals(
+                "/fresh:1",
+                adapter.sendPrimitiveAsync(request(HttpMethod.GET, "/fresh"), null, String.class)
+                        .join());
+        Assertions.assertEquals(1, received.get());
+    }
+
+    @Test
+    public void revalidatesStaleResponses() {
+        JDKRequestAdapter adapter = adapter(1024 * 1024);
+
+        Assertions.assertEquals("/validated:1", get(adapter, "/validated"));
+        Assertions.assertEquals("/validated:1", get(adapter, "/validated"));
+        Assertions.assertEquals(
+                "/validated:1",
+                adapter.sendPrimitiveAsync(
+                                request(HttpMethod.GET, "/validated"), null, String.class)
+                        .join());
+        Assertions.assertEquals(3, received.get());
+        Assertions.assertEquals(2, notModified.get());
+    }
+
+    @Test
+    public void invalidatesOnUnsafeRequests() {
+        JDKRequestAdapter adapter = adapter(1024 * 1024);
+
+        Assertions.assertEquals("/fresh-item:1", get(adapter, "/fresh-item"));
+        adapter.sendPrimitive(request(HttpMethod.POST, "/fresh-item"), null, String.class);
+        Assertions.assertEquals("/fresh-item:3", get(adapter, "/fresh-item"));
+    }
+
+    @Test
+    public void evictsTheLeastRecentlyUsedResponses() {
+        // room for four bodies of 12 bytes
+        JDKRequestAdapter adapter = adapter(48);
+
+        for (int i = 1; i <= 4; i++) {
+            Assertions.assertEquals("/fresh-" + i + ":" + i, get(adapter, "/fresh-" + i));
+        }
+        Assertions.assertEquals("/fresh-1:1", get(adapter, "/fresh-1"));
+        Assertions.assertEquals("/fresh-5:5", get(adapter, "/fresh-5"));
+        Assertions.assertEquals("/fresh-1:1", get(adapter, "/fresh-1"));
+        Assertions.assertEquals("/fresh-2:6", get(adapter, "/fresh-2"));
+    }
+}
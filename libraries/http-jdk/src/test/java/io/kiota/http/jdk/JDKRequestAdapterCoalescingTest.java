@@ -0,0 +1,194 @@
+package io.kiota.http.jdk;
+
+import com.microsoft.kiota.HttpMethod;
+import com.microsoft.kiota.RequestInformation;
+import com.sun.net.httpserver.HttpServer;
+import io.kiota.serialization.json.JsonParseNodeFactory;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class JDKRequestAdapterCoalescingTest {
+
+    private static final AtomicInteger received = new AtomicInteger();
+    private static final AtomicBoolean partRead = new AtomicBoolean();
+    private static CountDownLatch firstPartRead;
+    private static HttpServer server;
+    private static String baseUrl;
+
+    @BeforeAll
+    public static void startServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(0), 0);
+        server.createContext(
+                "/",
+                exchange -> {
+                    int count = received.incrementAndGet();
+                    try {
+                        // long enough for the other requests to be made meanwhile
+                        Thread.sleep(300);
+                        byte[] body =
+                                ("\"" + exchange.getRequestURI().getPath() + ":" + count + "\"")
+                                        .getBytes(StandardCharsets.UTF_8);
+                        exchange.getResponseHeaders().add("Content-Type", "application/json");
+                        exchange.sendResponseHeaders(200, body.length);
+                        exchange.getResponseBody().write(body);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    } finally {
+                        exchange.close();
+                    }
+                });
+        server.createContext(
+                "/stream",
+                exchange -> {
+                    received.incrementAndGet();
+                    try {
+                        exchange.sendResponseHeaders(200, 0);
+                        exchange.getResponseBody().write("first,".getBytes(StandardCharsets.UTF_8));
+                        exchange.getResponseBody().flush();
+                        // the rest is sent once the caller read the first part
+                        partRead.set(firstPartRead.await(5, TimeUnit.SECONDS));
+                        exchange.getResponseBody().write("second".getBytes(StandardCharsets.UTF_8));
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    } finally {
+                        exchange.close();
+                    }
+                });
+        server.setExecutor(Executors.newFixedThreadPool(8));
+        server.start();
+        baseUrl = "http://localhost:" + server.getAddress().getPort();
+    }
+
+    @AfterAll
+    public static void stopServer() {
+        if (server != null) {
+            server.stop(0);
+        }
+    }
+
+    @BeforeEach
+    public void reset() {
+        received.set(0);
+        partRead.set(false);
+        firstPartRead = new CountDownLatch(1);
+    }
+
+    private static JDKRequestAdapter adapter() {
+        JDKRequestAdapter adapter = new JDKRequestAdapter(null, new JsonParseNodeFactory());
+        adapter.addInterceptor(new CoalescingInterceptor());
+        return adapter;
+    }
+
+    private static RequestInformation request(HttpMethod method, String path) {
+        RequestInformation requestInfo = new RequestInformation();
+        requestInfo.setUri(URI.create(baseUrl + path));
+        requestInfo.httpMethod = method;
+        return requestInfo;
+    }
+
+    @Test
+    public void sendsConcurrentIdenticalRequestsOnce() throws Exception {
+        JDKRequestAdapter adapter = adapter();
+        CyclicBarrier start = new CyclicBarrier(8);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<String>> responses = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                responses.add(
+                        executor.submit(
+                                () -> {
+                                    start.await();
+                                    return adapter.sendPrimitive(
+                                            request(HttpMethod.GET, "/item"), null, String.class);
+                                }));
+            }
+            for (Future<String> response : responses) {
+                Assertions.assertEquals("/item:1", response.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+        Assertions.assertEquals(1, received.get());
+
+        Assertions.assertEquals(
+                "/item:2",
+                adapter.sendPrimitive(request(HttpMethod.GET, "/item"), null, String.class));
+    }
+
+    @Test
+    public void coalescesTheAsyncRequests() {
+        JDKRequestAdapter adapter = adapter();
+
+        List<CompletableFuture<String>> responses = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            responses.add(
+                    adapter.sendPrimitiveAsync(
+                            request(HttpMethod.GET, "/item"), null, String.class));
+        }
+        responses.add(
+                CompletableFuture.supplyAsync(
+                        () ->
+                                adapter.sendPrimitive(
+                                        request(HttpMethod.GET, "/item"), null, String.class)));
+
+        for (CompletableFuture<String> response : responses) {
+            Assertions.assertEquals("/item:1", response.join());
+        }
+        Assertions.assertEquals(1, received.get());
+    }
+
+    @Test
+    public void sendsTheRequestsWithOtherHeadersOrMethods() {
+        JDKRequestAdapter adapter = adapter();
+        RequestInformation other = request(HttpMethod.GET, "/item");
+        other.headers.add("Accept-Language", "fr");
+
+        List<CompletableFuture<String>> responses = new ArrayList<>();
+        responses.add(
+                adapter.sendPrimitiveAsync(request(HttpMethod.GET, "/item"), null, String.class));
+        responses.add(adapter.sendPrimitiveAsync(other, null, String.class));
+        responses.add(
+                adapter.sendPrimitiveAsync(request(HttpMethod.POST, "/item"), null, String.class));
+        responses.add(
+                adapter.sendPrimitiveAsync(request(HttpMethod.POST, "/item"), null, String.class));
+        responses.forEach(CompletableFuture::join);
+
+        Assertions.assertEquals(4, received.get());
+    }
+
+    @Test
+    public void streamsTheBodyWhenNoOtherCallerWaits() throws Exception {
+        JDKRequestAdapter adapter = adapter();
+
+        try (InputStream body =
+                adapter.sendPrimitive(
+                        request(HttpMethod.GET, "/stream"), null, InputStream.class)) {
+            Assertions.assertArrayEquals(
+                    "first,".getBytes(StandardCharsets.UTF_8), body.readNBytes(6));
+            firstPartRead.countDown();
+            Assertions.assertEquals(
+                    "second", new String(body.readAllBytes(), StandardCharsets.UTF_8));
+        }
+        Assertions.assertTrue(partRead.get());
+        Assertions.assertEquals(1, received.get());
+    }
+}
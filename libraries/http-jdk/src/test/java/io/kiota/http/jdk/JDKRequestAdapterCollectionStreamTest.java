@@ -0,0 +1,133 @@
+package io.kiota.http.jdk;
+
+import com.microsoft.kiota.HttpMethod;
+import com.microsoft.kiota.RequestInformation;
+import com.microsoft.kiota.serialization.Parsable;
+import com.microsoft.kiota.serialization.ParseNode;
+import com.microsoft.kiota.serialization.SerializationWriter;
+import com.sun.net.httpserver.HttpServer;
+import io.kiota.http.RequestObserver;
+import io.kiota.serialization.json.JsonStreamingParseNodeFactory;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+public class JDKRequestAdapterCollectionStreamTest {
+
+    private static final int ITEMS = 10_000;
+    private static HttpServer server;
+    private static String baseUrl;
+
+    @BeforeAll
+    public static void startServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(0), 0);
+        server.createContext(
+                "/items",
+                exchange -> {
+                    try {
+                        exchange.getResponseHeaders().add("Content-Type", "application/json");
+                        exchange.sendResponseHeaders(200, 0);
+                        try (OutputStream out = exchange.getResponseBody()) {
+                            out.write('[');
+                            for (int i = 0; i < ITEMS; i++) {
+                                if (i > 0) {
+                                    out.write(',');
+                                }
+                                out.write(
+                                        ("{\"name\":\"item-" + i + "\"}")
+                                                .getBytes(StandardCharsets.UTF_8));
+                            }
+                            out.write(']');
+                        }
+                    } finally {
+                        exchange.close();
+                    }
+                });
+        server.setExecutor(Executors.newSingleThreadExecutor());
+        server.start();
+        baseUrl = "http://localhost:" + server.getAddress().getPort();
+    }
+
+    @AfterAll
+    public static void stopServer() {
+        if (server != null) {
+            server.stop(0);
+        }
+    }
+
+    private static RequestInformation itemsRequest() {
+        RequestInformation requestInfo = new RequestInformation();
+        requestInfo.setUri(URI.create(baseUrl + "/items"));
+        requestInfo.httpMethod = HttpMethod.GET;
+        requestInfo.headers.add("Accept", "application/json");
+        return requestInfo;
+    }
+
+    @Test
+    public void streamsCollectionOfObjectValues() {
+        JDKRequestAdapter adapter =
+                new JDKRequestAdapter(null, new JsonStreamingParseNodeFactory());
+
+        try (Stream<Item> items =
+                adapter.sendCollectionStream(itemsRequest(), null, n -> new Item())) {
+            Assertions.assertEquals(ITEMS, items.count());
+        }
+        try (Stream<Item> items =
+                adapter.sendCollectionStream(itemsRequest(), null, n -> new Item())) {
+            List<String> names = items.limit(2).map(i -> i.name).collect(Collectors.toList());
+            Assertions.assertEquals(List.of("item-0", "item-1"), names);
+        }
+    }
+
+    @Test
+    public void observesTheDeserializationOnceTheElementsAreRead() {
+        JDKRequestAdapter adapter =
+                new JDKRequestAdapter(null, new JsonStreamingParseNodeFactory());
+        List<String> phases = new CopyOnWriteArrayList<>();
+        adapter.setRequestObserver(
+                (requestInfo, phase, statusCode, durationNanos) -> phases.add(phase));
+
+        Stream<Item> items = adapter.sendCollectionStream(itemsRequest(), null, n -> new Item());
+        Assertions.assertFalse(phases.contains(RequestObserver.DESERIALIZE));
+        Assertions.assertEquals(ITEMS, items.count());
+        Assertions.assertEquals(1, Collections.frequency(phases, RequestObserver.DESERIALIZE));
+
+        phases.clear();
+        try (Stream<Item> partial =
+                adapter.sendCollectionStream(itemsRequest(), null, n -> new Item())) {
+            Assertions.assertEquals(2, partial.limit(2).count());
+        }
+        Assertions.assertEquals(1, Collections.frequency(phases, RequestObserver.DESERIALIZE));
+    }
+
+    public static class Item implements Parsable {
+        String name;
+
+        @Override
+        public Map<String, Consumer<ParseNode>> getFieldDeserializers() {
+            Map<String, Consumer<ParseNode>> deserializers = new HashMap<>();
+            deserializers.put("name", n -> name = n.getStringValue());
+            return deserializers;
+        }
+
+        @Override
+        public void serialize(SerializationWriter writer) {
+            writer.writeStringValue("name", name);
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package io.kiota.http.jdk;
+
+import com.microsoft.kiota.HttpMethod;
+import com.microsoft.kiota.RequestInformation;
+import com.sun.net.httpserver.HttpServer;
+import io.kiota.serialization.json.JsonParseNodeFactory;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+public class JDKRequestAdapterDecompressionTest {
+
+    private static final String message = "compressed " + "a".repeat(10_000);
+    private static HttpServer server;
+    private static String baseUrl;
+
+    @BeforeAll
+    public static void startServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(0), 0);
+        server.createContext(
+                "/message",
+                exchange -> {
+                    String accepted = exchange.getRequestHeaders().getFirst("Accept-Encoding");
+                    String encoding = exchange.getRequestURI().getQuery();
+                    byte[] json = ("\"" + message + "\"").getBytes(StandardCharsets.UTF_8);
+                    ByteArrayOutputStream body = new ByteArrayOutputStream();
+                    if (accepted != null && accepted.contains(encoding)) {
+                        exchange.getResponseHeaders().add("Content-Encoding", encoding);
+                        try (OutputStream out =
+                                encoding.equals("gzip")
+                                        ? new GZIPOutputStream(body)
+                                        : new DeflaterOutputStream(body)) {
+                            out.write(json);
+                        }
+                    } else {
+                        body.write(json);
+                    }
+                    exchange.getResponseHeaders().add("Content-Type", "application/json");
+                    exchange.sendResponseHeaders(200, body.size());
+                    exchange.getResponseBody().write(body.toByteArray());
+                    exchange.close();
+                });
+        server.start();
+        baseUrl = "http://localhost:" + server.getAddress().getPort();
+    }
+
+    @AfterAll
+    public static void stopServer() {
+        if (server != null) {
+            server.stop(0);
+        }
+    }
+
+    private static RequestInformation request(String encoding) {
+        RequestInformation requestInfo = new RequestInformation();
+        requestInfo.setUri(URI.create(baseUrl + "/message?" + encoding));
+        requestInfo.httpMethod = HttpMethod.GET;
+        return requestInfo;
+    }
+
+    @Test
+    public void decompressesNegotiatedResponses() {
+        JDKRequestAdapter adapter =
+                JDKRequestAdapter.builder()
+                        .parseNodeFactory(new JsonParseNodeFactory())
+                        .decompressionSupported(true)
+                        .build();
+
+        for (String encoding : new String[] {"gzip", "deflate"}) {
+            Assertions.assertEquals(
+                    message, adapter.sendPrimitive(request(encoding), null, String.class));
+            Assertions.assertEquals(
+                    message,
+                    adapter.sendPrimitiveAsync(request(encoding), null, String.class).join());
+        }
+    }
+
+    @Test
+    public void doesNotNegotiateByDefault() {
+        JDKRequestAdapter adapter = new JDKRequestAdapter(null, new JsonParseNodeFactory());
+
+        RequestInformation requestInfo = request("gzip");
+        Assertions.assertEquals(message, adapter.sendPrimitive(requestInfo, null, String.class));
+        Assertions.assertFalse(requestInfo.headers.containsKey("Accept-Encoding"));
+    }
+}
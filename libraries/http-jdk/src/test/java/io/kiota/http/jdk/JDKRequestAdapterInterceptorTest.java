@@ -0,0 +1,144 @@
+package io.kiota.http.jdk;
+
+import com.microsoft.kiota.HttpMethod;
+import com.microsoft.kiota.RequestInformation;
+import com.sun.net.httpserver.HttpServer;
+import io.kiota.serialization.json.JsonParseNodeFactory;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+public class JDKRequestAdapterInterceptorTest {
+
+    private static final AtomicInteger received = new AtomicInteger();
+    private static HttpServer server;
+    private static String baseUrl;
+
+    @BeforeAll
+    public static void startServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(0), 0);
+        server.createContext(
+                "/echo",
+                exchange -> {
+                    // every other request fails
+                    boolean fail = received.getAndIncrement() % 2 == 0;
+                    byte[] body =
+                            ("\"" + exchange.getRequestBody().readAllBytes().length + "\"")
+                                    .getBytes(StandardCharsets.UTF_8);
+                    exchange.getResponseHeaders().add("Content-Type", "application/json");
+                    exchange.sendResponseHeaders(fail ? 503 : 200, body.length);
+                    exchange.getResponseBody().write(body);
+                    exchange.close();
+                });
+        server.start();
+        baseUrl = "http://localhost:" + server.getAddress().getPort();
+    }
+
+    @AfterAll
+    public static void stopServer() {
+        if (server != null) {
+            server.stop(0);
+        }
+    }
+
+    private static RequestInformation request() {
+        RequestInformation requestInfo = new RequestInformation();
+        requestInfo.setUri(URI.create(baseUrl + "/echo"));
+        requestInfo.httpMethod = HttpMethod.POST;
+        requestInfo.content = new ByteArrayInputStream(new byte[42]);
+        requestInfo.headers.add("Content-Type", "application/octet-stream");
+        return requestInfo;
+    }
+
+    @Test
+    public void callsTheInterceptorsInOrder() {
+        List<String> calls = new CopyOnWriteArrayList<>();
+        JDKRequestAdapter adapter = new JDKRequestAdapter(null, new JsonParseNodeFactory());
+        adapter.addInterceptor(new Recording("first", calls));
+        adapter.addInterceptor(new Recording("second", calls));
+        adapter.addInterceptor(new RetryOnce());
+
+        received.set(0);
+        Assertions.assertEquals("42", adapter.sendPrimitive(request(), null, String.class));
+        Assertions.assertEquals(
+                List.of("first", "second", "second:200", "first:200"), List.copyOf(calls));
+        Assertions.assertEquals(2, received.get());
+
+        calls.clear();
+        received.set(0);
+        Assertions.assertEquals(
+                "42", adapter.sendPrimitiveAsync(request(), null, String.class).join());
+        Assertions.assertEquals(
+                List.of("first async", "second async", "second:200", "first:200"),
+                List.copyOf(calls));
+        Assertions.assertEquals(2, received.get());
+    }
+
+    private static final class Recording implements Interceptor {
+        private final String name;
+        private final List<String> calls;
+
+        private Recording(String name, List<String> calls) {
+            this.name = name;
+            this.calls = calls;
+        }
+
+        @Override
+        public HttpResponse<InputStream> intercept(Chain chain)
+                throws IOException, InterruptedException {
+            calls.add(name);
+            HttpResponse<InputStream> response = chain.proceed(chain.request());
+            calls.add(name + ":" + response.statusCode());
+            return response;
+        }
+
+        @Override
+        public CompletableFuture<HttpResponse<InputStream>> interceptAsync(Chain chain) {
+            calls.add(name + " async");
+            return chain.proceedAsync(chain.request())
+                    .thenApply(
+                            response -> {
+                                calls.add(name + ":" + response.statusCode());
+                                return response;
+                            });
+        }
+    }
+
+    private static final class RetryOnce implements Interceptor {
+        @Override
+        public HttpResponse<InputStream> intercept(Chain chain)
+                throws IOException, InterruptedException {
+            HttpRequest request = chain.request();
+            HttpResponse<InputStream> response = chain.proceed(request);
+            if (response.statusCode() == 503) {
+                response.body().close();
+                response = chain.proceed(request);
+            }
+            return response;
+        }
+
+        @Override
+        public CompletableFuture<HttpResponse<InputStream>> interceptAsync(Chain chain) {
+            HttpRequest request = chain.request();
+            return chain.proceedAsync(request)
+                    .thenCompose(
+                            response ->
+                                    response.statusCode() == 503
+                                            ? chain.proceedAsync(request)
+                                            : CompletableFuture.completedFuture(response));
+        }
+    }
+}
@@ -0,0 +1,249 @@
+package io.kiota.http.jdk;
+
+import com.microsoft.kiota.HttpMethod;
+import com.microsoft.kiota.RequestInformation;
+import com.microsoft.kiota.serialization.SerializationWriter;
+import com.sun.net.httpserver.HttpServer;
+import io.kiota.http.RequestCompressionOption;
+import io.kiota.serialization.json.JsonParseNodeFactory;
+import io.kiota.serialization.json.JsonSerializationWriterFactory;
+import io.kiota.serialization.json.PooledJsonSerializationWriterFactory;
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.zip.GZIPInputStream;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+public class JDKRequestAdapterRequestBodyTest {
+
+    private static HttpServer server;
+    private static String baseUrl;
+
+    @BeforeAll
+    public static void startServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(0), 0);
+        server.createContext(
+                "/upload",
+                exchange -> {
+                    try {
+                        boolean gzip =
+                                "gzip"
+                                        .equals(
+                                                exchange.getRequestHeaders()
+                                                        .getFirst("Content-Encoding"));
+                        byte[] received =
+                                gzip
+                                        ? new GZIPInputStream(exchange.getRequestBody())
+                                                .readAllBytes()
+                                        : exchange.getRequestBody().readAllBytes();
+                        String contentLength =
+                                exchange.getRequestHeaders().getFirst("Content-Length");
+                        byte[] body =
+                                ("\""
+                                                + (gzip ? "gzip:" : "")
+                                                + (contentLength == null
+                                                        ? "chunked"
+                                                        : contentLength)
+                                                + ":"
+                                                + digest(received)
+                                                + "\"")
+                                        .getBytes(StandardCharsets.UTF_8);
+                        exchange.getResponseHeaders().add("Content-Type", "application/json");
+                        exchange.sendResponseHeaders(200, body.length);
+                        exchange.getResponseBody().write(body);
+                    } finally {
+                        exchange.close();
+                    }
+                });
+        server.setExecutor(Executors.newSingleThreadExecutor());
+        server.start();
+        baseUrl = "http://localhost:" + server.getAddress().getPort();
+    }
+
+    @AfterAll
+    public static void stopServer() {
+        if (server != null) {
+            server.stop(0);
+        }
+    }
+
+    private static String digest(byte[] content) {
+        try {
+            return Base64.getEncoder()
+                    .encodeToString(MessageDigest.getInstance("SHA-256").digest(content));
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static String upload(InputStream content) {
+        return upload(content, false);
+    }
+
+    private static String upload(InputStream content, boolean compressed) {
+        JDKRequestAdapter adapter = new JDKRequestAdapter(null, new JsonParseNodeFactory());
+        RequestInformation requestInfo = new RequestInformation();
+        requestInfo.setUri(URI.create(baseUrl + "/upload"));
+        requestInfo.httpMethod = HttpMethod.POST;
+        requestInfo.content = content;
+        requestInfo.headers.add("Content-Type", "application/octet-stream");
+        if (compressed) {
+            requestInfo.addRequestOptions(List.of(new RequestCompressionOption()));
+        }
+        return adapter.sendPrimitive(requestInfo, null, String.class);
+    }
+
+    private static byte[] payload() {
+        byte[] content = new byte[1024 * 1024 + 7];
+        Arrays.fill(content, (byte) 'k');
+        return content;
+    }
+
+    @Test
+    public void sendsInMemoryContentWithItsLength() {
+        byte[] content = payload();
+
+        Assertions.assertEquals(
+                content.length + ":" + digest(content), upload(new ByteArrayInputStream(content)));
+    }
+
+    @Test
+    public void streamsOtherContent() {
+        byte[] content = payload();
+
+        Assertions.assertEquals(
+                "chunked:" + digest(content),
+                upload(new BufferedInputStream(new ByteArrayInputStream(content))));
+    }
+
+    @Test
+    public void sendsSerializedContentWithItsLength() throws IOException {
+        String text = new String(payload(), StandardCharsets.UTF_8);
+        byte[] expected = ("\"" + text + "\"").getBytes(StandardCharsets.UTF_8);
+        SerializationWriter writer =
+                new JsonSerializationWriterFactory().getSerializationWriter("application/json");
+        writer.writeStringValue(null, text);
+        InputStream content = writer.getSerializedContent();
+        writer.close();
+
+        Assertions.assertEquals(expected.length + ":" + digest(expected), upload(content));
+    }
+
+    @Test
+    public void closesPooledContentOnceSent() throws IOException {
+        byte[] expected = "\"kiota\"".getBytes(StandardCharsets.UTF_8);
+        SerializationWriter writer =
+                new PooledJsonSerializationWriterFactory()
+                        .getSerializationWriter("application/json");
+        writer.writeStringValue(null, "kiota");
+        InputStream content = writer.getSerializedContent();
+        writer.close();
+
+        Assertions.assertEquals(expected.length + ":" + digest(expected), upload(content));
+        Assertions.assertEquals(-1, content.read());
+    }
+
+    @Test
+    public void compressesStreamedContent() {
+        byte[] content = payload();
+
+        Assertions.assertEquals(
+                "gzip:chunked:" + digest(content),
+                upload(new BufferedInputStream(new ByteArrayInputStream(content)), true));
+    }
+
+    @Test
+    public void compressesSerializedContent() throws IOException {
+        String text = new String(payload(), StandardCharsets.UTF_8);
+        byte[] expected = ("\"" + text + "\"").getBytes(StandardCharsets.UTF_8);
+        SerializationWriter writer =
+                new PooledJsonSerializationWriterFactory()
+                        .getSerializationWriter("application/json");
+        writer.writeStringValue(null, text);
+        InputStream content = writer.getSerializedContent();
+        writer.close();
+
+        Assertions.assertEquals("gzip:chunked:" + digest(expected), upload(content, true));
+        Assertions.assertEquals(-1, content.read());
+    }
+
+    @Test
+    public void sendsInMemoryContentAgain() {
+        HttpRequest.BodyPublisher body = body(new ByteArrayInputStream(payload()));
+
+        Assertions.assertEquals(payload().length, read(body).join());
+        Assertions.assertEquals(payload().length, read(body).join());
+    }
+
+    @Test
+    public void failsToSendStreamedContentAgain() {
+        HttpRequest.BodyPublisher body =
+                body(new BufferedInputStream(new ByteArrayInputStream(payload())));
+
+        Assertions.assertEquals(payload().length, read(body).join());
+        Assertions.assertThrows(
+                IllegalStateException.class,
+                () -> {
+                    try {
+                        read(body).join();
+                    } catch (CompletionException e) {
+                        throw e.getCause();
+                    }
+                });
+    }
+
+    private static HttpRequest.BodyPublisher body(InputStream content) {
+        RequestInformation requestInfo = new RequestInformation();
+        requestInfo.setUri(URI.create(baseUrl + "/upload"));
+        requestInfo.httpMethod = HttpMethod.POST;
+        requestInfo.content = content;
+        return HttpRequestCompatibility.convert(requestInfo).bodyPublisher().orElseThrow();
+    }
+
+    // subscribes like the client does for each send, counting the bytes published
+    private static CompletableFuture<Integer> read(HttpRequest.BodyPublisher body) {
+        CompletableFuture<Integer> result = new CompletableFuture<>();
+        body.subscribe(
+                new Flow.Subscriber<>() {
+                    private int length;
+
+                    @Override
+                    public void onSubscribe(Flow.Subscription subscription) {
+                        subscription.request(Long.MAX_VALUE);
+                    }
+
+                    @Override
+                    public void onNext(ByteBuffer item) {
+                        length += item.remaining();
+                    }
+
+                    @Override
+                    public void onError(Throwable throwable) {
+                        result.completeExceptionally(throwable);
+                    }
+
+                    @Override
+                    public void onComplete() {
+                        result.complete(length);
+                    }
+                });
+        return result;
+    }
+}
@@ -0,0 +1,218 @@
+package io.kiota.http.jdk;
+
+import com.microsoft.kiota.ApiException;
+import com.microsoft.kiota.HttpMethod;
+import com.microsoft.kiota.RequestInformation;
+import com.microsoft.kiota.serialization.SerializationWriter;
+import com.sun.net.httpserver.HttpServer;
+import io.kiota.http.RetryOption;
+import io.kiota.serialization.json.JsonParseNodeFactory;
+import io.kiota.serialization.json.PooledJsonSerializationWriterFactory;
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class JDKRequestAdapterRetryTest {
+
+    private static final AtomicInteger received = new AtomicInteger();
+    // the number of requests failing before one succeeds
+    private static final AtomicInteger failures = new AtomicInteger();
+    private static volatile String retryAfter;
+    private static volatile int failureStatus;
+    private static HttpServer server;
+    private static String baseUrl;
+
+    @BeforeAll
+    public static void startServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(0), 0);
+        server.createContext(
+                "/limited",
+                exchange -> {
+                    boolean fail = received.incrementAndGet() <= failures.get();
+                    byte[] body =
+                            ("\"" + exchange.getRequestBody().readAllBytes().length + "\"")
+                                    .getBytes(StandardCharsets.UTF_8);
+                    exchange.getResponseHeaders().add("Content-Type", "application/json");
+                    if (fail && retryAfter != null) {
+                        exchange.getResponseHeaders().add("Retry-After", retryAfter);
+                    }
+                    exchange.sendResponseHeaders(fail ? failureStatus : 200, body.length);
+                    exchange.getResponseBody().write(body);
+                    exchange.close();
+                });
+        server.start();
+        baseUrl = "http://localhost:" + server.getAddress().getPort();
+    }
+
+    @AfterAll
+    public static void stopServer() {
+        if (server != null) {
+            server.stop(0);
+        }
+    }
+
+    @BeforeEach
+    public void reset() {
+        received.set(0);
+        retryAfter = null;
+        failureStatus = 429;
+    }
+
+    private static JDKRequestAdapter adapter() {
+        RetryOption option = new RetryOption();
+        option.setDelay(Duration.ofMillis(5));
+        option.setMaxDelay(Duration.ofMillis(100));
+        JDKRequestAdapter adapter = new JDKRequestAdapter(null, new JsonParseNodeFactory());
+        adapter.addInterceptor(new RetryInterceptor(option));
+        return adapter;
+    }
+
+    private static RequestInformation request(InputStream content) {
+        RequestInformation requestInfo = new RequestInformation();
+        requestInfo.setUri(URI.create(baseUrl + "/limited"));
+        requestInfo.httpMethod = HttpMethod.POST;
+        requestInfo.content = content;
+        requestInfo.headers.add("Content-Type", "application/json");
+        return requestInfo;
+    }
+
+    private static InputStream serialized() throws IOException {
+        SerializationWriter writer =
+                new PooledJsonSerializationWriterFactory()
+                        .getSerializationWriter("application/json");
+        writer.writeStringValue(null, "kiota");
+        InputStream content = writer.getSerializedContent();
+        writer.close();
+        return content;
+    }
+
+    @Test
+    public void replaysTheContentUntilTheRequestSucceeds() throws IOException {
+        failures.set(2);
+
+        Assertions.assertEquals(
+                "7", adapter().sendPrimitive(request(serialized()), null, String.class));
+        Assertions.assertEquals(3, received.get());
+
+        received.set(0);
+        retryAfter = "0";
+        Assertions.assertEquals(
+                "42",
+                adapter()
+                        .sendPrimitiveAsync(
+                                request(new ByteArrayInputStream(new byte[42])), null, String.class)
+                        .join());
+        Assertions.assertEquals(3, received.get());
+    }
+
+    @Test
+    public void failsOnceTheRetriesAreExhausted() {
+        failures.set(10);
+
+        ApiException e =
+                Assertions.assertThrows(
+                        ApiException.class,
+                        () -> adapter().sendPrimitive(request(null), null, String.class));
+        Assertions.assertEquals(429, e.getResponseStatusCode());
+        Assertions.assertEquals(4, received.get());
+
+        received.set(0);
+        CompletionException async =
+                Assertions.assertThrows(
+                        CompletionException.class,
+                        () ->
+                                adapter()
+                                        .sendPrimitiveAsync(request(null), null, String.class)
+                                        .join());
+        Assertions.assertInstanceOf(ApiException.class, async.getCause());
+        Assertions.assertEquals(4, received.get());
+    }
+
+    @Test
+    public void jittersTheFirstDelay() {
+        RetryOption option = new RetryOption();
+        option.setDelay(Duration.ofMillis(100));
+        Set<Long> delays = new HashSet<>();
+        for (int i = 0; i < 100; i++) {
+            long delay = option.nextDelayMillis(0L, null);
+            Assertions.assertTrue(delay >= 100 && delay <= 300, "delay " + delay);
+            delays.add(delay);
+        }
+        Assertions.assertTrue(delays.size() > 1);
+    }
+
+    @Test
+    public void doesNotRetryWhenAskedToWaitTooLong() {
+        failures.set(1);
+        retryAfter = "3600";
+
+        Assertions.assertThrows(
+                ApiException.class,
+                () -> adapter().sendPrimitive(request(null), null, String.class));
+        Assertions.assertEquals(1, received.get());
+    }
+
+    @Test
+    public void doesNotRetryStreamedContent() {
+        failures.set(1);
+
+        Assertions.assertThrows(
+                ApiException.class,
+                () ->
+                        adapter()
+                                .sendPrimitive(
+                                        request(
+                                                new BufferedInputStream(
+                                                        new ByteArrayInputStream(new byte[42]))),
+                                        null,
+                                        String.class));
+        Assertions.assertEquals(1, received.get());
+    }
+
+    @Test
+    public void retriesTheGatewayTimeoutsOfTheIdempotentRequestsOnly() {
+        failures.set(1);
+        failureStatus = 504;
+
+        ApiException e =
+                Assertions.assertThrows(
+                        ApiException.class,
+                        () -> adapter().sendPrimitive(request(null), null, String.class));
+        Assertions.assertEquals(504, e.getResponseStatusCode());
+        Assertions.assertEquals(1, received.get());
+
+        received.set(0);
+        RequestInformation requestInfo = request(null);
+        requestInfo.httpMethod = HttpMethod.GET;
+        Assertions.assertEquals("0", adapter().sendPrimitive(requestInfo, null, String.class));
+        Assertions.assertEquals(2, received.get());
+    }
+
+    @Test
+    public void appliesTheOptionOfTheRequest() {
+        failures.set(1);
+        RetryOption disabled = new RetryOption();
+        disabled.setMaxRetries(0);
+        RequestInformation requestInfo = request(null);
+        requestInfo.addRequestOptions(List.of(disabled));
+
+        Assertions.assertThrows(
+                ApiException.class, () -> adapter().sendPrimitive(requestInfo, null, String.class));
+        Assertions.assertEquals(1, received.get());
+    }
+}
@@ -0,0 +1,205 @@
+package io.kiota.http.jdk;
+
+import com.microsoft.kiota.ApiException;
+import com.microsoft.kiota.HttpMethod;
+import com.microsoft.kiota.RequestInformation;
+import com.sun.net.httpserver.HttpServer;
+import io.kiota.http.RequestObserver;
+import io.kiota.serialization.json.JsonParseNodeFactory;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.api.trace.propagation.W3CTraceContextPropagator;
+import io.opentelemetry.context.Scope;
+import io.opentelemetry.context.propagation.ContextPropagators;
+import io.opentelemetry.sdk.OpenTelemetrySdk;
+import io.opentelemetry.sdk.testing.exporter.InMemorySpanExporter;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SimpleSpanProcessor;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class JDKRequestAdapterTracingTest {
+
+    private static final InMemorySpanExporter exporter = InMemorySpanExporter.create();
+    private static final OpenTelemetrySdk openTelemetry =
+            OpenTelemetrySdk.builder()
+                    .setTracerProvider(
+                            SdkTracerProvider.builder()
+                                    .addSpanProcessor(SimpleSpanProcessor.create(exporter))
+                                    .build())
+                    .setPropagators(
+                            ContextPropagators.create(W3CTraceContextPropagator.getInstance()))
+                    .build();
+    private static HttpServer server;
+    private static String baseUrl;
+
+    @BeforeAll
+    public static void startServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(0), 0);
+        server.createContext(
+                "/items",
+                exchange -> {
+                    // the traceparent header received, to check that it is sent
+                    String traceParent = exchange.getRequestHeaders().getFirst("traceparent");
+                    byte[] body = ("\"" + traceParent + "\"").getBytes(StandardCharsets.UTF_8);
+                    int status =
+                            exchange.getRequestURI().getPath().endsWith("/missing") ? 404 : 200;
+                    exchange.getResponseHeaders().add("Content-Type", "application/json");
+                    exchange.sendResponseHeaders(status, body.length);
+                    exchange.getResponseBody().write(body);
+                    exchange.close();
+                });
+        server.start();
+        baseUrl = "http://localhost:" + server.getAddress().getPort();
+    }
+
+    @AfterAll
+    public static void stopServer() {
+        if (server != null) {
+            server.stop(0);
+        }
+        openTelemetry.close();
+    }
+
+    @BeforeEach
+    public void reset() {
+        exporter.reset();
+    }
+
+    private static JDKRequestAdapter adapter() {
+        JDKRequestAdapter adapter = new JDKRequestAdapter(null, new JsonParseNodeFactory());
+        adapter.setBaseUrl(baseUrl);
+        adapter.setOpenTelemetry(openTelemetry);
+        return adapter;
+    }
+
+    private static RequestInformation request(String id) {
+        RequestInformation requestInfo = new RequestInformation();
+        requestInfo.httpMethod = HttpMethod.GET;
+        requestInfo.urlTemplate = "{+baseurl}/items/{id}";
+        requestInfo.pathParameters.put("id", id);
+        return requestInfo;
+    }
+
+    private static String traceParent(SpanContext context) {
+        return "00-"
+                + context.getTraceId()
+                + "-"
+                + context.getSpanId()
+                + "-"
+                + context.getTraceFlags().asHex();
+    }
+
+    private static void assertTraced(String traceParent) {
+        Map<String, SpanData> spans =
+                exporter.getFinishedSpanItems().stream()
+                        .collect(Collectors.toMap(SpanData::getName, Function.identity()));
+        SpanData client = spans.get("GET {+baseurl}/items/{id}");
+        Assertions.assertEquals(SpanKind.CLIENT, client.getKind());
+        Assertions.assertEquals(
+                200L,
+                client.getAttributes().get(AttributeKey.longKey("http.response.status_code")));
+        Assertions.assertEquals(
+                baseUrl + "/items/1",
+                client.getAttributes().get(AttributeKey.stringKey("url.full")));
+        Assertions.assertEquals(traceParent(client.getSpanContext()), traceParent);
+        for (String phase :
+                List.of(
+                        RequestObserver.CONVERT,
+                        RequestObserver.STATUS,
+                        RequestObserver.DESERIALIZE)) {
+            Assertions.assertEquals(client.getSpanId(), spans.get(phase).getParentSpanId());
+            Assertions.assertEquals(client.getTraceId(), spans.get(phase).getTraceId());
+        }
+        Assertions.assertEquals(4, spans.size());
+    }
+
+    @Test
+    public void tracesTheRequests() {
+        String traceParent = adapter().sendPrimitive(request("1"), null, String.class);
+
+        assertTraced(traceParent);
+    }
+
+    @Test
+    public void tracesTheAsyncRequests() {
+        String traceParent = adapter().sendPrimitiveAsync(request("1"), null, String.class).join();
+
+        assertTraced(traceParent);
+    }
+
+    @Test
+    public void tracesTheFailedRequests() {
+        Assertions.assertThrows(
+                ApiException.class,
+                () -> adapter().sendPrimitive(request("missing"), new HashMap<>(), String.class));
+
+        SpanData client =
+                exporter.getFinishedSpanItems().stream()
+                        .filter(span -> span.getKind() == SpanKind.CLIENT)
+                        .findFirst()
+                        .orElseThrow();
+        Assertions.assertEquals(StatusCode.ERROR, client.getStatus().getStatusCode());
+        Assertions.assertEquals(
+                404L,
+                client.getAttributes().get(AttributeKey.longKey("http.response.status_code")));
+        Assertions.assertEquals("exception", client.getEvents().get(0).getName());
+    }
+
+    @Test
+    public void keepsTheTraceParentOfTheRequest() {
+        RequestInformation requestInfo = request("1");
+        requestInfo.headers.add(
+                "traceparent", "00-0123456789abcdef0123456789abcdef-0123456789abcdef-01");
+
+        Assertions.assertEquals(
+                "00-0123456789abcdef0123456789abcdef-0123456789abcdef-01",
+                adapter().sendPrimitive(requestInfo, null, String.class));
+    }
+
+    @Test
+    public void propagatesWithThePropagatorsOfTheOpenTelemetryInstance() {
+        JDKRequestAdapter adapter = new JDKRequestAdapter(null, new JsonParseNodeFactory());
+        adapter.setBaseUrl(baseUrl);
+        adapter.setOpenTelemetry(
+                OpenTelemetrySdk.builder()
+                        .setTracerProvider(
+                                SdkTracerProvider.builder()
+                                        .addSpanProcessor(SimpleSpanProcessor.create(exporter))
+                                        .build())
+                        .build());
+
+        Assertions.assertEquals("null", adapter.sendPrimitive(request("1"), null, String.class));
+        Assertions.assertEquals(4, exporter.getFinishedSpanItems().size());
+    }
+
+    @Test
+    public void sendsNoTraceParentWhenNotTracing() {
+        JDKRequestAdapter adapter = new JDKRequestAdapter(null, new JsonParseNodeFactory());
+        adapter.setBaseUrl(baseUrl);
+        Span span = openTelemetry.getTracer("test").spanBuilder("caller").startSpan();
+        String traceParent;
+        try (Scope scope = span.makeCurrent()) {
+            traceParent = adapter.sendPrimitive(request("1"), null, String.class);
+        } finally {
+            span.end();
+        }
+
+        Assertions.assertEquals("null", traceParent);
+    }
+}
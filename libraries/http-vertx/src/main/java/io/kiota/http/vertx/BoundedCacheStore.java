@@ -0,0 +1,81 @@
+package io.kiota.http.vertx;
+
+import io.vertx.core.Future;
+import io.vertx.ext.web.client.impl.cache.CacheKey;
+import io.vertx.ext.web.client.impl.cache.CachedHttpResponse;
+import io.vertx.ext.web.client.spi.CacheStore;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+
+/**
+ * A store of the responses cached by a {@code CachingWebClient}, in memory and bounded in size:
+ * the least recently used responses are evicted once the bodies exceed the size of the store,
+ * and a response larger than a quarter of the store isn't stored.
+ */
+public class BoundedCacheStore implements CacheStore {
+    private final long maxSize;
+    private final LinkedHashMap<CacheKey, CachedHttpResponse> entries =
+            new LinkedHashMap<>(16, 0.75f, true);
+    private long size;
+
+    /**
+     * Creates a store.
+     * @param maxSize the maximum size of the cached bodies, in bytes.
+     */
+    public BoundedCacheStore(final long maxSize) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("maxSize must be positive");
+        }
+        this.maxSize = maxSize;
+    }
+
+    @Override
+    public synchronized Future<CachedHttpResponse> get(final CacheKey key) {
+        return Future.succeededFuture(entries.get(key));
+    }
+
+    @Override
+    public synchronized Future<CachedHttpResponse> set(
+            final CacheKey key, final CachedHttpResponse response) {
+        final long length = length(response);
+        if (length > maxSize / 4) {
+            remove(key);
+            return Future.succeededFuture(response);
+        }
+        final CachedHttpResponse previous = entries.put(key, response);
+        if (previous != null) {
+            size -= length(previous);
+        }
+        size += length;
+        final Iterator<CachedHttpResponse> eldest = entries.values().iterator();
+        while (size > maxSize && eldest.hasNext()) {
+            size -= length(eldest.next());
+            eldest.remove();
+        }
+        return Future.succeededFuture(response);
+    }
+
+    @Override
+    public synchronized Future<Void> delete(final CacheKey key) {
+        remove(key);
+        return Future.succeededFuture();
+    }
+
+    @Override
+    public synchronized Future<Void> flush() {
+        entries.clear();
+        size = 0L;
+        return Future.succeededFuture();
+    }
+
+    private void remove(final CacheKey key) {
+        final CachedHttpResponse previous = entries.remove(key);
+        if (previous != null) {
+            size -= length(previous);
+        }
+    }
+
+    private static long length(final CachedHttpResponse response) {
+        return response.getBody() == null ? 0L : response.getBody().length();
+    }
+}
@@ -0,0 +1,63 @@
+package io.kiota.http.vertx;
+
+import io.vertx.core.buffer.Buffer;
+import java.io.InputStream;
+import java.util.Objects;
+
+/** Reads the bytes of a Buffer in place, without copying them upfront. */
+class BufferInputStream extends InputStream {
+    private final Buffer buffer;
+    private int position;
+    private int mark;
+
+    BufferInputStream(final Buffer buffer) {
+        this.buffer = buffer;
+    }
+
+    @Override
+    public int read() {
+        return position < buffer.length() ? buffer.getByte(position++) & 0xff : -1;
+    }
+
+    @Override
+    public int read(final byte[] b, final int off, final int len) {
+        Objects.checkFromIndexSize(off, len, b.length);
+        if (len == 0) {
+            return 0;
+        }
+        final int read = Math.min(len, buffer.length() - position);
+        if (read <= 0) {
+            return -1;
+        }
+        buffer.getBytes(position, position + read, b, off);
+        position += read;
+        return read;
+    }
+
+    @Override
+    public long skip(final long n) {
+        final int skipped = (int) Math.max(0L, Math.min(n, buffer.length() - position));
+        position += skipped;
+        return skipped;
+    }
+
+    @Override
+    public int available() {
+        return buffer.length() - position;
+    }
+
+    @Override
+    public boolean markSupported() {
+        return true;
+    }
+
+    @Override
+    public void mark(final int readlimit) {
+        mark = position;
+    }
+
+    @Override
+    public void reset() {
+        position = mark;
+    }
+}
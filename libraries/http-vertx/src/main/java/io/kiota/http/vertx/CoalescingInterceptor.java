@@ -0,0 +1,71 @@
+package io.kiota.http.vertx;
+
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.ext.web.client.HttpRequest;
+import io.vertx.ext.web.client.HttpResponse;
+import io.vertx.ext.web.codec.BodyCodec;
+import jakarta.annotation.Nonnull;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Sends the identical GET and HEAD requests made concurrently only once, the callers waiting
+ * for the same response. Requests are identical when they have the same URI and headers, so
+ * the response can't vary between them. The responses streamed to an InputStream can't be
+ * shared, their requests are always sent.
+ */
+public class CoalescingInterceptor implements Interceptor {
+    private final ConcurrentHashMap<String, Future<?>> inFlight = new ConcurrentHashMap<>();
+
+    @Override
+    @Nonnull
+    @SuppressWarnings("unchecked")
+    public <T> Future<HttpResponse<T>> intercept(@Nonnull final Chain<T> chain) {
+        final HttpRequest<T> request = chain.request();
+        if (!isCoalesced(chain)) {
+            return chain.proceed(request);
+        }
+        final String key = key(request);
+        final Promise<HttpResponse<T>> created = Promise.promise();
+        final Future<?> existing = inFlight.putIfAbsent(key, created.future());
+        if (existing != null) {
+            // the body is a buffer, read by each caller from its start
+            return (Future<HttpResponse<T>>) existing;
+        }
+        chain.proceed(request)
+                .onComplete(
+                        result -> {
+                            // the requests made from now on are sent again
+                            inFlight.remove(key, created.future());
+                            created.handle(result);
+                        });
+        return created.future();
+    }
+
+    private static boolean isCoalesced(final Chain<?> chain) {
+        final HttpRequest<?> request = chain.request();
+        final String method = request.method().name();
+        return (method.equals("GET") || method.equals("HEAD"))
+                && chain.requestInformation().content == null
+                && request.bodyCodec() == BodyCodec.buffer();
+    }
+
+    private static String key(final HttpRequest<?> request) {
+        final Map<String, List<String>> headers = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        for (final String name : request.headers().names()) {
+            headers.put(name, request.headers().getAll(name));
+        }
+        return request.method().name()
+                + " "
+                + (Boolean.TRUE.equals(request.ssl()) ? "https://" : "http://")
+                + request.host()
+                + ":"
+                + request.port()
+                + request.uri()
+                + " "
+                + headers;
+    }
+}
@@ -0,0 +1,162 @@
+package io.kiota.http.vertx;
+
+import io.netty.buffer.Unpooled;
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.buffer.impl.BufferImpl;
+import io.vertx.core.streams.ReadStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Adapts an InputStream to a ReadStream, the chunks are read off the event loop when the
+ * consumer asks for them, so that the content is never held in memory at once.
+ */
+class InputStreamReadStream implements ReadStream<Buffer> {
+    private static final int chunkSize = 8192;
+
+    private final InputStream input;
+    private Context context;
+    private Handler<Buffer> handler;
+    private Handler<Void> endHandler;
+    private Handler<Throwable> exceptionHandler;
+    private long demand = Long.MAX_VALUE;
+    private boolean reading;
+    private boolean ended;
+
+    InputStreamReadStream(final InputStream input) {
+        this.input = input;
+    }
+
+    @Override
+    public synchronized ReadStream<Buffer> exceptionHandler(final Handler<Throwable> handler) {
+        this.exceptionHandler = handler;
+        return this;
+    }
+
+    @Override
+    public ReadStream<Buffer> handler(final Handler<Buffer> handler) {
+        synchronized (this) {
+            this.handler = handler;
+            if (context == null) {
+                context = Vertx.currentContext();
+            }
+        }
+        readNext();
+        return this;
+    }
+
+    @Override
+    public synchronized ReadStream<Buffer> pause() {
+        demand = 0L;
+        return this;
+    }
+
+    @Override
+    public ReadStream<Buffer> resume() {
+        return fetch(Long.MAX_VALUE);
+    }
+
+    @Override
+    public ReadStream<Buffer> fetch(final long amount) {
+        synchronized (this) {
+            demand += amount;
+            if (demand < 0L) {
+                demand = Long.MAX_VALUE;
+            }
+        }
+        readNext();
+        return this;
+    }
+
+    @Override
+    public synchronized ReadStream<Buffer> endHandler(final Handler<Void> endHandler) {
+        this.endHandler = endHandler;
+        return this;
+    }
+
+    private void readNext() {
+        while (true) {
+            synchronized (this) {
+                if (reading || ended || demand == 0L || handler == null) {
+                    return;
+                }
+                reading = true;
+            }
+            if (context != null) {
+                ThreadingCompatibility.executeBlocking(context, this::readChunk)
+                        .onComplete(
+                                result -> {
+                                    if (deliver(result)) {
+                                        readNext();
+                                    }
+                                });
+                return;
+            }
+            // not called by Vert.x, the caller can block
+            if (!deliver(read())) {
+                return;
+            }
+        }
+    }
+
+    private Buffer readChunk() throws IOException {
+        // the chunk handed to the consumer wraps the array read into, without copying it
+        final byte[] chunk = new byte[chunkSize];
+        final int read = input.read(chunk);
+        return read < 0 ? null : BufferImpl.buffer(Unpooled.wrappedBuffer(chunk, 0, read));
+    }
+
+    private AsyncResult<Buffer> read() {
+        try {
+            return Future.succeededFuture(readChunk());
+        } catch (IOException e) {
+            return Future.failedFuture(e);
+        }
+    }
+
+    // returns true when more chunks should be read
+    private boolean deliver(final AsyncResult<Buffer> result) {
+        final Handler<Buffer> dataHandler;
+        synchronized (this) {
+            reading = false;
+            dataHandler = handler;
+            if (result.succeeded() && result.result() != null) {
+                if (demand != Long.MAX_VALUE) {
+                    demand--;
+                }
+            } else {
+                ended = true;
+            }
+        }
+        if (result.failed()) {
+            close();
+            if (exceptionHandler != null) {
+                exceptionHandler.handle(result.cause());
+            }
+            return false;
+        } else if (result.result() == null) {
+            close();
+            if (endHandler != null) {
+                endHandler.handle(null);
+            }
+            return false;
+        }
+        if (dataHandler != null) {
+            dataHandler.handle(result.result());
+        }
+        return true;
+    }
+
+    private void close() {
+        try {
+            input.close();
+        } catch (IOException e) {
+            // the content has been read, nothing to recover
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package io.kiota.http.vertx;
+
+import com.microsoft.kiota.RequestInformation;
+import io.vertx.core.Future;
+import io.vertx.ext.web.client.HttpRequest;
+import io.vertx.ext.web.client.HttpResponse;
+import jakarta.annotation.Nonnull;
+
+/**
+ * Observes, modifies or short-circuits the requests sent by a {@link VertXRequestAdapter}, and
+ * their responses. The interceptors added to an adapter are called in order, the first one
+ * being the closest to the caller and the last one sending the request with the client. The
+ * blocking methods of the adapter wait for the same futures as the async ones, interceptors
+ * must not block.
+ */
+public interface Interceptor {
+
+    /**
+     * Sends a request, usually by calling {@link Chain#proceed}.
+     * @param chain the request and the rest of the chain.
+     * @param <T> the type of the body of the response, a {@code Buffer} or {@code Void} when the
+     *     body is streamed to an InputStream.
+     * @return the response.
+     */
+    @Nonnull
+    <T> Future<HttpResponse<T>> intercept(@Nonnull Chain<T> chain);
+
+    /**
+     * The request being sent, and the interceptors after the current one.
+     * @param <T> the type of the body of the response.
+     */
+    interface Chain<T> {
+
+        /**
+         * The request, as converted from the request information or given by the previous
+         * interceptor.
+         * @return the request.
+         */
+        @Nonnull
+        HttpRequest<T> request();
+
+        /**
+         * The request information the request has been converted from, its options can
+         * configure the interceptors.
+         * @return the request information.
+         */
+        @Nonnull
+        RequestInformation requestInformation();
+
+        /**
+         * Sends the request to the next interceptor, or with the client for the last one. A
+         * request with an in memory content can be sent more than once, e.g. to retry it.
+         * @param request the request to send.
+         * @return the response.
+         */
+        @Nonnull
+        Future<HttpResponse<T>> proceed(@Nonnull HttpRequest<T> request);
+    }
+}
@@ -0,0 +1,78 @@
+package io.kiota.http.vertx;
+
+import io.kiota.http.RetryOption;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.ext.web.client.HttpResponse;
+import jakarta.annotation.Nonnull;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Retries the requests failing with a 429 or 503 status code, or with a 504 one for the
+ * idempotent methods, as configured by the {@link RetryOption} of the request or of the
+ * interceptor. Only the requests without content,
+ * or with an in memory content (like the serialized ones) are retried, the content is sent
+ * again as is.
+ */
+public class RetryInterceptor implements Interceptor {
+    private static final String retryAfterHeaderKey = "Retry-After";
+    @Nonnull private final Vertx vertx;
+    @Nonnull private final RetryOption defaults;
+
+    /**
+     * Creates an interceptor with the default {@link RetryOption}.
+     * @param vertx the Vert.x instance timing the retries.
+     */
+    public RetryInterceptor(@Nonnull final Vertx vertx) {
+        this(vertx, new RetryOption());
+    }
+
+    /**
+     * Creates an interceptor.
+     * @param vertx the Vert.x instance timing the retries.
+     * @param defaults the options of the requests without a {@link RetryOption}.
+     */
+    public RetryInterceptor(@Nonnull final Vertx vertx, @Nonnull final RetryOption defaults) {
+        this.vertx = Objects.requireNonNull(vertx, "parameter vertx cannot be null");
+        this.defaults = Objects.requireNonNull(defaults, "parameter defaults cannot be null");
+    }
+
+    @Override
+    @Nonnull
+    public <T> Future<HttpResponse<T>> intercept(@Nonnull final Chain<T> chain) {
+        if (!RetryOption.isReplayable(chain.requestInformation())) {
+            return chain.proceed(chain.request());
+        }
+        return proceed(chain, RetryOption.of(chain.requestInformation(), defaults), 0, 0L);
+    }
+
+    private <T> Future<HttpResponse<T>> proceed(
+            final Chain<T> chain,
+            final RetryOption option,
+            final int retries,
+            final long previous) {
+        final Future<HttpResponse<T>> response = chain.proceed(chain.request());
+        return response.transform(
+                result -> {
+                    if (result.failed()) {
+                        return response;
+                    }
+                    final HttpResponse<?> received = result.result();
+                    if (retries >= option.getMaxRetries()
+                            || !RetryOption.isRetried(
+                                    chain.requestInformation(), received.statusCode())) {
+                        return response;
+                    }
+                    final long delay =
+                            option.nextDelayMillis(
+                                    previous, received.getHeader(retryAfterHeaderKey));
+                    if (delay < 0) {
+                        return response;
+                    }
+                    // a timer can't be set with no delay
+                    return vertx.timer(Math.max(1L, delay), TimeUnit.MILLISECONDS)
+                            .compose(waited -> proceed(chain, option, retries + 1, delay));
+                });
+    }
+}
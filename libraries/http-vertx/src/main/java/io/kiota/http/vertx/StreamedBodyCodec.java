@@ -0,0 +1,198 @@
+package io.kiota.http.vertx;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.Promise;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpResponseHead;
+import io.vertx.core.streams.WriteStream;
+import io.vertx.ext.web.client.WebClient;
+import io.vertx.ext.web.client.impl.ClientPhase;
+import io.vertx.ext.web.client.impl.HttpContext;
+import io.vertx.ext.web.client.impl.WebClientInternal;
+import io.vertx.ext.web.codec.BodyCodec;
+import io.vertx.ext.web.codec.spi.BodyStream;
+import java.util.Collections;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Pipes the body of a successful response to the stream read by the caller, as it is received,
+ * and receives the body of the other responses in memory. The status code is checked when the
+ * head of the response is received by an interceptor of the web client, see {@link
+ * #install(WebClient)}. Without it, the body is received in memory and the status code checked
+ * once the response is complete.
+ */
+final class StreamedBodyCodec implements BodyCodec<Void> {
+    // the web clients the interceptor has been added to, once for all the adapters using them
+    private static final Set<WebClient> installed =
+            Collections.synchronizedSet(Collections.newSetFromMap(new WeakHashMap<>()));
+
+    private final WriteStream<Buffer> body;
+    private final CompletableFuture<HttpResponseHead> head;
+    // the head of the response being received, for each attempt (e.g. when retried)
+    private volatile HttpResponseHead received;
+    private volatile Buffer buffered;
+
+    /**
+     * @param body the stream the body of a successful response is written to.
+     * @param head completed with the head of a successful response, before its body is piped.
+     */
+    StreamedBodyCodec(
+            final WriteStream<Buffer> body, final CompletableFuture<HttpResponseHead> head) {
+        this.body = body;
+        this.head = head;
+    }
+
+    /** Lets the codecs of the requests sent with the client check the heads of the responses. */
+    static void install(final WebClient client) {
+        if (client instanceof WebClientInternal && installed.add(client)) {
+            ((WebClientInternal) client).addInterceptor(StreamedBodyCodec::intercept);
+        }
+    }
+
+    private static void intercept(final HttpContext<?> context) {
+        if (context.phase() == ClientPhase.RECEIVE_RESPONSE
+                && context.request().bodyCodec() instanceof StreamedBodyCodec) {
+            ((StreamedBodyCodec) context.request().bodyCodec()).received = context.clientResponse();
+        }
+        context.next();
+    }
+
+    static boolean isSuccess(final int statusCode) {
+        return statusCode >= 200 && statusCode < 300;
+    }
+
+    /** The body of the last response received in memory, null when it was piped. */
+    Buffer buffered() {
+        return buffered;
+    }
+
+    @Override
+    public void create(final Handler<AsyncResult<BodyStream<Void>>> handler) {
+        final HttpResponseHead response = received;
+        received = null;
+        buffered = null;
+        if (response != null && isSuccess(response.statusCode()) && head.complete(response)) {
+            handler.handle(Future.succeededFuture(new Piped()));
+        } else {
+            // error payloads are small, they are read at once
+            handler.handle(Future.succeededFuture(new Buffered()));
+        }
+    }
+
+    // the body is completed by the adapter once the response is
+    private final class Piped implements BodyStream<Void> {
+        private final Promise<Void> result = Promise.promise();
+
+        @Override
+        public Future<Void> result() {
+            return result.future();
+        }
+
+        @Override
+        public void handle(final Throwable failure) {
+            result.tryFail(failure);
+        }
+
+        @Override
+        public WriteStream<Buffer> exceptionHandler(final Handler<Throwable> handler) {
+            return this;
+        }
+
+        @Override
+        public Future<Void> write(final Buffer data) {
+            return body.write(data);
+        }
+
+        @Override
+        public void write(final Buffer data, final Handler<AsyncResult<Void>> handler) {
+            body.write(data, handler);
+        }
+
+        @Override
+        public void end(final Handler<AsyncResult<Void>> handler) {
+            result.tryComplete();
+            if (handler != null) {
+                handler.handle(Future.succeededFuture());
+            }
+        }
+
+        @Override
+        public WriteStream<Buffer> setWriteQueueMaxSize(final int maxSize) {
+            body.setWriteQueueMaxSize(maxSize);
+            return this;
+        }
+
+        @Override
+        public boolean writeQueueFull() {
+            return body.writeQueueFull();
+        }
+
+        @Override
+        public WriteStream<Buffer> drainHandler(final Handler<Void> handler) {
+            body.drainHandler(handler);
+            return this;
+        }
+    }
+
+    private final class Buffered implements BodyStream<Void> {
+        private final Promise<Void> result = Promise.promise();
+        private final Buffer content = Buffer.buffer();
+
+        @Override
+        public Future<Void> result() {
+            return result.future();
+        }
+
+        @Override
+        public void handle(final Throwable failure) {
+            result.tryFail(failure);
+        }
+
+        @Override
+        public WriteStream<Buffer> exceptionHandler(final Handler<Throwable> handler) {
+            return this;
+        }
+
+        @Override
+        public Future<Void> write(final Buffer data) {
+            content.appendBuffer(data);
+            return Future.succeededFuture();
+        }
+
+        @Override
+        public void write(final Buffer data, final Handler<AsyncResult<Void>> handler) {
+            final Future<Void> written = write(data);
+            if (handler != null) {
+                handler.handle(written);
+            }
+        }
+
+        @Override
+        public void end(final Handler<AsyncResult<Void>> handler) {
+            buffered = content;
+            result.tryComplete();
+            if (handler != null) {
+                handler.handle(Future.succeededFuture());
+            }
+        }
+
+        @Override
+        public WriteStream<Buffer> setWriteQueueMaxSize(final int maxSize) {
+            return this;
+        }
+
+        @Override
+        public boolean writeQueueFull() {
+            return false;
+        }
+
+        @Override
+        public WriteStream<Buffer> drainHandler(final Handler<Void> handler) {
+            return this;
+        }
+    }
+}
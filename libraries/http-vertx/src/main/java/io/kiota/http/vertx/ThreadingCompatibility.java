@@ -0,0 +1,39 @@
+package io.kiota.http.vertx;
+
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.ThreadingModel;
+import io.vertx.core.Vertx;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * How the adapter waits for the results and runs the blocking tasks. On Java 21 and later
+ * this class is replaced by its version in src/main/java21, which runs the blocking tasks on
+ * virtual threads instead of the worker pool.
+ */
+final class ThreadingCompatibility {
+    private ThreadingCompatibility() {}
+
+    /**
+     * Waits for the result of the future.
+     * On a virtual thread verticle the context keeps processing its events meanwhile,
+     * including the ones completing the future.
+     */
+    static <T> T await(final Future<T> future) throws ExecutionException, InterruptedException {
+        final Context context = Vertx.currentContext();
+        if (context != null && context.threadingModel() == ThreadingModel.VIRTUAL_THREAD) {
+            try {
+                return Future.await(future);
+            } catch (Throwable t) {
+                throw new ExecutionException(t);
+            }
+        }
+        return future.toCompletionStage().toCompletableFuture().get();
+    }
+
+    /** Runs a blocking task off the event loop, the result is delivered on the context. */
+    static <T> Future<T> executeBlocking(final Context context, final Callable<T> task) {
+        return context.executeBlocking(task, false);
+    }
+}
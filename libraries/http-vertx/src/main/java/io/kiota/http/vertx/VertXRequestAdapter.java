@@ -20,12 +20,24 @@ import com.microsoft.kiota.serialization.SerializationWriterFactoryRegistry;
 import com.microsoft.kiota.serialization.ValuedEnumParser;
 import com.microsoft.kiota.store.BackingStoreFactory;
 import com.microsoft.kiota.store.BackingStoreFactorySingleton;
+import io.kiota.http.GzipCompressingInputStream;
+import io.kiota.http.JsonCompatibility;
+import io.kiota.http.ParsableCache;
+import io.kiota.http.RequestCompressionOption;
+import io.kiota.http.RequestObserver;
+import io.kiota.http.RequestTracing;
+import io.netty.buffer.Unpooled;
+import io.opentelemetry.api.OpenTelemetry;
+import io.vertx.core.Context;
 import io.vertx.core.Future;
 import io.vertx.core.Vertx;
 import io.vertx.core.buffer.Buffer;
+import io.vertx.core.buffer.impl.BufferImpl;
+import io.vertx.core.http.HttpResponseHead;
 import io.vertx.ext.web.client.HttpRequest;
 import io.vertx.ext.web.client.HttpResponse;
 import io.vertx.ext.web.client.WebClient;
+import io.vertx.ext.web.client.WebClientOptions;
 import jakarta.annotation.Nonnull;
 import jakarta.annotation.Nullable;
 import java.io.ByteArrayInputStream;
@@ -33,23 +45,37 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.math.BigDecimal;
 import java.net.URISyntaxException;
+import java.nio.ByteBuffer;
 import java.time.LocalDate;
 import java.time.LocalTime;
 import java.time.OffsetDateTime;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Objects;
 import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 /** RequestAdapter implementation for VertX */
 public class VertXRequestAdapter implements RequestAdapter {
+    private static final String instrumentationName = "io.kiota.http.vertx";
     private static final String contentTypeHeaderKey = "Content-Type";
+    private static final String contentEncodingHeaderKey = "Content-Encoding";
+    private static final String etagHeaderKey = "ETag";
     @Nonnull private final WebClient client;
     @Nonnull private ParseNodeFactory pNodeFactory;
     @Nonnull private SerializationWriterFactory sWriterFactory;
     @Nonnull private String baseUrl = "";
+    @Nonnull private volatile Interceptor[] interceptors = new Interceptor[0];
+    @Nullable private volatile ParsableCache parsableCache;
+    @Nullable private volatile RequestObserver requestObserver;
+    @Nullable private volatile RequestTracing tracing;
 
     public void setBaseUrl(@Nonnull final String baseUrl) {
         this.baseUrl = Objects.requireNonNull(baseUrl);
@@ -64,6 +90,21 @@ public class VertXRequestAdapter implements RequestAdapter {
         this(WebClient.create(vertx));
     }
 
+    /**
+     * Creates an adapter with a client configured by the given options, e.g. {@link
+     * WebClientOptions#setDecompressionSupported} negotiates compressed responses and
+     * decompresses them as they are received.
+     * @param vertx the Vert.x instance of the client.
+     * @param options the options of the client.
+     */
+    public VertXRequestAdapter(
+            @Nonnull final Vertx vertx, @Nonnull final WebClientOptions options) {
+        this(
+                WebClient.create(
+                        Objects.requireNonNull(vertx, "parameter vertx cannot be null"),
+                        Objects.requireNonNull(options, "parameter options cannot be null")));
+    }
+
     public VertXRequestAdapter(@Nullable final WebClient client) {
         this(client, null, null);
     }
@@ -82,6 +123,8 @@ public class VertXRequestAdapter implements RequestAdapter {
         } else {
             this.client = client;
         }
+        // the status codes of the streamed responses are checked before their body is received
+        StreamedBodyCodec.install(this.client);
         if (parseNodeFactory == null) {
             pNodeFactory = ParseNodeFactoryRegistry.defaultInstance;
         } else {
@@ -100,6 +143,51 @@ public class VertXRequestAdapter implements RequestAdapter {
         return sWriterFactory;
     }
 
+    /**
+     * Adds an interceptor of the requests, called after the interceptors already added.
+     * @param interceptor the interceptor.
+     */
+    public void addInterceptor(@Nonnull final Interceptor interceptor) {
+        Objects.requireNonNull(interceptor, "parameter interceptor cannot be null");
+        synchronized (this) {
+            final Interceptor[] added = Arrays.copyOf(interceptors, interceptors.length + 1);
+            added[interceptors.length] = interceptor;
+            interceptors = added;
+        }
+    }
+
+    /**
+     * Sets the cache of the objects deserialized from the responses having an ETag, the
+     * responses with the same ETag aren't parsed again.
+     * @param parsableCache the cache, or null to stop caching.
+     */
+    public void setParsableCache(@Nullable final ParsableCache parsableCache) {
+        this.parsableCache = parsableCache;
+    }
+
+    /**
+     * Sets the observer of how long the phases of the requests take.
+     * @param requestObserver the observer, or null to stop observing.
+     */
+    public void setRequestObserver(@Nullable final RequestObserver requestObserver) {
+        this.requestObserver = requestObserver;
+    }
+
+    /**
+     * Traces the requests with OpenTelemetry: a client span per request and a child span per
+     * phase (see {@link RequestObserver}), the async callbacks run under the span of their
+     * request. The span of a traced request is propagated with the propagators of the
+     * OpenTelemetry instance, e.g. the W3C traceparent header, no header is added when the
+     * requests aren't traced.
+     * @param openTelemetry the instance creating the spans, or null to stop tracing.
+     */
+    public void setOpenTelemetry(@Nullable final OpenTelemetry openTelemetry) {
+        this.tracing =
+                openTelemetry == null
+                        ? null
+                        : new RequestTracing(openTelemetry, instrumentationName);
+    }
+
     public void enableBackingStore(@Nullable final BackingStoreFactory backingStoreFactory) {
         this.pNodeFactory =
                 Objects.requireNonNull(
@@ -125,19 +213,121 @@ public class VertXRequestAdapter implements RequestAdapter {
         Objects.requireNonNull(requestInfo, nullRequestInfoParameter);
         Objects.requireNonNull(factory, nullFactoryParameter);
 
-        HttpResponse response = this.getHttpResponseMessage(requestInfo);
+        return traced(
+                requestInfo,
+                () ->
+                        handleCollection(
+                                this.getHttpResponseMessage(requestInfo),
+                                requestInfo,
+                                getResponseHandler(requestInfo),
+                                errorMappings,
+                                factory));
+    }
+
+    /**
+     * Like {@link #sendCollection} but doesn't block, the response is deserialized on a worker
+     * thread.
+     */
+    @Nonnull
+    public <ModelType extends Parsable> Future<List<ModelType>> sendCollectionAsync(
+            @Nonnull final RequestInformation requestInfo,
+            @Nullable final HashMap<String, ParsableFactory<? extends Parsable>> errorMappings,
+            @Nonnull final ParsableFactory<ModelType> factory) {
+        Objects.requireNonNull(requestInfo, nullRequestInfoParameter);
+        Objects.requireNonNull(factory, nullFactoryParameter);
+
         final ResponseHandler responseHandler = getResponseHandler(requestInfo);
+        return tracedAsync(
+                requestInfo,
+                () ->
+                        this.getHttpResponseMessageAsync(requestInfo)
+                                .compose(
+                                        currentContext(
+                                                response ->
+                                                        deserialize(
+                                                                () ->
+                                                                        handleCollection(
+                                                                                response,
+                                                                                requestInfo,
+                                                                                responseHandler,
+                                                                                errorMappings,
+                                                                                factory)))));
+    }
+
+    private <ModelType extends Parsable> List<ModelType> handleCollection(
+            @Nonnull final HttpResponse response,
+            @Nonnull final RequestInformation requestInfo,
+            @Nullable final ResponseHandler responseHandler,
+            @Nullable final HashMap<String, ParsableFactory<? extends Parsable>> errorMappings,
+            @Nonnull final ParsableFactory<ModelType> factory) {
         if (responseHandler == null) {
-            this.throwIfFailedResponse(response, errorMappings);
+            this.throwIfFailedResponse(response, requestInfo, errorMappings);
             if (this.shouldReturnNull(response)) {
                 return null;
             }
-            final ParseNode rootNode = getRootParseNode(response);
+            final long start = System.nanoTime();
+            try {
+                final ParseNode rootNode = getRootParseNode(response);
+                if (rootNode == null) {
+                    return null;
+                }
+                final List<ModelType> result = rootNode.getCollectionOfObjectValues(factory);
+                return result;
+            } finally {
+                observe(requestInfo, RequestObserver.DESERIALIZE, response.statusCode(), start);
+            }
+        } else {
+            return responseHandler.handleResponse(response, errorMappings);
+        }
+    }
+
+    /**
+     * Like {@link #sendCollection} but returns the elements lazily, as they are deserialized.
+     * The stream should be closed if it's not fully consumed.
+     */
+    @Nonnull
+    public <ModelType extends Parsable> Stream<ModelType> sendCollectionStream(
+            @Nonnull final RequestInformation requestInfo,
+            @Nullable final HashMap<String, ParsableFactory<? extends Parsable>> errorMappings,
+            @Nonnull final ParsableFactory<ModelType> factory) {
+        Objects.requireNonNull(requestInfo, nullRequestInfoParameter);
+        Objects.requireNonNull(factory, nullFactoryParameter);
+
+        return traced(requestInfo, () -> streamCollection(requestInfo, errorMappings, factory));
+    }
+
+    private <ModelType extends Parsable> Stream<ModelType> streamCollection(
+            @Nonnull final RequestInformation requestInfo,
+            @Nullable final HashMap<String, ParsableFactory<? extends Parsable>> errorMappings,
+            @Nonnull final ParsableFactory<ModelType> factory) {
+        HttpResponse response = this.getHttpResponseMessage(requestInfo);
+        final ResponseHandler responseHandler = getResponseHandler(requestInfo);
+        if (responseHandler == null) {
+            this.throwIfFailedResponse(response, requestInfo, errorMappings);
+            if (this.shouldReturnNull(response)) {
+                return Stream.empty();
+            }
+            final long start = System.nanoTime();
+            // the elements are deserialized as the stream is consumed
+            final Runnable done =
+                    () ->
+                            observe(
+                                    requestInfo,
+                                    RequestObserver.DESERIALIZE,
+                                    response.statusCode(),
+                                    start);
+            final ParseNode rootNode;
+            try {
+                rootNode = getRootParseNode(response);
+            } catch (RuntimeException e) {
+                done.run();
+                throw e;
+            }
             if (rootNode == null) {
-                return null;
+                done.run();
+                return Stream.empty();
             }
-            final List<ModelType> result = rootNode.getCollectionOfObjectValues(factory);
-            return result;
+            return JsonCompatibility.streamCollectionOfObjectValues(rootNode, factory, done);
         } else {
             return responseHandler.handleResponse(response, errorMappings);
         }
@@ -162,19 +352,80 @@ public class VertXRequestAdapter implements RequestAdapter {
         Objects.requireNonNull(requestInfo, nullRequestInfoParameter);
         Objects.requireNonNull(factory, nullFactoryParameter);
 
-        HttpResponse response = this.getHttpResponseMessage(requestInfo);
+        return traced(
+                requestInfo,
+                () ->
+                        handleObject(
+                                this.getHttpResponseMessage(requestInfo),
+                                requestInfo,
+                                getResponseHandler(requestInfo),
+                                errorMappings,
+                                factory));
+    }
+
+    /**
+     * Like {@link #send} but doesn't block, the response is deserialized on a worker thread.
+     */
+    @Nonnull
+    public <ModelType extends Parsable> Future<ModelType> sendAsync(
+            @Nonnull final RequestInformation requestInfo,
+            @Nullable final HashMap<String, ParsableFactory<? extends Parsable>> errorMappings,
+            @Nonnull final ParsableFactory<ModelType> factory) {
+        Objects.requireNonNull(requestInfo, nullRequestInfoParameter);
+        Objects.requireNonNull(factory, nullFactoryParameter);
+
         final ResponseHandler responseHandler = getResponseHandler(requestInfo);
+        return tracedAsync(
+                requestInfo,
+                () ->
+                        this.getHttpResponseMessageAsync(requestInfo)
+                                .compose(
+                                        currentContext(
+                                                response ->
+                                                        deserialize(
+                                                                () ->
+                                                                        handleObject(
+                                                                                response,
+                                                                                requestInfo,
+                                                                                responseHandler,
+                                                                                errorMappings,
+                                                                                factory)))));
+    }
+
+    private <ModelType extends Parsable> ModelType handleObject(
+            @Nonnull final HttpResponse response,
+            @Nonnull final RequestInformation requestInfo,
+            @Nullable final ResponseHandler responseHandler,
+            @Nullable final HashMap<String, ParsableFactory<? extends Parsable>> errorMappings,
+            @Nonnull final ParsableFactory<ModelType> factory) {
         if (responseHandler == null) {
-            this.throwIfFailedResponse(response, errorMappings);
+            this.throwIfFailedResponse(response, requestInfo, errorMappings);
             if (this.shouldReturnNull(response)) {
                 return null;
             }
-            final ParseNode rootNode = getRootParseNode(response);
-            if (rootNode == null) {
-                return null;
+            final long start = System.nanoTime();
+            try {
+                final ParsableCache cache = parsableCache;
+                final String etag = cache == null ? null : response.headers().get(etagHeaderKey);
+                final String uri = etag == null ? null : getUri(requestInfo);
+                if (etag != null) {
+                    final ModelType cached = cache.get(uri, etag, factory);
+                    if (cached != null) {
+                        return cached;
+                    }
+                }
+                final ParseNode rootNode = getRootParseNode(response);
+                if (rootNode == null) {
+                    return null;
+                }
+                final ModelType result = rootNode.getObjectValue(factory);
+                if (etag != null && result != null) {
+                    cache.put(uri, etag, factory, result);
+                }
+                return result;
+            } finally {
+                observe(requestInfo, RequestObserver.DESERIALIZE, response.statusCode(), start);
             }
-            final ModelType result = rootNode.getObjectValue(factory);
-            return result;
         } else {
             return responseHandler.handleResponse(response, errorMappings);
         }
@@ -188,61 +439,117 @@ public class VertXRequestAdapter implements RequestAdapter {
         Objects.requireNonNull(requestInfo, nullRequestInfoParameter);
         Objects.requireNonNull(targetClass, "parameter targetClass cannot be null");
 
-        HttpResponse response = this.getHttpResponseMessage(requestInfo);
         final ResponseHandler responseHandler = getResponseHandler(requestInfo);
+        if (responseHandler == null && targetClass == InputStream.class) {
+            // streamed as it is received, instead of being buffered
+            return (ModelType)
+                    traced(requestInfo, () -> getResponseStream(requestInfo, errorMappings));
+        }
+        return traced(
+                requestInfo,
+                () ->
+                        handlePrimitive(
+                                this.getHttpResponseMessage(requestInfo),
+                                requestInfo,
+                                responseHandler,
+                                errorMappings,
+                                targetClass));
+    }
+
+    /**
+     * Like {@link #sendPrimitive} but doesn't block, the response is deserialized on a worker
+     * thread. An InputStream is read from the received body, it is not streamed.
+     */
+    @Nonnull
+    public <ModelType> Future<ModelType> sendPrimitiveAsync(
+            @Nonnull final RequestInformation requestInfo,
+            @Nullable final HashMap<String, ParsableFactory<? extends Parsable>> errorMappings,
+            @Nonnull final Class<ModelType> targetClass) {
+        Objects.requireNonNull(requestInfo, nullRequestInfoParameter);
+        Objects.requireNonNull(targetClass, "parameter targetClass cannot be null");
+
+        final ResponseHandler responseHandler = getResponseHandler(requestInfo);
+        return tracedAsync(
+                requestInfo,
+                () ->
+                        this.getHttpResponseMessageAsync(requestInfo)
+                                .compose(
+                                        currentContext(
+                                                response ->
+                                                        deserialize(
+                                                                () ->
+                                                                        handlePrimitive(
+                                                                                response,
+                                                                                requestInfo,
+                                                                                responseHandler,
+                                                                                errorMappings,
+                                                                                targetClass)))));
+    }
+
+    private <ModelType> ModelType handlePrimitive(
+            @Nonnull final HttpResponse response,
+            @Nonnull final RequestInformation requestInfo,
+            @Nullable final ResponseHandler responseHandler,
+            @Nullable final HashMap<String, ParsableFactory<? extends Parsable>> errorMappings,
+            @Nonnull final Class<ModelType> targetClass) {
         if (responseHandler == null) {
-            this.throwIfFailedResponse(response, errorMappings);
+            this.throwIfFailedResponse(response, requestInfo, errorMappings);
             if (this.shouldReturnNull(response)) {
                 return null;
             }
-            if (targetClass == Void.class) {
-                return null;
-            } else {
-                if (targetClass == InputStream.class) {
-                    // TODO: verify streaming responses
-                    final InputStream rawInputStream =
-                            new ByteArrayInputStream(response.bodyAsBuffer().getBytes());
-                    return (ModelType) rawInputStream;
-                }
-                final ParseNode rootNode = getRootParseNode(response);
-                if (rootNode == null) {
+            final long start = System.nanoTime();
+            try {
+                if (targetClass == Void.class) {
                     return null;
-                }
-                Object result;
-                if (targetClass == Boolean.class) {
-                    result = rootNode.getBooleanValue();
-                } else if (targetClass == Byte.class) {
-                    result = rootNode.getByteValue();
-                } else if (targetClass == String.class) {
-                    result = rootNode.getStringValue();
-                } else if (targetClass == Short.class) {
-                    result = rootNode.getShortValue();
-                } else if (targetClass == BigDecimal.class) {
-                    result = rootNode.getBigDecimalValue();
-                } else if (targetClass == Double.class) {
-                    result = rootNode.getDoubleValue();
-                } else if (targetClass == Integer.class) {
-                    result = rootNode.getIntegerValue();
-                } else if (targetClass == Float.class) {
-                    result = rootNode.getFloatValue();
-                } else if (targetClass == Long.class) {
-                    result = rootNode.getLongValue();
-                } else if (targetClass == UUID.class) {
-                    result = rootNode.getUUIDValue();
-                } else if (targetClass == OffsetDateTime.class) {
-                    result = rootNode.getOffsetDateTimeValue();
-                } else if (targetClass == LocalDate.class) {
-                    result = rootNode.getLocalDateValue();
-                } else if (targetClass == LocalTime.class) {
-                    result = rootNode.getLocalTimeValue();
-                } else if (targetClass == PeriodAndDuration.class) {
-                    result = rootNode.getPeriodAndDurationValue();
-                } else if (targetClass == byte[].class) {
-                    result = rootNode.getByteArrayValue();
                 } else {
-                    throw new RuntimeException("unexpected payload type " + targetClass.getName());
+                    if (targetClass == InputStream.class) {
+                        final InputStream rawInputStream =
+                                new BufferInputStream(response.bodyAsBuffer());
+                        return (ModelType) rawInputStream;
+                    }
+                    final ParseNode rootNode = getRootParseNode(response);
+                    if (rootNode == null) {
+                        return null;
+                    }
+                    Object result;
+                    if (targetClass == Boolean.class) {
+                        result = rootNode.getBooleanValue();
+                    } else if (targetClass == Byte.class) {
+                        result = rootNode.getByteValue();
+                    } else if (targetClass == String.class) {
+                        result = rootNode.getStringValue();
+                    } else if (targetClass == Short.class) {
+                        result = rootNode.getShortValue();
+                    } else if (targetClass == BigDecimal.class) {
+                        result = rootNode.getBigDecimalValue();
+                    } else if (targetClass == Double.class) {
+                        result = rootNode.getDoubleValue();
+                    } else if (targetClass == Integer.class) {
+                        result = rootNode.getIntegerValue();
+                    } else if (targetClass == Float.class) {
+                        result = rootNode.getFloatValue();
+                    } else if (targetClass == Long.class) {
+                        result = rootNode.getLongValue();
+                    } else if (targetClass == UUID.class) {
+                        result = rootNode.getUUIDValue();
+                    } else if (targetClass == OffsetDateTime.class) {
+                        result = rootNode.getOffsetDateTimeValue();
+                    } else if (targetClass == LocalDate.class) {
+                        result = rootNode.getLocalDateValue();
+                    } else if (targetClass == LocalTime.class) {
+                        result = rootNode.getLocalTimeValue();
+                    } else if (targetClass == PeriodAndDuration.class) {
+                        result = rootNode.getPeriodAndDurationValue();
+                    } else if (targetClass == byte[].class) {
+                        result = rootNode.getByteArrayValue();
+                    } else {
+                        throw new RuntimeException(
+                                "unexpected payload type " + targetClass.getName());
+                    }
+                    return (ModelType) result;
                 }
-                return (ModelType) result;
+            } finally {
+                observe(requestInfo, RequestObserver.DESERIALIZE, response.statusCode(), start);
             }
         } else {
             return responseHandler.handleResponse(response, errorMappings);
@@ -257,19 +564,68 @@ public class VertXRequestAdapter implements RequestAdapter {
         Objects.requireNonNull(requestInfo, nullRequestInfoParameter);
         Objects.requireNonNull(enumParser, nullEnumParserParameter);
 
-        HttpResponse response = this.getHttpResponseMessage(requestInfo);
+        return traced(
+                requestInfo,
+                () ->
+                        handleEnum(
+                                this.getHttpResponseMessage(requestInfo),
+                                requestInfo,
+                                getResponseHandler(requestInfo),
+                                errorMappings,
+                                enumParser));
+    }
+
+    /**
+     * Like {@link #sendEnum} but doesn't block, the response is deserialized on a worker thread.
+     */
+    @Nonnull
+    public <ModelType extends Enum<ModelType>> Future<ModelType> sendEnumAsync(
+            @Nonnull final RequestInformation requestInfo,
+            @Nullable final HashMap<String, ParsableFactory<? extends Parsable>> errorMappings,
+            @Nonnull final ValuedEnumParser<ModelType> enumParser) {
+        Objects.requireNonNull(requestInfo, nullRequestInfoParameter);
+        Objects.requireNonNull(enumParser, nullEnumParserParameter);
+
         final ResponseHandler responseHandler = getResponseHandler(requestInfo);
+        return tracedAsync(
+                requestInfo,
+                () ->
+                        this.getHttpResponseMessageAsync(requestInfo)
+                                .compose(
+                                        currentContext(
+                                                response ->
+                                                        deserialize(
+                                                                () ->
+                                                                        handleEnum(
+                                                                                response,
+                                                                                requestInfo,
+                                                                                responseHandler,
+                                                                                errorMappings,
+                                                                                enumParser)))));
+    }
+
+    private <ModelType extends Enum<ModelType>> ModelType handleEnum(
+            @Nonnull final HttpResponse response,
+            @Nonnull final RequestInformation requestInfo,
+            @Nullable final ResponseHandler responseHandler,
+            @Nullable final HashMap<String, ParsableFactory<? extends Parsable>> errorMappings,
+            @Nonnull final ValuedEnumParser<ModelType> enumParser) {
         if (responseHandler == null) {
-            this.throwIfFailedResponse(response, errorMappings);
+            this.throwIfFailedResponse(response, requestInfo, errorMappings);
             if (this.shouldReturnNull(response)) {
                 return null;
             }
-            final ParseNode rootNode = getRootParseNode(response);
-            if (rootNode == null) {
-                return null;
+            final long start = System.nanoTime();
+            try {
+                final ParseNode rootNode = getRootParseNode(response);
+                if (rootNode == null) {
+                    return null;
+                }
+                final Object result = rootNode.getEnumValue(enumParser);
+                return (ModelType) result;
+            } finally {
+                observe(requestInfo, RequestObserver.DESERIALIZE, response.statusCode(), start);
             }
-            final Object result = rootNode.getEnumValue(enumParser);
-            return (ModelType) result;
         } else {
             return responseHandler.handleResponse(response, errorMappings);
         }
@@ -283,19 +639,69 @@ public class VertXRequestAdapter implements RequestAdapter {
         Objects.requireNonNull(requestInfo, nullRequestInfoParameter);
         Objects.requireNonNull(enumParser, nullEnumParserParameter);
 
-        HttpResponse response = this.getHttpResponseMessage(requestInfo);
+        return traced(
+                requestInfo,
+                () ->
+                        handleEnumCollection(
+                                this.getHttpResponseMessage(requestInfo),
+                                requestInfo,
+                                getResponseHandler(requestInfo),
+                                errorMappings,
+                                enumParser));
+    }
+
+    /**
+     * Like {@link #sendEnumCollection} but doesn't block, the response is deserialized on a worker
+     * thread.
+     */
+    @Nonnull
+    public <ModelType extends Enum<ModelType>> Future<List<ModelType>> sendEnumCollectionAsync(
+            @Nonnull final RequestInformation requestInfo,
+            @Nullable final HashMap<String, ParsableFactory<? extends Parsable>> errorMappings,
+            @Nonnull final ValuedEnumParser<ModelType> enumParser) {
+        Objects.requireNonNull(requestInfo, nullRequestInfoParameter);
+        Objects.requireNonNull(enumParser, nullEnumParserParameter);
+
         final ResponseHandler responseHandler = getResponseHandler(requestInfo);
+        return tracedAsync(
+                requestInfo,
+                () ->
+                        this.getHttpResponseMessageAsync(requestInfo)
+                                .compose(
+                                        currentContext(
+                                                response ->
+                                                        deserialize(
+                                                                () ->
+                                                                        handleEnumCollection(
+                                                                                response,
+                                                                                requestInfo,
+                                                                                responseHandler,
+                                                                                errorMappings,
+                                                                                enumParser)))));
+    }
+
+    private <ModelType extends Enum<ModelType>> List<ModelType> handleEnumCollection(
+            @Nonnull final HttpResponse response,
+            @Nonnull final RequestInformation requestInfo,
+            @Nullable final ResponseHandler responseHandler,
+            @Nullable final HashMap<String, ParsableFactory<? extends Parsable>> errorMappings,
+            @Nonnull final ValuedEnumParser<ModelType> enumParser) {
         if (responseHandler == null) {
-            this.throwIfFailedResponse(response, errorMappings);
+            this.throwIfFailedResponse(response, requestInfo, errorMappings);
             if (this.shouldReturnNull(response)) {
                 return null;
             }
-            final ParseNode rootNode = getRootParseNode(response);
-            if (rootNode == null) {
-                return null;
+            final long start = System.nanoTime();
+            try {
+                final ParseNode rootNode = getRootParseNode(response);
+                if (rootNode == null) {
+                    return null;
+                }
+                final Object result = rootNode.getCollectionOfEnumValues(enumParser);
+                return (List<ModelType>) result;
+            } finally {
+                observe(requestInfo, RequestObserver.DESERIALIZE, response.statusCode(), start);
             }
-            final Object result = rootNode.getCollectionOfEnumValues(enumParser);
-            return (List<ModelType>) result;
         } else {
             return responseHandler.handleResponse(response, errorMappings);
         }
@@ -308,19 +714,68 @@ public class VertXRequestAdapter implements RequestAdapter {
             @Nonnull final Class<ModelType> targetClass) {
         Objects.requireNonNull(requestInfo, nullRequestInfoParameter);
 
-        HttpResponse response = getHttpResponseMessage(requestInfo);
+        return traced(
+                requestInfo,
+                () ->
+                        handlePrimitiveCollection(
+                                this.getHttpResponseMessage(requestInfo),
+                                requestInfo,
+                                getResponseHandler(requestInfo),
+                                errorMappings,
+                                targetClass));
+    }
+
+    /**
+     * Like {@link #sendPrimitiveCollection} but doesn't block, the response is deserialized on a
+     * worker thread.
+     */
+    @Nonnull
+    public <ModelType> Future<List<ModelType>> sendPrimitiveCollectionAsync(
+            @Nonnull final RequestInformation requestInfo,
+            @Nullable final HashMap<String, ParsableFactory<? extends Parsable>> errorMappings,
+            @Nonnull final Class<ModelType> targetClass) {
+        Objects.requireNonNull(requestInfo, nullRequestInfoParameter);
+
         final ResponseHandler responseHandler = getResponseHandler(requestInfo);
+        return tracedAsync(
+                requestInfo,
+                () ->
+                        this.getHttpResponseMessageAsync(requestInfo)
+                                .compose(
+                                        currentContext(
+                                                response ->
+                                                        deserialize(
+                                                                () ->
+                                                                        handlePrimitiveCollection(
+                                                                                response,
+                                                                                requestInfo,
+                                                                                responseHandler,
+                                                                                errorMappings,
+                                                                                targetClass)))));
+    }
+
+    private <ModelType> List<ModelType> handlePrimitiveCollection(
+            @Nonnull final HttpResponse response,
+            @Nonnull final RequestInformation requestInfo,
+            @Nullable final ResponseHandler responseHandler,
+            @Nullable final HashMap<String, ParsableFactory<? extends Parsable>> errorMappings,
+            @Nonnull final Class<ModelType> targetClass) {
         if (responseHandler == null) {
-            this.throwIfFailedResponse(response, errorMappings);
+            this.throwIfFailedResponse(response, requestInfo, errorMappings);
             if (this.shouldReturnNull(response)) {
                 return null;
             }
-            final ParseNode rootNode = getRootParseNode(response);
-            if (rootNode == null) {
-                return null;
+            final long start = System.nanoTime();
+            try {
+                final ParseNode rootNode = getRootParseNode(response);
+                if (rootNode == null) {
+                    return null;
+                }
+                final List<ModelType> result = rootNode.getCollectionOfPrimitiveValues(targetClass);
+                return result;
+            } finally {
+                observe(requestInfo, RequestObserver.DESERIALIZE, response.statusCode(), start);
             }
-            final List<ModelType> result = rootNode.getCollectionOfPrimitiveValues(targetClass);
-            return result;
         } else {
             return responseHandler.handleResponse(response, errorMappings);
         }
@@ -328,12 +783,19 @@ public class VertXRequestAdapter implements RequestAdapter {
 
     @Nullable
     private ParseNode getRootParseNode(final HttpResponse response) {
-        final Buffer body =
-                response.bodyAsBuffer(); // closing the response closes the body and stream
+        return getRootParseNode(
+                response,
+                response.bodyAsBuffer()); // closing the response closes the body and stream
+    }
+
+    @Nullable
+    private ParseNode getRootParseNode(
+            final HttpResponseHead response, @Nullable final Buffer body) {
         if (body == null) {
             return null;
         }
-        final InputStream rawInputStream = new ByteArrayInputStream(body.getBytes());
+        // reads the received bytes in place, without copying them
+        final InputStream rawInputStream = new BufferInputStream(body);
 
         final String contentType = response.headers().get(contentTypeHeaderKey);
         if (contentType == null) {
@@ -342,14 +804,91 @@ public class VertXRequestAdapter implements RequestAdapter {
         return pNodeFactory.getParseNode(contentType, rawInputStream);
     }
 
-    private boolean shouldReturnNull(final HttpResponse response) {
+    private static String getUri(@Nonnull final RequestInformation requestInfo) {
+        try {
+            return requestInfo.getUri().toString();
+        } catch (URISyntaxException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private boolean shouldReturnNull(final HttpResponseHead response) {
         return response.statusCode() == 204;
     }
 
-    private HttpResponse throwIfFailedResponse(
+    private void throwIfFailedResponse(
             @Nonnull final HttpResponse response,
+            @Nonnull final RequestInformation requestInfo,
+            @Nullable final HashMap<String, ParsableFactory<? extends Parsable>> errorMappings) {
+        throwIfFailedResponse(response, response.bodyAsBuffer(), requestInfo, errorMappings);
+    }
+
+    private void throwIfFailedResponse(
+            @Nonnull final HttpResponseHead response,
+            @Nullable final Buffer body,
+            @Nonnull final RequestInformation requestInfo,
+            @Nullable final HashMap<String, ParsableFactory<? extends Parsable>> errorMappings) {
+        final long start = System.nanoTime();
+        try {
+            throwIfFailedResponse(response, body, errorMappings);
+        } finally {
+            observe(requestInfo, RequestObserver.STATUS, response.statusCode(), start);
+        }
+    }
+
+    private void observe(
+            final RequestInformation requestInfo,
+            final String phase,
+            final int statusCode,
+            final long start) {
+        final RequestObserver observer = requestObserver;
+        final RequestTracing requestTracing = tracing;
+        if (observer != null || requestTracing != null) {
+            final long duration = System.nanoTime() - start;
+            if (observer != null) {
+                observer.onPhase(requestInfo, phase, statusCode, duration);
+            }
+            if (requestTracing != null) {
+                requestTracing.phase(phase, statusCode, duration);
+            }
+        }
+    }
+
+    private <T> T traced(
+            @Nonnull final RequestInformation requestInfo, @Nonnull final Supplier<T> send) {
+        final RequestTracing requestTracing = tracing;
+        if (requestTracing == null) {
+            return send.get();
+        }
+        this.setBaseUrlForRequestInformation(requestInfo);
+        return requestTracing.traced(requestInfo, send);
+    }
+
+    private <T> Future<T> tracedAsync(
+            @Nonnull final RequestInformation requestInfo,
+            @Nonnull final Supplier<Future<T>> send) {
+        final RequestTracing requestTracing = tracing;
+        if (requestTracing == null) {
+            return send.get();
+        }
+        this.setBaseUrlForRequestInformation(requestInfo);
+        // ended before the callbacks of the caller are called
+        return requestTracing.tracedAsync(
+                requestInfo,
+                send,
+                (result, end) -> result.onComplete(completed -> end.accept(completed.cause())));
+    }
+
+    // the response is deserialized under the span current when the request is sent
+    private <T, R> Function<T, R> currentContext(@Nonnull final Function<T, R> callback) {
+        return tracing == null ? callback : RequestTracing.currentContext(callback);
+    }
+
+    private void throwIfFailedResponse(
+            @Nonnull final HttpResponseHead response,
+            @Nullable final Buffer body,
             @Nullable final HashMap<String, ParsableFactory<? extends Parsable>> errorMappings) {
-        if (response.statusCode() >= 200 && response.statusCode() < 300) return response;
+        if (response.statusCode() >= 200 && response.statusCode() < 300) return;
 
         final String statusCodeAsString = Integer.toString(response.statusCode());
         final int statusCode = response.statusCode();
@@ -382,7 +921,7 @@ public class VertXRequestAdapter implements RequestAdapter {
                         : (statusCode >= 400 && statusCode < 500
                                 ? errorMappings.getOrDefault("4XX", errorMappings.get("XXX"))
                                 : errorMappings.getOrDefault("5XX", errorMappings.get("XXX")));
-        final ParseNode rootNode = getRootParseNode(response);
+        final ParseNode rootNode = getRootParseNode(response, body);
         if (rootNode == null) {
             final ApiException result =
                     new ApiExceptionBuilder()
@@ -403,33 +942,257 @@ public class VertXRequestAdapter implements RequestAdapter {
         throw result;
     }
 
+    private static void closeContent(@Nonnull final InputStream content) {
+        try {
+            content.close();
+        } catch (IOException e) {
+            // the content has been sent, nothing to recover
+        }
+    }
+
     private HttpResponse getHttpResponseMessage(@Nonnull final RequestInformation requestInfo) {
+        try {
+            final Future<HttpResponse<Buffer>> result = getHttpResponseMessageAsync(requestInfo);
+
+            return ThreadingCompatibility.await(result);
+        } catch (ExecutionException e) {
+            throw new RuntimeException(e);
+        } catch (InterruptedException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private Future<HttpResponse<Buffer>> getHttpResponseMessageAsync(
+            @Nonnull final RequestInformation requestInfo) {
         Objects.requireNonNull(requestInfo, nullRequestInfoParameter);
         this.setBaseUrlForRequestInformation(requestInfo);
-        Future<HttpResponse<Buffer>> result;
+        final HttpRequest<Buffer> req = convert(requestInfo);
+        final long sent = System.nanoTime();
+        return send(req, requestInfo)
+                .onComplete(
+                        result ->
+                                observe(
+                                        requestInfo,
+                                        RequestObserver.NETWORK,
+                                        result.succeeded() ? result.result().statusCode() : 0,
+                                        sent));
+    }
+
+    private HttpRequest<Buffer> convert(@Nonnull final RequestInformation requestInfo) {
+        final long start = System.nanoTime();
         try {
-            HttpRequest<Buffer> req = convertToNativeRequest(requestInfo);
-
-            if (requestInfo.content == null) {
-                result = req.send();
-            } else {
-                byte[] content = requestInfo.content.readAllBytes();
-                if (content.length > 0) {
-                    result = req.sendBuffer(Buffer.buffer(content));
-                } else {
-                    result = req.send();
-                }
+            return convertToNativeRequest(requestInfo);
+        } finally {
+            observe(requestInfo, RequestObserver.CONVERT, 0, start);
+        }
+    }
+
+    // deserializing may block on a large payload, the event loop is left to the other requests
+    private <T> Future<T> deserialize(@Nonnull final Callable<T> handler) {
+        final Context context = Vertx.currentContext();
+        if (context == null) {
+            try {
+                return Future.succeededFuture(handler.call());
+            } catch (Exception e) {
+                return Future.failedFuture(e);
             }
+        }
+        return ThreadingCompatibility.executeBlocking(
+                context, tracing == null ? handler : RequestTracing.currentContext(handler));
+    }
 
-            // TODO: move this to await in VirtualThreads, should be easy!
-            return result.toCompletionStage().toCompletableFuture().get();
-        } catch (IOException e) {
-            throw new RuntimeException(e);
+    // the response is returned once its head is received, the body is read by the caller
+    private InputStream getResponseStream(
+            @Nonnull final RequestInformation requestInfo,
+            @Nullable final HashMap<String, ParsableFactory<? extends Parsable>> errorMappings) {
+        Objects.requireNonNull(requestInfo, nullRequestInfoParameter);
+        this.setBaseUrlForRequestInformation(requestInfo);
+        final WriteStreamInputStream body = new WriteStreamInputStream();
+        final CompletableFuture<HttpResponseHead> head = new CompletableFuture<>();
+        final StreamedBodyCodec codec = new StreamedBodyCodec(body, head);
+        final HttpRequest<Void> req = convert(requestInfo).as(codec);
+        final long sent = System.nanoTime();
+        // the body is read by the caller, the wait ends with the head of the response
+        final CompletableFuture<HttpResponseHead> observed = new CompletableFuture<>();
+        head.whenComplete(
+                (response, failure) -> {
+                    observe(
+                            requestInfo,
+                            RequestObserver.NETWORK,
+                            response != null ? response.statusCode() : 0,
+                            sent);
+                    if (failure == null) {
+                        observed.complete(response);
+                    } else {
+                        observed.completeExceptionally(failure);
+                    }
+                });
+        send(req, requestInfo)
+                .onComplete(
+                        result -> {
+                            if (result.succeeded()) {
+                                if (!head.isDone()) {
+                                    received(result.result(), codec.buffered(), body, head);
+                                }
+                                body.complete();
+                            } else {
+                                body.fail(result.cause());
+                                head.completeExceptionally(result.cause());
+                            }
+                        });
+        final HttpResponseHead response;
+        try {
+            response = ThreadingCompatibility.await(Future.fromCompletionStage(observed));
         } catch (ExecutionException e) {
             throw new RuntimeException(e);
         } catch (InterruptedException e) {
+            body.close();
             throw new RuntimeException(e);
         }
+        if (!StreamedBodyCodec.isSuccess(response.statusCode())) {
+            body.close();
+            this.throwIfFailedResponse(response, codec.buffered(), requestInfo, errorMappings);
+        }
+        if (this.shouldReturnNull(response)) {
+            body.close();
+            return null;
+        }
+        return body;
+    }
+
+    // received in memory, e.g. an error or a response served by a CachingWebClient
+    private static void received(
+            final HttpResponse<?> response,
+            @Nullable final Buffer buffered,
+            final WriteStreamInputStream body,
+            final CompletableFuture<HttpResponseHead> head) {
+        if (StreamedBodyCodec.isSuccess(response.statusCode())) {
+            final Buffer content =
+                    buffered == null && response.body() instanceof Buffer
+                            ? (Buffer) response.body()
+                            : buffered;
+            if (content != null) {
+                body.write(content);
+            }
+        }
+        head.complete(response);
+    }
+
+    private <T> Future<HttpResponse<T>> send(
+            @Nonnull final HttpRequest<T> req, @Nonnull final RequestInformation requestInfo) {
+        final Interceptor[] chain = interceptors;
+        final ByteBuffer inMemory = getInMemoryContent(requestInfo.content);
+        Future<HttpResponse<T>> result;
+        if (chain.length == 0) {
+            result = sendContent(req, requestInfo, inMemory);
+        } else {
+            result = new InterceptorChain<>(chain, 0, requestInfo, inMemory, req).proceed(req);
+        }
+        if (requestInfo.content != null) {
+            // the content has been sent, pooled buffers can be reused
+            final InputStream content = requestInfo.content;
+            result = result.onComplete(r -> closeContent(content));
+        }
+        return result;
+    }
+
+    // read once, each send has its own view of it, e.g. when an interceptor retries
+    @Nullable
+    private static ByteBuffer getInMemoryContent(@Nullable final InputStream content) {
+        if (content == null) {
+            return null;
+        }
+        final ByteBuffer serialized = JsonCompatibility.getSerializedContent(content);
+        if (serialized != null) {
+            // produced by the Json writer, its buffer is sent as is
+            return serialized;
+        } else if (content instanceof ByteArrayInputStream) {
+            return ByteBuffer.wrap(((ByteArrayInputStream) content).readAllBytes());
+        }
+        return null;
+    }
+
+    // a chain is created only when interceptors have been added, and for each of them
+    private final class InterceptorChain<T> implements Interceptor.Chain<T> {
+        private final Interceptor[] interceptors;
+        private final int index;
+        private final RequestInformation requestInfo;
+        @Nullable private final ByteBuffer inMemory;
+        private final HttpRequest<T> request;
+
+        private InterceptorChain(
+                final Interceptor[] interceptors,
+                final int index,
+                final RequestInformation requestInfo,
+                @Nullable final ByteBuffer inMemory,
+                final HttpRequest<T> request) {
+            this.interceptors = interceptors;
+            this.index = index;
+            this.requestInfo = requestInfo;
+            this.inMemory = inMemory;
+            this.request = request;
+        }
+
+        @Override
+        @Nonnull
+        public HttpRequest<T> request() {
+            return request;
+        }
+
+        @Override
+        @Nonnull
+        public RequestInformation requestInformation() {
+            return requestInfo;
+        }
+
+        @Override
+        @Nonnull
+        public Future<HttpResponse<T>> proceed(@Nonnull final HttpRequest<T> request) {
+            Objects.requireNonNull(request, "parameter request cannot be null");
+            if (index == interceptors.length) {
+                return sendContent(request, requestInfo, inMemory);
+            }
+            try {
+                return Objects.requireNonNull(
+                        interceptors[index].intercept(
+                                new InterceptorChain<>(
+                                        interceptors, index + 1, requestInfo, inMemory, request)),
+                        "an interceptor returned a null response");
+            } catch (RuntimeException e) {
+                return Future.failedFuture(e);
+            }
+        }
+    }
+
+    private <T> Future<HttpResponse<T>> sendContent(
+            @Nonnull final HttpRequest<T> req,
+            @Nonnull final RequestInformation requestInfo,
+            @Nullable final ByteBuffer inMemory) {
+        if (requestInfo.content == null) {
+            return req.send();
+        } else if (RequestCompressionOption.isEnabled(requestInfo)
+                && !requestInfo.headers.containsKey(contentEncodingHeaderKey)) {
+            // compressed while sending, the length isn't known upfront
+            final InputStream source =
+                    inMemory == null
+                            ? requestInfo.content
+                            : new ByteArrayInputStream(
+                                    inMemory.array(),
+                                    inMemory.arrayOffset() + inMemory.position(),
+                                    inMemory.remaining());
+            req.putHeader(contentEncodingHeaderKey, "gzip");
+            return req.sendStream(
+                    new InputStreamReadStream(new GzipCompressingInputStream(source)));
+        } else if (inMemory != null) {
+            // the length is known upfront
+            if (inMemory.hasRemaining()) {
+                // wraps the serialized bytes, without copying them
+                return req.sendBuffer(BufferImpl.buffer(Unpooled.wrappedBuffer(inMemory)));
+            }
+            return req.send();
+        }
+        // the content is read while sending, instead of being copied upfront
+        return req.sendStream(new InputStreamReadStream(requestInfo.content));
     }
 
     private void setBaseUrlForRequestInformation(@Nonnull final RequestInformation requestInfo) {
@@ -451,10 +1214,16 @@ public class VertXRequestAdapter implements RequestAdapter {
 
     protected @Nonnull HttpRequest<Buffer> getRequestFromRequestInformation(
             @Nonnull final RequestInformation requestInfo) throws URISyntaxException {
-        return client.requestAbs(
-                        HttpMethodCompatibility.convert(requestInfo.httpMethod),
-                        requestInfo.getUri().toString())
-                .putHeaders(HeadersCompatibility.getMultiMap(requestInfo.headers))
-                .followRedirects(true);
+        final HttpRequest<Buffer> request =
+                client.requestAbs(
+                                HttpMethodCompatibility.convert(requestInfo.httpMethod),
+                                requestInfo.getUri().toString())
+                        .putHeaders(HeadersCompatibility.getMultiMap(requestInfo.headers))
+                        .followRedirects(true);
+        final RequestTracing requestTracing = tracing;
+        if (requestTracing != null) {
+            requestTracing.inject(requestInfo.headers.keySet(), request::putHeader);
+        }
+        return request;
     }
 }
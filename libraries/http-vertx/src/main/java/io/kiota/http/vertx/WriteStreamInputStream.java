@@ -0,0 +1,247 @@
+package io.kiota.http.vertx;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.streams.WriteStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.util.ArrayDeque;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Adapts the WriteStream a response body is piped to into an InputStream, the reader waits
+ * until the next chunk is received and the body is paused while the chunks waiting to be read
+ * fill the write queue, so that the content is never held in memory at once. Closing the
+ * stream before the end discards the rest of the body as it is received.
+ */
+class WriteStreamInputStream extends InputStream implements WriteStream<Buffer> {
+    private final ArrayDeque<Buffer> chunks = new ArrayDeque<>();
+    private Context context;
+    private Buffer current;
+    private int position;
+    // received and not read yet
+    private long queued;
+    private int maxQueued = 64 * 1024;
+    private boolean completed;
+    private boolean closed;
+    private Throwable failure;
+    // completed when a chunk is received or the body ends, while the reader waits
+    private Promise<Void> received;
+    private Handler<Void> drainHandler;
+    private Handler<Throwable> exceptionHandler;
+
+    /** Signals that the whole body has been received. */
+    void complete() {
+        final Promise<Void> waiting;
+        synchronized (this) {
+            completed = true;
+            waiting = signalReceived();
+        }
+        if (waiting != null) {
+            waiting.complete();
+        }
+    }
+
+    /** Signals that the body could not be received, the reads fail after the chunks received. */
+    void fail(final Throwable cause) {
+        final Promise<Void> waiting;
+        synchronized (this) {
+            if (failure == null) {
+                failure = cause;
+            }
+            waiting = signalReceived();
+        }
+        if (waiting != null) {
+            waiting.complete();
+        }
+    }
+
+    @Override
+    public synchronized WriteStream<Buffer> exceptionHandler(final Handler<Throwable> handler) {
+        this.exceptionHandler = handler;
+        return this;
+    }
+
+    @Override
+    public Future<Void> write(final Buffer data) {
+        Promise<Void> waiting = null;
+        synchronized (this) {
+            if (context == null) {
+                context = Vertx.currentContext();
+            }
+            // once closed, the rest of the body is discarded and the connection can be reused
+            if (!closed && data.length() > 0) {
+                chunks.add(data);
+                queued += data.length();
+                waiting = signalReceived();
+            }
+        }
+        if (waiting != null) {
+            waiting.complete();
+        }
+        return Future.succeededFuture();
+    }
+
+    @Override
+    public void write(final Buffer data, final Handler<AsyncResult<Void>> handler) {
+        final Future<Void> result = write(data);
+        if (handler != null) {
+            handler.handle(result);
+        }
+    }
+
+    @Override
+    public Future<Void> end() {
+        // the body is complete once the response is, see complete()
+        return Future.succeededFuture();
+    }
+
+    @Override
+    public void end(final Handler<AsyncResult<Void>> handler) {
+        final Future<Void> result = end();
+        if (handler != null) {
+            handler.handle(result);
+        }
+    }
+
+    @Override
+    public synchronized WriteStream<Buffer> setWriteQueueMaxSize(final int maxSize) {
+        this.maxQueued = maxSize;
+        return this;
+    }
+
+    @Override
+    public synchronized boolean writeQueueFull() {
+        return queued >= maxQueued;
+    }
+
+    @Override
+    public WriteStream<Buffer> drainHandler(final Handler<Void> handler) {
+        synchronized (this) {
+            this.drainHandler = handler;
+        }
+        // the reader may have emptied the queue before the handler was set
+        drainIfNeeded();
+        return this;
+    }
+
+    @Override
+    public int read() throws IOException {
+        final byte[] single = new byte[1];
+        return read(single, 0, 1) < 0 ? -1 : single[0] & 0xff;
+    }
+
+    @Override
+    public int read(final byte[] b, final int off, final int len) throws IOException {
+        Objects.checkFromIndexSize(off, len, b.length);
+        if (len == 0) {
+            return 0;
+        }
+        int read = 0;
+        while (read == 0) {
+            final Future<Void> next;
+            synchronized (this) {
+                if (closed) {
+                    throw new IOException("the stream has been closed");
+                }
+                if (current == null) {
+                    current = chunks.poll();
+                    position = 0;
+                }
+                if (current != null) {
+                    read = Math.min(len, current.length() - position);
+                    current.getBytes(position, position + read, b, off);
+                    position += read;
+                    if (position == current.length()) {
+                        current = null;
+                    }
+                    queued -= read;
+                    next = null;
+                } else if (failure != null) {
+                    throw new IOException("could not read the response body", failure);
+                } else if (completed) {
+                    return -1;
+                } else {
+                    if (received == null) {
+                        received = Promise.promise();
+                    }
+                    next = received.future();
+                }
+            }
+            if (next != null) {
+                awaitChunk(next);
+            }
+        }
+        drainIfNeeded();
+        return read;
+    }
+
+    // waits without holding the monitor, which would pin a virtual thread to its carrier
+    private static void awaitChunk(final Future<Void> next) throws IOException {
+        try {
+            ThreadingCompatibility.await(next);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException();
+        } catch (ExecutionException e) {
+            throw new IOException(e.getCause());
+        }
+    }
+
+    // wakes up the reader, called while holding the monitor
+    private Promise<Void> signalReceived() {
+        final Promise<Void> waiting = received;
+        received = null;
+        return waiting;
+    }
+
+    @Override
+    public synchronized int available() {
+        return (int) Math.min(queued, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public void close() {
+        final Promise<Void> waiting;
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            chunks.clear();
+            current = null;
+            queued = 0L;
+            waiting = signalReceived();
+        }
+        if (waiting != null) {
+            waiting.complete();
+        }
+        drainIfNeeded();
+    }
+
+    private void drainIfNeeded() {
+        final Handler<Void> handler;
+        final Context handlerContext;
+        synchronized (this) {
+            // resume once half of the queue has been read
+            if (drainHandler == null || queued > maxQueued / 2) {
+                return;
+            }
+            handler = drainHandler;
+            handlerContext = context;
+            drainHandler = null;
+        }
+        if (handlerContext != null) {
+            handlerContext.runOnContext(v -> handler.handle(null));
+        } else {
+            handler.handle(null);
+        }
+    }
+}
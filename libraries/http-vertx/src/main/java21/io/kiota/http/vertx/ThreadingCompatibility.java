@@ -0,0 +1,52 @@
+package io.kiota.http.vertx;
+
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.ThreadingModel;
+import io.vertx.core.Vertx;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * How the adapter waits for the results and runs the blocking tasks, on Java 21 and later.
+ * The blocking tasks run on virtual threads, so that they are not limited by the size of the
+ * worker pool.
+ */
+final class ThreadingCompatibility {
+    private ThreadingCompatibility() {}
+
+    /**
+     * Waits for the result of the future.
+     * On a virtual thread verticle the context keeps processing its events meanwhile,
+     * including the ones completing the future.
+     */
+    static <T> T await(final Future<T> future) throws ExecutionException, InterruptedException {
+        final Context context = Vertx.currentContext();
+        if (context != null && context.threadingModel() == ThreadingModel.VIRTUAL_THREAD) {
+            try {
+                return Future.await(future);
+            } catch (Throwable t) {
+                throw new ExecutionException(t);
+            }
+        }
+        return future.toCompletionStage().toCompletableFuture().get();
+    }
+
+    /** Runs a blocking task on a virtual thread, the result is delivered on the context. */
+    static <T> Future<T> executeBlocking(final Context context, final Callable<T> task) {
+        final Promise<T> promise = Promise.promise();
+        Thread.ofVirtual()
+                .name("kiota-vertx-blocking")
+                .start(
+                        () -> {
+                            try {
+                                final T result = task.call();
+                                context.runOnContext(v -> promise.complete(result));
+                            } catch (Throwable t) {
+                                context.runOnContext(v -> promise.fail(t));
+                            }
+                        });
+        return promise.future();
+    }
+}
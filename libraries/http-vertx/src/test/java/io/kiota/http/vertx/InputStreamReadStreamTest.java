@@ -0,0 +1,155 @@
+package io.kiota.http.vertx;
+
+import io.vertx.core.Context;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+public class InputStreamReadStreamTest {
+
+    private static Vertx vertx;
+
+    @BeforeAll
+    public static void startVertx() {
+        vertx = Vertx.vertx();
+    }
+
+    @AfterAll
+    public static void stopVertx() throws Exception {
+        if (vertx != null) {
+            vertx.close().toCompletionStage().toCompletableFuture().get();
+        }
+    }
+
+    private static byte[] payload() {
+        byte[] content = new byte[20000];
+        Arrays.fill(content, (byte) 'k');
+        return content;
+    }
+
+    // records the threads reading it and whether it is closed
+    private static final class RecordingInputStream extends ByteArrayInputStream {
+        private final AtomicBoolean readOnEventLoop = new AtomicBoolean();
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        private RecordingInputStream(byte[] content) {
+            super(content);
+        }
+
+        @Override
+        public synchronized int read(byte[] b, int off, int len) {
+            if (Context.isOnEventLoopThread()) {
+                readOnEventLoop.set(true);
+            }
+            return super.read(b, off, len);
+        }
+
+        @Override
+        public void close() throws IOException {
+            closed.set(true);
+            super.close();
+        }
+    }
+
+    @Test
+    public void readsTheChunksOnDemand() {
+        RecordingInputStream input = new RecordingInputStream(payload());
+        InputStreamReadStream stream = new InputStreamReadStream(input);
+        List<Buffer> chunks = new ArrayList<>();
+        AtomicInteger ended = new AtomicInteger();
+
+        stream.pause();
+        stream.endHandler(v -> ended.incrementAndGet());
+        stream.handler(chunks::add);
+        Assertions.assertTrue(chunks.isEmpty());
+
+        stream.fetch(1);
+        Assertions.assertEquals(1, chunks.size());
+        Assertions.assertEquals(8192, chunks.get(0).length());
+
+        stream.fetch(2);
+        Assertions.assertEquals(3, chunks.size());
+        Assertions.assertEquals(20000 - 2 * 8192, chunks.get(2).length());
+        Assertions.assertEquals(0, ended.get());
+        Assertions.assertFalse(input.closed.get());
+
+        stream.fetch(1);
+        Assertions.assertEquals(3, chunks.size());
+        Assertions.assertEquals(1, ended.get());
+        Assertions.assertTrue(input.closed.get());
+    }
+
+    @Test
+    public void readsOffTheEventLoop() throws Exception {
+        RecordingInputStream input = new RecordingInputStream(payload());
+        InputStreamReadStream stream = new InputStreamReadStream(input);
+        Buffer received = Buffer.buffer();
+        Promise<Buffer> ended = Promise.promise();
+        AtomicBoolean deliveredOffEventLoop = new AtomicBoolean();
+
+        vertx.runOnContext(
+                v -> {
+                    stream.endHandler(end -> ended.complete(received));
+                    stream.exceptionHandler(ended::fail);
+                    stream.handler(
+                            chunk -> {
+                                if (!Context.isOnEventLoopThread()) {
+                                    deliveredOffEventLoop.set(true);
+                                }
+                                received.appendBuffer(chunk);
+                            });
+                });
+
+        Assertions.assertArrayEquals(
+                payload(),
+                ended.future().toCompletionStage().toCompletableFuture().get().getBytes());
+        Assertions.assertFalse(input.readOnEventLoop.get());
+        Assertions.assertFalse(deliveredOffEventLoop.get());
+        Assertions.assertTrue(input.closed.get());
+    }
+
+    @Test
+    public void reportsTheReadFailures() throws Exception {
+        AtomicBoolean closed = new AtomicBoolean();
+        InputStream input =
+                new InputStream() {
+                    @Override
+                    public int read() throws IOException {
+                        throw new IOException("broken");
+                    }
+
+                    @Override
+                    public void close() {
+                        closed.set(true);
+                    }
+                };
+        InputStreamReadStream stream = new InputStreamReadStream(input);
+        Promise<Void> ended = Promise.promise();
+
+        vertx.runOnContext(
+                v -> {
+                    stream.endHandler(ended::complete);
+                    stream.exceptionHandler(ended::fail);
+                    stream.handler(chunk -> {});
+                });
+
+        Exception e =
+                Assertions.assertThrows(
+                        Exception.class,
+                        () -> ended.future().toCompletionStage().toCompletableFuture().get());
+        Assertions.assertEquals("broken", e.getCause().getMessage());
+        Assertions.assertTrue(closed.get());
+    }
+}
@@ -0,0 +1,158 @@
+package io.kiota.http.vertx;
+
+import com.microsoft.kiota.HttpMethod;
+import com.microsoft.kiota.RequestInformation;
+import io.kiota.serialization.json.JsonParseNodeFactory;
+import io.vertx.core.AbstractVerticle;
+import io.vertx.core.Context;
+import io.vertx.core.DeploymentOptions;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.ThreadingModel;
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpServer;
+import io.vertx.ext.web.client.WebClient;
+import java.net.URI;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+
+public class ThreadingCompatibilityTest {
+
+    private static Vertx vertx;
+    private static HttpServer server;
+    private static String baseUrl;
+
+    @BeforeAll
+    public static void startServer() throws Exception {
+        vertx = Vertx.vertx();
+        server =
+                vertx.createHttpServer()
+                        .requestHandler(
+                                request ->
+                                        request.response()
+                                                .putHeader("Content-Type", "application/json")
+                                                .end("\"" + request.query() + "\""))
+                        .listen(0)
+                        .toCompletionStage()
+                        .toCompletableFuture()
+                        .get();
+        baseUrl = "http://localhost:" + server.actualPort();
+    }
+
+    @AfterAll
+    public static void stopServer() throws Exception {
+        if (vertx != null) {
+            vertx.close().toCompletionStage().toCompletableFuture().get();
+        }
+    }
+
+    private static <T> T get(Future<T> future) throws Exception {
+        return future.toCompletionStage().toCompletableFuture().get(5, TimeUnit.SECONDS);
+    }
+
+    // completed later by a thread outside of Vert.x
+    private static Future<String> completedElsewhere(String value) {
+        Promise<String> promise = Promise.promise();
+        CompletableFuture.delayedExecutor(50, TimeUnit.MILLISECONDS)
+                .execute(() -> promise.complete(value));
+        return promise.future();
+    }
+
+    @Test
+    public void awaitsOffVertx() throws Exception {
+        Assertions.assertEquals(
+                "done", ThreadingCompatibility.await(vertx.timer(10).map(id -> "done")));
+    }
+
+    @Test
+    public void awaitsTheFailures() {
+        ExecutionException e =
+                Assertions.assertThrows(
+                        ExecutionException.class,
+                        () ->
+                                ThreadingCompatibility.await(
+                                        Future.failedFuture(new IllegalStateException("failed"))));
+
+        Assertions.assertEquals("failed", e.getCause().getMessage());
+    }
+
+    @Test
+    public void awaitsOnTheEventLoopAFutureCompletedElsewhere() throws Exception {
+        Promise<String> result = Promise.promise();
+
+        vertx.runOnContext(
+                v -> {
+                    try {
+                        result.complete(ThreadingCompatibility.await(completedElsewhere("done")));
+                    } catch (Exception e) {
+                        result.fail(e);
+                    }
+                });
+
+        Assertions.assertEquals("done", get(result.future()));
+    }
+
+    @Test
+    public void awaitsOnAWorkerContext() throws Exception {
+        Future<String> result =
+                vertx.executeBlocking(
+                        () -> ThreadingCompatibility.await(vertx.timer(10).map(id -> "done")));
+
+        Assertions.assertEquals("done", get(result));
+    }
+
+    @Test
+    public void executesTheBlockingTasksOffTheEventLoop() throws Exception {
+        Promise<Boolean> result = Promise.promise();
+        AtomicBoolean deliveredOffEventLoop = new AtomicBoolean();
+
+        vertx.runOnContext(
+                v ->
+                        ThreadingCompatibility.executeBlocking(
+                                        vertx.getOrCreateContext(), Context::isOnEventLoopThread)
+                                .onComplete(
+                                        ran -> {
+                                            if (!Context.isOnEventLoopThread()) {
+                                                deliveredOffEventLoop.set(true);
+                                            }
+                                            result.handle(ran);
+                                        }));
+
+        Assertions.assertFalse(get(result.future()));
+        Assertions.assertFalse(deliveredOffEventLoop.get());
+    }
+
+    @Test
+    @EnabledForJreRange(min = JRE.JAVA_21)
+    public void sendsFromAVirtualThreadVerticle() throws Exception {
+        Promise<String> result = Promise.promise();
+        VertXRequestAdapter adapter =
+                new VertXRequestAdapter(WebClient.create(vertx), new JsonParseNodeFactory());
+
+        vertx.deployVerticle(
+                new AbstractVerticle() {
+                    @Override
+                    public void start() throws Exception {
+                        // the context keeps processing its events while waiting
+                        String timer =
+                                ThreadingCompatibility.await(vertx.timer(10).map(id -> "timer,"));
+                        RequestInformation requestInfo = new RequestInformation();
+                        requestInfo.setUri(URI.create(baseUrl + "/echo?sent"));
+                        requestInfo.httpMethod = HttpMethod.GET;
+                        result.complete(
+                                timer + adapter.sendPrimitive(requestInfo, null, String.class));
+                    }
+                },
+                new DeploymentOptions().setThreadingModel(ThreadingModel.VIRTUAL_THREAD));
+
+        Assertions.assertEquals("timer,sent", get(result.future()));
+    }
+}
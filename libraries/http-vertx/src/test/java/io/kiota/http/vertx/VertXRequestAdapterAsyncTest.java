@@ -0,0 +1,187 @@
+package io.kiota.http.vertx;
+
+import com.microsoft.kiota.ApiException;
+import com.microsoft.kiota.HttpMethod;
+import com.microsoft.kiota.RequestInformation;
+import com.microsoft.kiota.serialization.Parsable;
+import com.microsoft.kiota.serialization.ParsableFactory;
+import com.microsoft.kiota.serialization.ParseNode;
+import com.microsoft.kiota.serialization.SerializationWriter;
+import io.kiota.serialization.json.JsonParseNodeFactory;
+import io.vertx.core.CompositeFuture;
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpServer;
+import io.vertx.ext.web.client.WebClient;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+public class VertXRequestAdapterAsyncTest {
+
+    private static final AtomicBoolean parsedOnEventLoop = new AtomicBoolean();
+    private static final ParsableFactory<Item> itemFactory =
+            n -> {
+                if (Context.isOnEventLoopThread()) {
+                    parsedOnEventLoop.set(true);
+                }
+                return new Item();
+            };
+    private static Vertx vertx;
+    private static HttpServer server;
+    private static String baseUrl;
+
+    @BeforeAll
+    public static void startServer() throws Exception {
+        vertx = Vertx.vertx();
+        server =
+                vertx.createHttpServer()
+                        .requestHandler(
+                                request -> {
+                                    String body;
+                                    switch (request.path()) {
+                                        case "/item":
+                                            body = "{\"name\":\"a\"}";
+                                            break;
+                                        case "/items":
+                                            body = "[{\"name\":\"a\"},{\"name\":\"b\"}]";
+                                            break;
+                                        case "/names":
+                                            body = "[\"a\",\"b\"]";
+                                            break;
+                                        default:
+                                            body = "\"" + request.query() + "\"";
+                                    }
+                                    request.response()
+                                            .setStatusCode(
+                                                    request.query() != null
+                                                                    && request.query()
+                                                                            .startsWith("fail")
+                                                            ? 500
+                                                            : 200)
+                                            .putHeader("Content-Type", "application/json")
+                                            .end(body);
+                                })
+                        .listen(0)
+                        .toCompletionStage()
+                        .toCompletableFuture()
+                        .get();
+        baseUrl = "http://localhost:" + server.actualPort();
+    }
+
+    @AfterAll
+    public static void stopServer() throws Exception {
+        if (vertx != null) {
+            vertx.close().toCompletionStage().toCompletableFuture().get();
+        }
+    }
+
+    private static VertXRequestAdapter adapter() {
+        return new VertXRequestAdapter(WebClient.create(vertx), new JsonParseNodeFactory());
+    }
+
+    private static RequestInformation request(String pathAndQuery) {
+        RequestInformation requestInfo = new RequestInformation();
+        requestInfo.setUri(URI.create(baseUrl + pathAndQuery));
+        requestInfo.httpMethod = HttpMethod.GET;
+        return requestInfo;
+    }
+
+    private static <T> T await(Future<T> future) throws Exception {
+        return future.toCompletionStage().toCompletableFuture().get();
+    }
+
+    @Test
+    public void sendsConcurrentRequestsFromTheEventLoop() throws Exception {
+        VertXRequestAdapter adapter = adapter();
+        Promise<List<String>> results = Promise.promise();
+        AtomicBoolean completedOffEventLoop = new AtomicBoolean();
+
+        vertx.runOnContext(
+                v -> {
+                    List<Future<String>> responses = new ArrayList<>();
+                    for (int i = 0; i < 200; i++) {
+                        responses.add(
+                                adapter.sendPrimitiveAsync(
+                                                request("/echo?value-" + i), null, String.class)
+                                        .onComplete(
+                                                response -> {
+                                                    if (!Context.isOnEventLoopThread()) {
+                                                        completedOffEventLoop.set(true);
+                                                    }
+                                                }));
+                    }
+                    Future.all(responses).map(CompositeFuture::<String>list).onComplete(results);
+                });
+
+        List<String> values = await(results.future());
+        for (int i = 0; i < 200; i++) {
+            Assertions.assertEquals("value-" + i, values.get(i));
+        }
+        Assertions.assertFalse(completedOffEventLoop.get());
+    }
+
+    @Test
+    public void deserializesOffTheEventLoop() throws Exception {
+        VertXRequestAdapter adapter = adapter();
+        parsedOnEventLoop.set(false);
+        Promise<Item> item = Promise.promise();
+        Promise<List<Item>> items = Promise.promise();
+        Promise<List<String>> names = Promise.promise();
+
+        vertx.runOnContext(
+                v -> {
+                    adapter.sendAsync(request("/item"), null, itemFactory).onComplete(item);
+                    adapter.sendCollectionAsync(request("/items"), null, itemFactory)
+                            .onComplete(items);
+                    adapter.sendPrimitiveCollectionAsync(request("/names"), null, String.class)
+                            .onComplete(names);
+                });
+
+        Assertions.assertEquals("a", await(item.future()).name);
+        Assertions.assertEquals(
+                List.of("a", "b"),
+                await(items.future()).stream().map(i -> i.name).collect(Collectors.toList()));
+        Assertions.assertEquals(List.of("a", "b"), await(names.future()));
+        Assertions.assertFalse(parsedOnEventLoop.get());
+    }
+
+    @Test
+    public void completesWithTheErrorOfAFailedResponse() {
+        Future<String> response =
+                adapter().sendPrimitiveAsync(request("/echo?fail"), null, String.class);
+
+        ExecutionException e =
+                Assertions.assertThrows(ExecutionException.class, () -> await(response));
+        Assertions.assertInstanceOf(ApiException.class, e.getCause());
+        Assertions.assertEquals(500, ((ApiException) e.getCause()).getResponseStatusCode());
+    }
+
+    public static class Item implements Parsable {
+        private String name;
+
+        @Override
+        public Map<String, Consumer<ParseNode>> getFieldDeserializers() {
+            Map<String, Consumer<ParseNode>> deserializers = new HashMap<>();
+            deserializers.put("name", n -> name = n.getStringValue());
+            return deserializers;
+        }
+
+        @Override
+        public void serialize(SerializationWriter writer) {
+            writer.writeStringValue("name", name);
+        }
+    }
+}
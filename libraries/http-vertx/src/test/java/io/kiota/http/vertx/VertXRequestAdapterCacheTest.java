@@ -0,0 +1,144 @@
+package io.kiota.http.vertx;
+
+import com.microsoft.kiota.HttpMethod;
+import com.microsoft.kiota.RequestInformation;
+import io.kiota.serialization.json.JsonParseNodeFactory;
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpServer;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.ext.web.client.CachingWebClient;
+import io.vertx.ext.web.client.WebClient;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class VertXRequestAdapterCacheTest {
+
+    private static final AtomicInteger received = new AtomicInteger();
+    private static final AtomicInteger notModified = new AtomicInteger();
+    private static Vertx vertx;
+    private static HttpServer server;
+    private static String baseUrl;
+
+    @BeforeAll
+    public static void startServer() throws Exception {
+        vertx = Vertx.vertx();
+        server =
+                vertx.createHttpServer()
+                        .requestHandler(VertXRequestAdapterCacheTest::respond)
+                        .listen(0)
+                        .toCompletionStage()
+                        .toCompletableFuture()
+                        .get();
+        baseUrl = "http://localhost:" + server.actualPort();
+    }
+
+    @AfterAll
+    public static void stopServer() throws Exception {
+        if (vertx != null) {
+            vertx.close().toCompletionStage().toCompletableFuture().get();
+        }
+    }
+
+    @BeforeEach
+    public void reset() {
+        received.set(0);
+        notModified.set(0);
+    }
+
+    // fresh for a minute, or to revalidate with its ETag; the body is the count of responses
+    private static void respond(HttpServerRequest request) {
+        int count = received.incrementAndGet();
+        String body = "\"" + request.path() + ":" + count + "\"";
+        request.response().putHeader("Content-Type", "application/json");
+        switch (request.path()) {
+            case "/fresh":
+                request.response().putHeader("Cache-Control", "max-age=60");
+                break;
+            case "/large":
+                char[] large = new char[1024];
+                Arrays.fill(large, 'k');
+                body = "\"" + new String(large) + count + "\"";
+                request.response().putHeader("Cache-Control", "max-age=60");
+                break;
+            default:
+                request.response()
+                        .putHeader("Cache-Control", "no-cache")
+                        .putHeader("ETag", "\"v1\"");
+                if ("\"v1\"".equals(request.getHeader("If-None-Match"))) {
+                    notModified.incrementAndGet();
+                    request.response().setStatusCode(304).end();
+                    return;
+                }
+        }
+        request.response().end(body);
+    }
+
+    private static VertXRequestAdapter adapter(long cacheSize) {
+        return new VertXRequestAdapter(
+                CachingWebClient.create(WebClient.create(vertx), new BoundedCacheStore(cacheSize)),
+                new JsonParseNodeFactory());
+    }
+
+    private static RequestInformation request(String path) {
+        RequestInformation requestInfo = new RequestInformation();
+        requestInfo.setUri(URI.create(baseUrl + path));
+        requestInfo.httpMethod = HttpMethod.GET;
+        return requestInfo;
+    }
+
+    @Test
+    public void servesTheFreshResponsesFromTheCache() throws Exception {
+        VertXRequestAdapter adapter = adapter(1 << 20);
+
+        Assertions.assertEquals(
+                "/fresh:1", adapter.sendPrimitive(request("/fresh"), null, String.class));
+        Assertions.assertEquals(
+                "/fresh:1", adapter.sendPrimitive(request("/fresh"), null, String.class));
+        Assertions.assertEquals(
+                "/fresh:1",
+                adapter.sendPrimitiveAsync(request("/fresh"), null, String.class)
+                        .toCompletionStage()
+                        .toCompletableFuture()
+                        .get());
+        try (InputStream body = adapter.sendPrimitive(request("/fresh"), null, InputStream.class)) {
+            Assertions.assertEquals(
+                    "\"/fresh:1\"", new String(body.readAllBytes(), StandardCharsets.UTF_8));
+        }
+        Assertions.assertEquals(1, received.get());
+    }
+
+    @Test
+    public void revalidatesTheResponsesWithAnETag() {
+        VertXRequestAdapter adapter = adapter(1 << 20);
+
+        Assertions.assertEquals(
+                "/etag:1", adapter.sendPrimitive(request("/etag"), null, String.class));
+        Assertions.assertEquals(
+                "/etag:1", adapter.sendPrimitive(request("/etag"), null, String.class));
+        Assertions.assertEquals(2, received.get());
+        Assertions.assertEquals(1, notModified.get());
+    }
+
+    @Test
+    public void doesNotStoreTheResponsesLargerThanAQuarterOfTheStore() {
+        VertXRequestAdapter adapter = adapter(2048);
+
+        Assertions.assertTrue(
+                adapter.sendPrimitive(request("/large"), null, String.class).endsWith("1"));
+        Assertions.assertTrue(
+                adapter.sendPrimitive(request("/large"), null, String.class).endsWith("2"));
+        Assertions.assertEquals(
+                "/fresh:3", adapter.sendPrimitive(request("/fresh"), null, String.class));
+        Assertions.assertEquals(
+                "/fresh:3", adapter.sendPrimitive(request("/fresh"), null, String.class));
+        Assertions.assertEquals(3, received.get());
+    }
+}
@@ -0,0 +1,189 @@
+package io.kiota.http.vertx;
+
+import com.microsoft.kiota.HttpMethod;
+import com.microsoft.kiota.RequestInformation;
+import io.kiota.serialization.json.JsonParseNodeFactory;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpServer;
+import io.vertx.ext.web.client.WebClient;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class VertXRequestAdapterCoalescingTest {
+
+    private static final AtomicInteger received = new AtomicInteger();
+    private static Vertx vertx;
+    private static HttpServer server;
+    private static String baseUrl;
+
+    @BeforeAll
+    public static void startServer() throws Exception {
+        vertx = Vertx.vertx();
+        server =
+                vertx.createHttpServer()
+                        .requestHandler(
+                                request -> {
+                                    int count = received.incrementAndGet();
+                                    // long enough for the other requests to be made meanwhile
+                                    vertx.setTimer(
+                                            300,
+                                            id ->
+                                                    request.response()
+                                                            .putHeader(
+                                                                    "Content-Type",
+                                                                    "application/json")
+                                                            .end(
+                                                                    "\""
+                                                                            + request.path()
+                                                                            + ":"
+                                                                            + count
+                                                                            + "\""));
+                                })
+                        .listen(0)
+                        .toCompletionStage()
+                        .toCompletableFuture()
+                        .get();
+        baseUrl = "http://localhost:" + server.actualPort();
+    }
+
+    @AfterAll
+    public static void stopServer() throws Exception {
+        if (vertx != null) {
+            vertx.close().toCompletionStage().toCompletableFuture().get();
+        }
+    }
+
+    @BeforeEach
+    public void reset() {
+        received.set(0);
+    }
+
+    private static VertXRequestAdapter adapter() {
+        VertXRequestAdapter adapter =
+                new VertXRequestAdapter(WebClient.create(vertx), new JsonParseNodeFactory());
+        adapter.addInterceptor(new CoalescingInterceptor());
+        return adapter;
+    }
+
+    private static RequestInformation request(HttpMethod method, String path) {
+        RequestInformation requestInfo = new RequestInformation();
+        requestInfo.setUri(URI.create(baseUrl + path));
+        requestInfo.httpMethod = method;
+        return requestInfo;
+    }
+
+    private static <T> T join(Future<T> future) {
+        return future.toCompletionStage().toCompletableFuture().join();
+    }
+
+    @Test
+    public void sendsConcurrentIdenticalRequestsOnce() throws Exception {
+        VertXRequestAdapter adapter = adapter();
+        CyclicBarrier start = new CyclicBarrier(8);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<java.util.concurrent.Future<String>> responses = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                responses.add(
+                        executor.submit(
+                                () -> {
+                                    start.await();
+                                    return adapter.sendPrimitive(
+                                            request(HttpMethod.GET, "/item"), null, String.class);
+                                }));
+            }
+            for (java.util.concurrent.Future<String> response : responses) {
+                Assertions.assertEquals("/item:1", response.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+        Assertions.assertEquals(1, received.get());
+
+        // the requests made once the response is received are sent again
+        Assertions.assertEquals(
+                "/item:2",
+                adapter.sendPrimitive(request(HttpMethod.GET, "/item"), null, String.class));
+    }
+
+    @Test
+    public void coalescesTheAsyncRequests() {
+        VertXRequestAdapter adapter = adapter();
+
+        List<Future<String>> responses = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            responses.add(
+                    adapter.sendPrimitiveAsync(
+                            request(HttpMethod.GET, "/item"), null, String.class));
+        }
+        responses.add(
+                Future.fromCompletionStage(
+                        CompletableFuture.supplyAsync(
+                                () ->
+                                        adapter.sendPrimitive(
+                                                request(HttpMethod.GET, "/item"),
+                                                null,
+                                                String.class))));
+
+        for (Future<String> response : responses) {
+            Assertions.assertEquals("/item:1", join(response));
+        }
+        Assertions.assertEquals(1, received.get());
+    }
+
+    @Test
+    public void sendsTheRequestsWithOtherHeadersOrMethods() {
+        VertXRequestAdapter adapter = adapter();
+        RequestInformation other = request(HttpMethod.GET, "/item");
+        other.headers.add("Accept-Language", "fr");
+
+        List<Future<String>> responses = new ArrayList<>();
+        responses.add(
+                adapter.sendPrimitiveAsync(request(HttpMethod.GET, "/item"), null, String.class));
+        responses.add(adapter.sendPrimitiveAsync(other, null, String.class));
+        responses.add(
+                adapter.sendPrimitiveAsync(request(HttpMethod.POST, "/item"), null, String.class));
+        responses.add(
+                adapter.sendPrimitiveAsync(request(HttpMethod.POST, "/item"), null, String.class));
+        responses.forEach(VertXRequestAdapterCoalescingTest::join);
+
+        Assertions.assertEquals(4, received.get());
+    }
+
+    @Test
+    public void streamsEachResponse() {
+        VertXRequestAdapter adapter = adapter();
+
+        CompletableFuture<String> first = CompletableFuture.supplyAsync(() -> stream(adapter));
+        CompletableFuture<String> second = CompletableFuture.supplyAsync(() -> stream(adapter));
+
+        Assertions.assertNotEquals(first.join(), second.join());
+        Assertions.assertEquals(2, received.get());
+    }
+
+    private static String stream(VertXRequestAdapter adapter) {
+        try (InputStream body =
+                adapter.sendPrimitive(
+                        request(HttpMethod.GET, "/stream"), null, InputStream.class)) {
+            return new String(body.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
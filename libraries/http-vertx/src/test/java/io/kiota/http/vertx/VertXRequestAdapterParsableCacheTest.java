@@ -0,0 +1,269 @@
+package io.kiota.http.vertx;
+
+import com.microsoft.kiota.HttpMethod;
+import com.microsoft.kiota.RequestInformation;
+import com.microsoft.kiota.serialization.Parsable;
+import com.microsoft.kiota.serialization.ParsableFactory;
+import com.microsoft.kiota.serialization.ParseNode;
+import com.microsoft.kiota.serialization.SerializationWriter;
+import com.microsoft.kiota.store.BackedModel;
+import com.microsoft.kiota.store.BackingStore;
+import com.microsoft.kiota.store.BackingStoreFactorySingleton;
+import io.kiota.http.ParsableCache;
+import io.kiota.serialization.json.JsonParseNodeFactory;
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpServer;
+import io.vertx.ext.web.client.WebClient;
+import java.net.URI;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class VertXRequestAdapterParsableCacheTest {
+
+    private static final AtomicInteger received = new AtomicInteger();
+    private static final AtomicInteger parsed = new AtomicInteger();
+    private static final ParsableFactory<Item> itemFactory =
+            n -> {
+                parsed.incrementAndGet();
+                return new Item();
+            };
+    private static final ParsableFactory<PlainItem> plainItemFactory =
+            n -> {
+                parsed.incrementAndGet();
+                return new PlainItem();
+            };
+    private static final ParsableFactory<Wrapper> wrapperFactory =
+            n -> {
+                parsed.incrementAndGet();
+                return new Wrapper();
+            };
+    private static Vertx vertx;
+    private static HttpServer server;
+    private static String baseUrl;
+
+    @BeforeAll
+    public static void startServer() throws Exception {
+        vertx = Vertx.vertx();
+        server =
+                vertx.createHttpServer()
+                        .requestHandler(
+                                request -> {
+                                    int count = received.incrementAndGet();
+                                    String etag = request.query();
+                                    request.response()
+                                            .putHeader("Content-Type", "application/json");
+                                    if (etag != null) {
+                                        request.response().putHeader("ETag", "\"" + etag + "\"");
+                                    }
+                                    request.response()
+                                            .end(
+                                                    "{\"name\":\"item-"
+                                                            + count
+                                                            + "\",\"tags\":[\"a\",\"b\"]}");
+                                })
+                        .listen(0)
+                        .toCompletionStage()
+                        .toCompletableFuture()
+                        .get();
+        baseUrl = "http://localhost:" + server.actualPort();
+    }
+
+    @AfterAll
+    public static void stopServer() throws Exception {
+        if (vertx != null) {
+            vertx.close().toCompletionStage().toCompletableFuture().get();
+        }
+    }
+
+    @BeforeEach
+    public void reset() {
+        received.set(0);
+        parsed.set(0);
+    }
+
+    private static VertXRequestAdapter adapter() {
+        VertXRequestAdapter adapter =
+                new VertXRequestAdapter(WebClient.create(vertx), new JsonParseNodeFactory());
+        adapter.setParsableCache(new ParsableCache(16));
+        return adapter;
+    }
+
+    private static RequestInformation request(String etag) {
+        RequestInformation requestInfo = new RequestInformation();
+        requestInfo.setUri(URI.create(baseUrl + "/items" + (etag == null ? "" : "?" + etag)));
+        requestInfo.httpMethod = HttpMethod.GET;
+        return requestInfo;
+    }
+
+    @Test
+    public void returnsTheCachedObjectForTheSameETag() {
+        VertXRequestAdapter adapter = adapter();
+
+        adapter.send(request("v1"), null, itemFactory);
+        Item second = adapter.send(request("v1"), null, itemFactory);
+        Item third =
+                adapter.sendAsync(request("v1"), null, itemFactory)
+                        .toCompletionStage()
+                        .toCompletableFuture()
+                        .join();
+
+        Assertions.assertEquals(3, received.get());
+        Assertions.assertEquals(1, parsed.get());
+        Assertions.assertEquals("item-1", second.getName());
+        Assertions.assertEquals("item-1", third.getName());
+    }
+
+    @Test
+    public void parsesTheResponsesWithAnotherOrNoETag() {
+        VertXRequestAdapter adapter = adapter();
+
+        Assertions.assertEquals("item-1", adapter.send(request("v1"), null, itemFactory).getName());
+        Assertions.assertEquals("item-2", adapter.send(request("v2"), null, itemFactory).getName());
+        Assertions.assertEquals("item-3", adapter.send(request(null), null, itemFactory).getName());
+        Assertions.assertEquals("item-4", adapter.send(request(null), null, itemFactory).getName());
+        Assertions.assertEquals(4, parsed.get());
+    }
+
+    @Test
+    public void copiesTheBackedModels() {
+        VertXRequestAdapter adapter = adapter();
+
+        Item first = adapter.send(request("v1"), null, itemFactory);
+        first.setName("changed");
+        first.getTags().add("c");
+        Item second = adapter.send(request("v1"), null, itemFactory);
+        second.setName("changed again");
+        Item third = adapter.send(request("v1"), null, itemFactory);
+
+        Assertions.assertEquals(1, parsed.get());
+        Assertions.assertNotSame(second, third);
+        Assertions.assertEquals("item-1", third.getName());
+        Assertions.assertEquals(List.of("a", "b"), third.getTags());
+        Assertions.assertEquals(
+                List.of(), third.getBackingStore().enumerateKeysForValuesChangedToNull());
+        third.getBackingStore().setReturnOnlyChangedValues(true);
+        Assertions.assertTrue(third.getBackingStore().enumerate().isEmpty());
+    }
+
+    @Test
+    public void parsesTheModelsWithoutBackingStoreForEachCaller() {
+        VertXRequestAdapter adapter = adapter();
+
+        PlainItem first = adapter.send(request("v1"), null, plainItemFactory);
+        first.name = "changed";
+        first.tags.add("c");
+        PlainItem second = adapter.send(request("v1"), null, plainItemFactory);
+
+        Assertions.assertEquals(2, parsed.get());
+        Assertions.assertNotSame(first, second);
+        Assertions.assertEquals("item-2", second.name);
+        Assertions.assertEquals(List.of("a", "b"), second.tags);
+    }
+
+    @Test
+    public void parsesTheBackedModelsNestingModelsWithoutBackingStoreForEachCaller() {
+        VertXRequestAdapter adapter = adapter();
+
+        Wrapper first = adapter.send(request("v1"), null, wrapperFactory);
+        first.getItem().name = "changed";
+        Wrapper second = adapter.send(request("v1"), null, wrapperFactory);
+
+        Assertions.assertEquals(2, parsed.get());
+        Assertions.assertNotSame(first.getItem(), second.getItem());
+        Assertions.assertEquals("item-2", second.getItem().name);
+    }
+
+    public static class Item implements Parsable, BackedModel {
+        private final BackingStore backingStore =
+                BackingStoreFactorySingleton.instance.createBackingStore();
+
+        @Override
+        public BackingStore getBackingStore() {
+            return backingStore;
+        }
+
+        public String getName() {
+            return backingStore.get("name");
+        }
+
+        public void setName(String name) {
+            backingStore.set("name", name);
+        }
+
+        public List<String> getTags() {
+            return backingStore.get("tags");
+        }
+
+        @Override
+        public Map<String, Consumer<ParseNode>> getFieldDeserializers() {
+            Map<String, Consumer<ParseNode>> deserializers = new HashMap<>();
+            deserializers.put("name", n -> setName(n.getStringValue()));
+            deserializers.put(
+                    "tags",
+                    n -> backingStore.set("tags", n.getCollectionOfPrimitiveValues(String.class)));
+            return deserializers;
+        }
+
+        @Override
+        public void serialize(SerializationWriter writer) {
+            writer.writeStringValue("name", getName());
+            writer.writeCollectionOfPrimitiveValues("tags", getTags());
+        }
+    }
+
+    public static class PlainItem implements Parsable {
+        private String name;
+        private List<String> tags;
+
+        @Override
+        public Map<String, Consumer<ParseNode>> getFieldDeserializers() {
+            Map<String, Consumer<ParseNode>> deserializers = new HashMap<>();
+            deserializers.put("name", n -> name = n.getStringValue());
+            deserializers.put("tags", n -> tags = n.getCollectionOfPrimitiveValues(String.class));
+            return deserializers;
+        }
+
+        @Override
+        public void serialize(SerializationWriter writer) {
+            writer.writeStringValue("name", name);
+            writer.writeCollectionOfPrimitiveValues("tags", tags);
+        }
+    }
+
+    // a backed model holding the fields of the response in a model without backing store
+    public static class Wrapper implements Parsable, BackedModel {
+        private final BackingStore backingStore =
+                BackingStoreFactorySingleton.instance.createBackingStore();
+
+        public Wrapper() {
+            backingStore.set("item", new PlainItem());
+        }
+
+        @Override
+        public BackingStore getBackingStore() {
+            return backingStore;
+        }
+
+        public PlainItem getItem() {
+            return backingStore.get("item");
+        }
+
+        @Override
+        public Map<String, Consumer<ParseNode>> getFieldDeserializers() {
+            return getItem().getFieldDeserializers();
+        }
+
+        @Override
+        public void serialize(SerializationWriter writer) {
+            getItem().serialize(writer);
+        }
+    }
+}
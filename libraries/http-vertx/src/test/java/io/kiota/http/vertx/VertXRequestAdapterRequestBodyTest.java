@@ -0,0 +1,167 @@
+package io.kiota.http.vertx;
+
+import com.microsoft.kiota.HttpMethod;
+import com.microsoft.kiota.RequestInformation;
+import com.microsoft.kiota.serialization.SerializationWriter;
+import io.kiota.serialization.json.JsonParseNodeFactory;
+import io.kiota.serialization.json.JsonSerializationWriterFactory;
+import io.kiota.serialization.json.PooledJsonSerializationWriterFactory;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpServer;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.ext.web.client.WebClient;
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.Base64;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+public class VertXRequestAdapterRequestBodyTest {
+
+    private static Vertx vertx;
+    private static HttpServer server;
+    private static String baseUrl;
+
+    @BeforeAll
+    public static void startServer() throws Exception {
+        vertx = Vertx.vertx();
+        server =
+                vertx.createHttpServer()
+                        .requestHandler(
+                                request ->
+                                        request.body()
+                                                .onSuccess(received -> respond(request, received)))
+                        .listen(0)
+                        .toCompletionStage()
+                        .toCompletableFuture()
+                        .get();
+        baseUrl = "http://localhost:" + server.actualPort();
+    }
+
+    @AfterAll
+    public static void stopServer() throws Exception {
+        if (vertx != null) {
+            vertx.close().toCompletionStage().toCompletableFuture().get();
+        }
+    }
+
+    // the length of the content received, or chunked, and its digest
+    private static void respond(HttpServerRequest request, Buffer received) {
+        String contentLength = request.getHeader("Content-Length");
+        request.response()
+                .putHeader("Content-Type", "application/json")
+                .end(
+                        "\""
+                                + (contentLength == null ? "chunked" : contentLength)
+                                + ":"
+                                + digest(received.getBytes())
+                                + "\"");
+    }
+
+    private static String digest(byte[] content) {
+        try {
+            return Base64.getEncoder()
+                    .encodeToString(MessageDigest.getInstance("SHA-256").digest(content));
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static RequestInformation request(InputStream content) {
+        RequestInformation requestInfo = new RequestInformation();
+        requestInfo.setUri(URI.create(baseUrl + "/upload"));
+        requestInfo.httpMethod = HttpMethod.POST;
+        requestInfo.content = content;
+        requestInfo.headers.add("Content-Type", "application/octet-stream");
+        return requestInfo;
+    }
+
+    private static String upload(InputStream content) {
+        VertXRequestAdapter adapter =
+                new VertXRequestAdapter(WebClient.create(vertx), new JsonParseNodeFactory());
+        return adapter.sendPrimitive(request(content), null, String.class);
+    }
+
+    private static byte[] payload() {
+        byte[] content = new byte[1024 * 1024 + 7];
+        Arrays.fill(content, (byte) 'k');
+        return content;
+    }
+
+    @Test
+    public void sendsInMemoryContentWithItsLength() {
+        byte[] content = payload();
+
+        Assertions.assertEquals(
+                content.length + ":" + digest(content), upload(new ByteArrayInputStream(content)));
+    }
+
+    @Test
+    public void streamsOtherContent() {
+        byte[] content = payload();
+
+        Assertions.assertEquals(
+                "chunked:" + digest(content),
+                upload(new BufferedInputStream(new ByteArrayInputStream(content))));
+    }
+
+    @Test
+    public void streamsOtherContentSentFromTheEventLoop() throws Exception {
+        byte[] content = payload();
+        VertXRequestAdapter adapter =
+                new VertXRequestAdapter(WebClient.create(vertx), new JsonParseNodeFactory());
+        Promise<String> result = Promise.promise();
+
+        // the content is read off the event loop
+        vertx.runOnContext(
+                v ->
+                        adapter.sendPrimitiveAsync(
+                                        request(
+                                                new BufferedInputStream(
+                                                        new ByteArrayInputStream(content))),
+                                        null,
+                                        String.class)
+                                .onComplete(result));
+
+        Assertions.assertEquals(
+                "chunked:" + digest(content),
+                result.future().toCompletionStage().toCompletableFuture().get());
+    }
+
+    @Test
+    public void sendsSerializedContentWithItsLength() throws IOException {
+        String text = new String(payload(), StandardCharsets.UTF_8);
+        byte[] expected = ("\"" + text + "\"").getBytes(StandardCharsets.UTF_8);
+        SerializationWriter writer =
+                new JsonSerializationWriterFactory().getSerializationWriter("application/json");
+        writer.writeStringValue(null, text);
+        InputStream content = writer.getSerializedContent();
+        writer.close();
+
+        Assertions.assertEquals(expected.length + ":" + digest(expected), upload(content));
+    }
+
+    @Test
+    public void closesPooledContentOnceSent() throws IOException {
+        byte[] expected = "\"kiota\"".getBytes(StandardCharsets.UTF_8);
+        SerializationWriter writer =
+                new PooledJsonSerializationWriterFactory()
+                        .getSerializationWriter("application/json");
+        writer.writeStringValue(null, "kiota");
+        InputStream content = writer.getSerializedContent();
+        writer.close();
+
+        Assertions.assertEquals(expected.length + ":" + digest(expected), upload(content));
+        Assertions.assertEquals(-1, content.read());
+    }
+}
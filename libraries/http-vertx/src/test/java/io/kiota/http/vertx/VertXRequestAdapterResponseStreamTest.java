@@ -0,0 +1,185 @@
+package io.kiota.http.vertx;
+
+import com.microsoft.kiota.ApiException;
+import com.microsoft.kiota.HttpMethod;
+import com.microsoft.kiota.RequestInformation;
+import io.kiota.serialization.json.JsonParseNodeFactory;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpServer;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.ext.web.client.WebClient;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class VertXRequestAdapterResponseStreamTest {
+
+    private static final long largeSize = 64L * 1024 * 1024;
+    private static final Buffer largeChunk = Buffer.buffer(new byte[64 * 1024]);
+    private static final AtomicInteger completed = new AtomicInteger();
+    private static final AtomicBoolean timedOut = new AtomicBoolean();
+    private static volatile Promise<Void> firstPartRead;
+    private static Vertx vertx;
+    private static HttpServer server;
+    private static String baseUrl;
+
+    @BeforeAll
+    public static void startServer() throws Exception {
+        vertx = Vertx.vertx();
+        server =
+                vertx.createHttpServer()
+                        .requestHandler(
+                                request -> {
+                                    HttpServerResponse response = request.response();
+                                    switch (request.path()) {
+                                        case "/large":
+                                            response.putHeader(
+                                                    "Content-Length", Long.toString(largeSize));
+                                            sendLarge(response, largeSize);
+                                            break;
+                                        case "/parts":
+                                            sendParts(response);
+                                            break;
+                                        default:
+                                            response.setStatusCode(404)
+                                                    .putHeader("Content-Type", "application/json")
+                                                    .end("{\"error\":\"missing\"}");
+                                    }
+                                })
+                        .listen(0)
+                        .toCompletionStage()
+                        .toCompletableFuture()
+                        .get();
+        baseUrl = "http://localhost:" + server.actualPort();
+    }
+
+    @AfterAll
+    public static void stopServer() throws Exception {
+        if (vertx != null) {
+            vertx.close().toCompletionStage().toCompletableFuture().get();
+        }
+    }
+
+    @BeforeEach
+    public void reset() {
+        completed.set(0);
+        timedOut.set(false);
+        firstPartRead = Promise.promise();
+    }
+
+    // written as fast as the client reads it
+    private static void sendLarge(HttpServerResponse response, long remaining) {
+        long left = remaining;
+        while (left > 0 && !response.writeQueueFull()) {
+            response.write(largeChunk);
+            left -= largeChunk.length();
+        }
+        if (left > 0) {
+            final long next = left;
+            response.drainHandler(v -> sendLarge(response, next));
+        } else {
+            response.end().onSuccess(v -> completed.incrementAndGet());
+        }
+    }
+
+    // the rest is sent once the caller read the first part
+    private static void sendParts(HttpServerResponse response) {
+        response.setChunked(true).write("first,");
+        long timer =
+                vertx.setTimer(
+                        5000,
+                        id -> {
+                            timedOut.set(true);
+                            firstPartRead.tryComplete();
+                        });
+        firstPartRead
+                .future()
+                .onComplete(
+                        v -> {
+                            vertx.cancelTimer(timer);
+                            response.end("second");
+                        });
+    }
+
+    private static VertXRequestAdapter adapter() {
+        return new VertXRequestAdapter(WebClient.create(vertx), new JsonParseNodeFactory());
+    }
+
+    private static RequestInformation request(String path) {
+        RequestInformation requestInfo = new RequestInformation();
+        requestInfo.setUri(URI.create(baseUrl + path));
+        requestInfo.httpMethod = HttpMethod.GET;
+        return requestInfo;
+    }
+
+    @Test
+    public void streamsTheBodyAsItIsReceived() throws Exception {
+        try (InputStream body =
+                adapter().sendPrimitive(request("/parts"), null, InputStream.class)) {
+            Assertions.assertEquals(
+                    "first,", new String(body.readNBytes(6), StandardCharsets.UTF_8));
+            firstPartRead.tryComplete();
+            Assertions.assertEquals(
+                    "second", new String(body.readAllBytes(), StandardCharsets.UTF_8));
+        }
+        Assertions.assertFalse(timedOut.get());
+    }
+
+    @Test
+    public void readsALargeBody() throws Exception {
+        long read = 0;
+        try (InputStream body =
+                adapter().sendPrimitive(request("/large"), null, InputStream.class)) {
+            byte[] buffer = new byte[8192];
+            int count;
+            while ((count = body.read(buffer)) >= 0) {
+                read += count;
+            }
+        }
+
+        Assertions.assertEquals(largeSize, read);
+    }
+
+    @Test
+    public void discardsTheRestOfTheBodyOnceClosed() throws Exception {
+        VertXRequestAdapter adapter = adapter();
+
+        InputStream body = adapter.sendPrimitive(request("/large"), null, InputStream.class);
+        Assertions.assertTrue(body.read(new byte[100]) > 0);
+        body.close();
+
+        // the server isn't paused by the unread body
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (completed.get() == 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        Assertions.assertEquals(1, completed.get());
+        try (InputStream next = adapter.sendPrimitive(request("/parts"), null, InputStream.class)) {
+            firstPartRead.tryComplete();
+            Assertions.assertEquals(
+                    "first,second", new String(next.readAllBytes(), StandardCharsets.UTF_8));
+        }
+    }
+
+    @Test
+    public void throwsTheErrorOfAFailedResponse() {
+        ApiException e =
+                Assertions.assertThrows(
+                        ApiException.class,
+                        () ->
+                                adapter()
+                                        .sendPrimitive(
+                                                request("/missing"), null, InputStream.class));
+
+        Assertions.assertEquals(404, e.getResponseStatusCode());
+    }
+}
@@ -0,0 +1,179 @@
+package io.kiota.http.vertx;
+
+import com.microsoft.kiota.ApiException;
+import com.microsoft.kiota.HttpMethod;
+import com.microsoft.kiota.RequestInformation;
+import io.kiota.http.RetryOption;
+import io.kiota.serialization.json.JsonParseNodeFactory;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpServer;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.ext.web.client.WebClient;
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class VertXRequestAdapterRetryTest {
+
+    private static final AtomicInteger attempts = new AtomicInteger();
+    private static final AtomicInteger failures = new AtomicInteger();
+    private static Vertx vertx;
+    private static HttpServer server;
+    private static String baseUrl;
+
+    @BeforeAll
+    public static void startServer() throws Exception {
+        vertx = Vertx.vertx();
+        server =
+                vertx.createHttpServer()
+                        .requestHandler(
+                                request ->
+                                        request.body()
+                                                .onSuccess(received -> respond(request, received)))
+                        .listen(0)
+                        .toCompletionStage()
+                        .toCompletableFuture()
+                        .get();
+        baseUrl = "http://localhost:" + server.actualPort();
+    }
+
+    // unavailable for the first failures, then the length of the content received
+    private static void respond(HttpServerRequest request, Buffer received) {
+        boolean failed = attempts.incrementAndGet() <= failures.get();
+        if (failed) {
+            request.response().putHeader("Retry-After", "0");
+        }
+        request.response()
+                .setStatusCode(failed ? 503 : 200)
+                .putHeader("Content-Type", "application/json")
+                .end("\"" + received.length() + "\"");
+    }
+
+    @AfterAll
+    public static void stopServer() throws Exception {
+        if (vertx != null) {
+            vertx.close().toCompletionStage().toCompletableFuture().get();
+        }
+    }
+
+    @BeforeEach
+    public void reset() {
+        attempts.set(0);
+        failures.set(0);
+    }
+
+    private static VertXRequestAdapter adapter() {
+        RetryOption defaults = new RetryOption();
+        defaults.setDelay(Duration.ofMillis(5));
+        VertXRequestAdapter adapter =
+                new VertXRequestAdapter(WebClient.create(vertx), new JsonParseNodeFactory());
+        adapter.addInterceptor(new RetryInterceptor(vertx, defaults));
+        return adapter;
+    }
+
+    private static RequestInformation request(InputStream content) {
+        RequestInformation requestInfo = new RequestInformation();
+        requestInfo.setUri(URI.create(baseUrl + "/upload"));
+        requestInfo.httpMethod = HttpMethod.POST;
+        requestInfo.content = content;
+        requestInfo.headers.add("Content-Type", "application/octet-stream");
+        return requestInfo;
+    }
+
+    private static RequestInformation request() {
+        return request(new ByteArrayInputStream(new byte[42]));
+    }
+
+    @Test
+    public void retriesTheUnavailableResponses() {
+        failures.set(2);
+
+        Assertions.assertEquals("42", adapter().sendPrimitive(request(), null, String.class));
+        Assertions.assertEquals(3, attempts.get());
+    }
+
+    @Test
+    public void retriesTheUnavailableResponsesAsynchronously() throws Exception {
+        failures.set(2);
+
+        Assertions.assertEquals(
+                "42",
+                adapter()
+                        .sendPrimitiveAsync(request(), null, String.class)
+                        .toCompletionStage()
+                        .toCompletableFuture()
+                        .get());
+        Assertions.assertEquals(3, attempts.get());
+    }
+
+    @Test
+    public void retriesTheUnavailableStreamedResponses() throws Exception {
+        failures.set(2);
+
+        try (InputStream body = adapter().sendPrimitive(request(), null, InputStream.class)) {
+            Assertions.assertEquals(
+                    "\"42\"", new String(body.readAllBytes(), StandardCharsets.UTF_8));
+        }
+        Assertions.assertEquals(3, attempts.get());
+    }
+
+    @Test
+    public void throwsTheLastErrorOnceTheRetriesAreExhausted() {
+        failures.set(10);
+
+        ApiException e =
+                Assertions.assertThrows(
+                        ApiException.class,
+                        () -> adapter().sendPrimitive(request(), null, String.class));
+        Assertions.assertEquals(503, e.getResponseStatusCode());
+        Assertions.assertEquals(4, attempts.get());
+    }
+
+    @Test
+    public void usesTheOptionOfTheRequest() {
+        failures.set(2);
+        RetryOption option = new RetryOption();
+        option.setMaxRetries(1);
+        option.setDelay(Duration.ofMillis(5));
+        RequestInformation requestInfo = request();
+        requestInfo.addRequestOptions(List.of(option));
+
+        ApiException e =
+                Assertions.assertThrows(
+                        ApiException.class,
+                        () -> adapter().sendPrimitive(requestInfo, null, String.class));
+        Assertions.assertEquals(503, e.getResponseStatusCode());
+        Assertions.assertEquals(2, attempts.get());
+    }
+
+    @Test
+    public void sendsTheStreamedContentOnce() {
+        failures.set(2);
+
+        ApiException e =
+                Assertions.assertThrows(
+                        ApiException.class,
+                        () ->
+                                adapter()
+                                        .sendPrimitive(
+                                                request(
+                                                        new BufferedInputStream(
+                                                                new ByteArrayInputStream(
+                                                                        new byte[42]))),
+                                                null,
+                                                String.class));
+        Assertions.assertEquals(503, e.getResponseStatusCode());
+        Assertions.assertEquals(1, attempts.get());
+    }
+}
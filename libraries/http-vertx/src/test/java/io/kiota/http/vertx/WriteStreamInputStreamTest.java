@@ -0,0 +1,173 @@
+package io.kiota.http.vertx;
+
+import io.vertx.core.Context;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+public class WriteStreamInputStreamTest {
+
+    private static Vertx vertx;
+
+    @BeforeAll
+    public static void startVertx() {
+        vertx = Vertx.vertx();
+    }
+
+    @AfterAll
+    public static void stopVertx() throws Exception {
+        if (vertx != null) {
+            vertx.close().toCompletionStage().toCompletableFuture().get();
+        }
+    }
+
+    private static Buffer chunk(String content) {
+        return Buffer.buffer(content);
+    }
+
+    private static String read(WriteStreamInputStream stream, int length) throws IOException {
+        return new String(stream.readNBytes(length), StandardCharsets.UTF_8);
+    }
+
+    @Test
+    public void pausesTheBodyWhileTheQueueIsFull() throws IOException {
+        WriteStreamInputStream stream = new WriteStreamInputStream();
+        AtomicInteger drained = new AtomicInteger();
+        stream.setWriteQueueMaxSize(10);
+
+        stream.write(chunk("abcdef"));
+        Assertions.assertFalse(stream.writeQueueFull());
+        stream.write(chunk("ghijkl"));
+        Assertions.assertTrue(stream.writeQueueFull());
+        stream.drainHandler(v -> drained.incrementAndGet());
+        Assertions.assertEquals(0, drained.get());
+
+        Assertions.assertEquals("abcdef", read(stream, 6));
+        // resumed once half of the queue has been read
+        Assertions.assertEquals(0, drained.get());
+        Assertions.assertEquals("g", read(stream, 1));
+        Assertions.assertEquals(1, drained.get());
+        Assertions.assertFalse(stream.writeQueueFull());
+
+        stream.complete();
+        Assertions.assertEquals("hijkl", read(stream, 10));
+        Assertions.assertEquals(-1, stream.read());
+        Assertions.assertEquals(1, drained.get());
+    }
+
+    @Test
+    public void drainsAtOnceWhenTheQueueWasReadBeforeTheHandlerIsSet() throws IOException {
+        WriteStreamInputStream stream = new WriteStreamInputStream();
+        AtomicInteger drained = new AtomicInteger();
+        stream.setWriteQueueMaxSize(10);
+
+        stream.write(chunk("abcdefghijkl"));
+        Assertions.assertTrue(stream.writeQueueFull());
+        Assertions.assertEquals("abcdefghijkl", read(stream, 12));
+        stream.drainHandler(v -> drained.incrementAndGet());
+
+        Assertions.assertEquals(1, drained.get());
+    }
+
+    @Test
+    public void drainsOnTheContextWritingTheBody() throws Exception {
+        WriteStreamInputStream stream = new WriteStreamInputStream();
+        stream.setWriteQueueMaxSize(10);
+        Promise<Boolean> drained = Promise.promise();
+
+        vertx.runOnContext(
+                v -> {
+                    stream.write(chunk("abcdefghijkl"));
+                    stream.drainHandler(drain -> drained.complete(Context.isOnEventLoopThread()));
+                });
+
+        Assertions.assertEquals("abcdefghijkl", read(stream, 12));
+        Assertions.assertTrue(
+                drained.future()
+                        .toCompletionStage()
+                        .toCompletableFuture()
+                        .get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void waitsForTheNextChunk() throws Exception {
+        WriteStreamInputStream stream = new WriteStreamInputStream();
+
+        CompletableFuture<String> read =
+                CompletableFuture.supplyAsync(
+                        () -> {
+                            try {
+                                return new String(stream.readAllBytes(), StandardCharsets.UTF_8);
+                            } catch (IOException e) {
+                                throw new RuntimeException(e);
+                            }
+                        });
+        vertx.runOnContext(v -> stream.write(chunk("first,")));
+        vertx.setTimer(
+                100,
+                id -> {
+                    stream.write(chunk("second"));
+                    stream.complete();
+                });
+
+        Assertions.assertEquals("first,second", read.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void failsTheReadsAfterTheChunksReceived() throws IOException {
+        WriteStreamInputStream stream = new WriteStreamInputStream();
+
+        stream.write(chunk("ab"));
+        stream.fail(new IllegalStateException("reset"));
+
+        Assertions.assertEquals("ab", read(stream, 2));
+        IOException e = Assertions.assertThrows(IOException.class, stream::read);
+        Assertions.assertEquals("reset", e.getCause().getMessage());
+    }
+
+    @Test
+    public void discardsTheRestOfTheBodyOnceClosed() {
+        WriteStreamInputStream stream = new WriteStreamInputStream();
+        AtomicInteger drained = new AtomicInteger();
+        stream.setWriteQueueMaxSize(10);
+
+        stream.write(chunk("abcdefghijkl"));
+        stream.drainHandler(v -> drained.incrementAndGet());
+        stream.close();
+
+        // the body is resumed, to be discarded as it is received
+        Assertions.assertEquals(1, drained.get());
+        stream.write(chunk("mnopqrstuvwxyz"));
+        Assertions.assertFalse(stream.writeQueueFull());
+        Assertions.assertEquals(0, stream.available());
+        Assertions.assertThrows(IOException.class, stream::read);
+    }
+
+    @Test
+    public void closingWakesUpTheReader() throws Exception {
+        WriteStreamInputStream stream = new WriteStreamInputStream();
+
+        CompletableFuture<Void> read =
+                CompletableFuture.runAsync(
+                        () -> {
+                            try {
+                                stream.read();
+                            } catch (IOException e) {
+                                throw new RuntimeException(e);
+                            }
+                        });
+        vertx.setTimer(100, id -> stream.close());
+
+        Exception e = Assertions.assertThrows(Exception.class, () -> read.get(5, TimeUnit.SECONDS));
+        Assertions.assertInstanceOf(IOException.class, e.getCause().getCause());
+    }
+}
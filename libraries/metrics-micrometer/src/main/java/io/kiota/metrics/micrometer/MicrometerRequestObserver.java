@@ -0,0 +1,63 @@
+package io.kiota.metrics.micrometer;
+
+import com.microsoft.kiota.RequestInformation;
+import io.kiota.http.RequestObserver;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.Nonnull;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records how long the phases of the requests take as histograms of a Micrometer timer, tagged
+ * by phase, method, status code and URL template. It is set on either adapter:
+ * {@code adapter.setRequestObserver(new MicrometerRequestObserver(registry))}
+ */
+public class MicrometerRequestObserver implements RequestObserver {
+    /** The name of the timer. */
+    public static final String TIMER_NAME = "kiota.request.phase";
+
+    private static final String none = "none";
+
+    @Nonnull private final Meter.MeterProvider<Timer> timers;
+
+    public MicrometerRequestObserver(@Nonnull final MeterRegistry registry) {
+        Objects.requireNonNull(registry, "parameter registry cannot be null");
+        this.timers =
+                Timer.builder(TIMER_NAME)
+                        .description("Duration of the phases of the requests sent by Kiota")
+                        .publishPercentileHistogram()
+                        .withRegistry(registry);
+    }
+
+    /**
+     * Records the duration of a phase of a request.
+     * @param requestInfo the request, tagged with its URL template rather than its URI to keep
+     *     the number of timers bounded.
+     * @param phase the phase, e.g. convert, network, status or deserialize.
+     * @param statusCode the status code of the response, 0 when there is none.
+     * @param durationNanos the duration of the phase, in nanoseconds.
+     */
+    @Override
+    public void onPhase(
+            @Nonnull final RequestInformation requestInfo,
+            @Nonnull final String phase,
+            final int statusCode,
+            final long durationNanos) {
+        timers.withTags(
+                        Tags.of(
+                                "phase",
+                                phase,
+                                "method",
+                                requestInfo.httpMethod == null
+                                        ? none
+                                        : requestInfo.httpMethod.name(),
+                                "status",
+                                statusCode == 0 ? none : Integer.toString(statusCode),
+                                "uri",
+                                requestInfo.urlTemplate == null ? none : requestInfo.urlTemplate))
+                .record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+}
@@ -0,0 +1,110 @@
+package io.kiota.metrics.micrometer;
+
+import com.microsoft.kiota.ApiException;
+import com.microsoft.kiota.HttpMethod;
+import com.microsoft.kiota.RequestInformation;
+import com.sun.net.httpserver.HttpServer;
+import io.kiota.http.RequestObserver;
+import io.kiota.http.jdk.JDKRequestAdapter;
+import io.kiota.serialization.json.JsonParseNodeFactory;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+public class MicrometerRequestObserverTest {
+
+    private static HttpServer server;
+    private static String baseUrl;
+
+    @BeforeAll
+    public static void startServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(0), 0);
+        server.createContext(
+                "/items",
+                exchange -> {
+                    byte[] body = "\"item\"".getBytes(StandardCharsets.UTF_8);
+                    int status =
+                            exchange.getRequestURI().getPath().endsWith("/missing") ? 404 : 200;
+                    exchange.getResponseHeaders().add("Content-Type", "application/json");
+                    exchange.sendResponseHeaders(status, body.length);
+                    exchange.getResponseBody().write(body);
+                    exchange.close();
+                });
+        server.start();
+        baseUrl = "http://localhost:" + server.getAddress().getPort();
+    }
+
+    @AfterAll
+    public static void stopServer() {
+        if (server != null) {
+            server.stop(0);
+        }
+    }
+
+    private static RequestInformation request(String id) {
+        RequestInformation requestInfo = new RequestInformation();
+        requestInfo.httpMethod = HttpMethod.GET;
+        requestInfo.urlTemplate = "{+baseurl}/items/{id}";
+        requestInfo.pathParameters.put("id", id);
+        return requestInfo;
+    }
+
+    private static Timer timer(SimpleMeterRegistry registry, String phase, String status) {
+        return registry.find(MicrometerRequestObserver.TIMER_NAME)
+                .tags(
+                        "phase",
+                        phase,
+                        "method",
+                        "GET",
+                        "status",
+                        status,
+                        "uri",
+                        "{+baseurl}/items/{id}")
+                .timer();
+    }
+
+    @Test
+    public void recordsThePhasesByUrlTemplate() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        JDKRequestAdapter adapter = new JDKRequestAdapter(null, new JsonParseNodeFactory());
+        adapter.setBaseUrl(baseUrl);
+        adapter.setRequestObserver(new MicrometerRequestObserver(registry));
+
+        Assertions.assertEquals("item", adapter.sendPrimitive(request("1"), null, String.class));
+        Assertions.assertEquals("item", adapter.sendPrimitive(request("2"), null, String.class));
+        Assertions.assertEquals(
+                "item", adapter.sendPrimitiveAsync(request("3"), null, String.class).join());
+
+        Assertions.assertEquals(3, timer(registry, RequestObserver.CONVERT, "none").count());
+        Assertions.assertEquals(3, timer(registry, RequestObserver.NETWORK, "200").count());
+        Assertions.assertEquals(3, timer(registry, RequestObserver.STATUS, "200").count());
+        Assertions.assertEquals(3, timer(registry, RequestObserver.DESERIALIZE, "200").count());
+        Assertions.assertTrue(
+                timer(registry, RequestObserver.NETWORK, "200").totalTime(TimeUnit.NANOSECONDS)
+                        > 0);
+    }
+
+    @Test
+    public void recordsTheFailedResponses() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        JDKRequestAdapter adapter = new JDKRequestAdapter(null, new JsonParseNodeFactory());
+        adapter.setBaseUrl(baseUrl);
+        adapter.setRequestObserver(new MicrometerRequestObserver(registry));
+
+        Assertions.assertThrows(
+                ApiException.class,
+                () -> adapter.sendPrimitive(request("missing"), new HashMap<>(), String.class));
+
+        Assertions.assertEquals(1, timer(registry, RequestObserver.NETWORK, "404").count());
+        Assertions.assertEquals(1, timer(registry, RequestObserver.STATUS, "404").count());
+        Assertions.assertNull(timer(registry, RequestObserver.DESERIALIZE, "404"));
+    }
+}
@@ -0,0 +1,118 @@
+package io.kiota.serialization.json;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.io.SerializedString;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The field names of a Parsable type, in the order they are usually found in the payloads.
+ * The next expected name is matched directly against the raw input, and the field names
+ * returned are the same instances on every object, making the lookup of the deserializers cheap.
+ * Only the names are cached: the deserializers returned by the models capture the instance
+ * they assign (or its backing store), so they are still requested to every object.
+ */
+final class FieldNames {
+    private static final ClassValue<FieldNames> byType =
+            new ClassValue<FieldNames>() {
+                @Override
+                protected FieldNames computeValue(final Class<?> type) {
+                    return new FieldNames();
+                }
+            };
+
+    static FieldNames of(final Class<?> type) {
+        return byType.get(type);
+    }
+
+    private static final class Order {
+        private final SerializedString[] names;
+        private final Map<String, Integer> positions;
+
+        private Order(final List<String> found) {
+            names = new SerializedString[found.size()];
+            positions = new HashMap<>(found.size() * 2);
+            for (int i = 0; i < names.length; i++) {
+                names[i] = new SerializedString(found.get(i));
+                positions.putIfAbsent(found.get(i), i);
+            }
+        }
+    }
+
+    private volatile Order order = new Order(new ArrayList<>(0));
+    // set when an object didn't follow the expected order, the next one records its own
+    private volatile boolean relearn = true;
+
+    private FieldNames() {}
+
+    /** Reads the field names of one object. */
+    Reader reader() {
+        return new Reader(order, relearn);
+    }
+
+    final class Reader {
+        private final Order expected;
+        private int next;
+        private boolean predicted;
+        private List<String> found;
+
+        private Reader(final Order expected, final boolean record) {
+            this.expected = expected;
+            if (record) {
+                found = new ArrayList<>(Math.max(expected.names.length, 8));
+            }
+        }
+
+        /**
+         * Moves to the next field of the object.
+         * @param parser the parser positioned before the field name.
+         * @return the name of the field, or null at the end of the object.
+         */
+        String nextFieldName(final JsonParser parser) throws IOException {
+            if (next < expected.names.length) {
+                final SerializedString name = expected.names[next];
+                if (parser.nextFieldName(name)) {
+                    next++;
+                    predicted = true;
+                    return name.getValue();
+                } else if (parser.currentToken() != JsonToken.FIELD_NAME) {
+                    return null;
+                }
+            } else if (parser.nextToken() != JsonToken.FIELD_NAME) {
+                return null;
+            }
+            predicted = false;
+            final String name = parser.currentName();
+            final Integer position = expected.positions.get(name);
+            if (position != null) {
+                next = position + 1;
+                return expected.names[position].getValue();
+            }
+            return name;
+        }
+
+        /** Records that the current field is known to the model. */
+        void accepted(final String name) {
+            if (found != null) {
+                found.add(name);
+            } else if (!predicted) {
+                relearn = true;
+            }
+        }
+
+        /** Updates the expected order once the object has been read. */
+        void done() {
+            if (found != null) {
+                // prefer the objects with more fields, sparse ones are predicted as well
+                if (found.size() > expected.names.length) {
+                    order = new Order(found);
+                }
+                relearn = false;
+            }
+        }
+    }
+}
@@ -150,8 +150,8 @@ public class JsonParseNode implements ParseNode {
     }
 
     @Nullable
-    private <T> T getPrimitiveElement(
-            @Nonnull final Class<T> targetClass, @Nonnull final JsonParseNode itemNode) {
+    static <T> T getPrimitiveElement(
+            @Nonnull final Class<T> targetClass, @Nonnull final ParseNode itemNode) {
         if (targetClass == Boolean.class) {
             return (T) itemNode.getBooleanValue();
         } else if (targetClass == Short.class) {
@@ -7,8 +7,6 @@ import com.microsoft.kiota.serialization.ParseNodeFactory;
 import jakarta.annotation.Nonnull;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.InputStreamReader;
-import java.nio.charset.StandardCharsets;
 import java.util.Objects;
 
 /** Creates new Json parse nodes from the payload. */
@@ -44,11 +42,62 @@ public class JsonParseNodeFactory implements ParseNodeFactory {
         } else if (!contentType.equals(validContentType)) {
             throw new IllegalArgumentException("expected a " + validContentType + " content type");
         }
-        try (final InputStreamReader reader =
-                new InputStreamReader(rawResponse, StandardCharsets.UTF_8)) {
-            return createJsonParseNode(getObjectReader().readTree(reader));
+        return readParseNode(rawResponse);
+    }
+
+    /**
+     * Creates the root parse node from a payload already available in memory.
+     * @param contentType the content type of the payload.
+     * @param content the buffer holding the payload.
+     * @param offset the offset of the payload in the buffer.
+     * @param length the length of the payload.
+     * @return the root parse node.
+     */
+    @Nonnull
+    public ParseNode getParseNode(
+            @Nonnull final String contentType,
+            @Nonnull final byte[] content,
+            final int offset,
+            final int length) {
+        Objects.requireNonNull(contentType, "parameter contentType cannot be null");
+        Objects.requireNonNull(content, "parameter content cannot be null");
+        if (contentType.isEmpty()) {
+            throw new NullPointerException("contentType cannot be empty");
+        } else if (!contentType.equals(validContentType)) {
+            throw new IllegalArgumentException("expected a " + validContentType + " content type");
+        }
+        return readParseNode(content, offset, length);
+    }
+
+    /**
+     * Reads the payload and creates the root parse node.
+     * @param rawResponse the payload to read.
+     * @return the root parse node.
+     */
+    @Nonnull
+    protected ParseNode readParseNode(@Nonnull final InputStream rawResponse) {
+        // the raw bytes are decoded by Jackson, avoiding a Reader in between
+        try (final InputStream input = rawResponse) {
+            return createJsonParseNode(getObjectReader().readTree(input));
+        } catch (IOException ex) {
+            throw new RuntimeException("could not read the payload", ex);
+        }
+    }
+
+    /**
+     * Reads the payload and creates the root parse node.
+     * @param content the buffer holding the payload.
+     * @param offset the offset of the payload in the buffer.
+     * @param length the length of the payload.
+     * @return the root parse node.
+     */
+    @Nonnull
+    protected ParseNode readParseNode(
+            @Nonnull final byte[] content, final int offset, final int length) {
+        try {
+            return createJsonParseNode(getObjectReader().readTree(content, offset, length));
         } catch (IOException ex) {
-            throw new RuntimeException("could not close the reader", ex);
+            throw new RuntimeException("could not read the payload", ex);
         }
     }
 }
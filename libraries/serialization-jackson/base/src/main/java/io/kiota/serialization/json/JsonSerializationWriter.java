@@ -2,6 +2,7 @@ package io.kiota.serialization.json;
 
 import com.fasterxml.jackson.core.JsonEncoding;
 import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.util.RecyclerPool;
 import com.fasterxml.jackson.databind.ObjectWriter;
 import com.microsoft.kiota.PeriodAndDuration;
 import com.microsoft.kiota.serialization.ComposedTypeWrapper;
@@ -10,7 +11,6 @@ import com.microsoft.kiota.serialization.SerializationWriter;
 import com.microsoft.kiota.serialization.ValuedEnum;
 import jakarta.annotation.Nonnull;
 import jakarta.annotation.Nullable;
-import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
@@ -34,11 +34,16 @@ import java.util.stream.Stream;
 
 /** Serialization writer implementation for JSON */
 public class JsonSerializationWriter implements SerializationWriter {
-    private final ByteArrayOutputStream stream = new ByteArrayOutputStream();
+    private final ContentStream stream;
     private final JsonGenerator generator;
 
     /** Creates a new instance of a json serialization writer */
     public JsonSerializationWriter(ObjectWriter writer) {
+        this(writer, new ContentStream());
+    }
+
+    JsonSerializationWriter(ObjectWriter writer, ContentStream stream) {
+        this.stream = stream;
         try {
             this.generator = writer.createGenerator(this.stream, JsonEncoding.UTF8);
         } catch (IOException e) {
@@ -387,14 +392,80 @@ public class JsonSerializationWriter implements SerializationWriter {
     public InputStream getSerializedContent() {
         try {
             this.generator.flush();
-            return new ByteArrayInputStream(this.stream.toByteArray());
-            // This copies the whole array in memory could result in memory pressure for large
-            // objects, we might want to replace by some kind of piping in the future
+            return this.stream.toInputStream();
         } catch (IOException ex) {
             throw new RuntimeException(ex);
         }
     }
 
+    // hands over the written bytes without copying them
+    static class ContentStream extends ByteArrayOutputStream
+            implements RecyclerPool.WithPool<ContentStream> {
+        private static final int maxPooledSize = 1024 * 1024;
+        private final int initialSize;
+        private RecyclerPool<ContentStream> pool;
+        // the writer and the contents handed out, the buffer is reused when all are closed
+        private int users = 1;
+        private boolean closed;
+
+        ContentStream() {
+            this(32);
+        }
+
+        ContentStream(final int initialSize) {
+            super(initialSize);
+            this.initialSize = initialSize;
+        }
+
+        synchronized InputStream toInputStream() {
+            if (pool == null) {
+                return new JsonSerializedContent(buf, count, null);
+            }
+            users++;
+            return new JsonSerializedContent(buf, count, this::release);
+        }
+
+        @Override
+        public void close() {
+            synchronized (this) {
+                if (closed) {
+                    return;
+                }
+                closed = true;
+            }
+            release();
+        }
+
+        private void release() {
+            synchronized (this) {
+                if (pool == null || --users > 0) {
+                    return;
+                }
+            }
+            releaseToPool();
+        }
+
+        @Override
+        public ContentStream withPool(final RecyclerPool<ContentStream> pool) {
+            this.pool = pool;
+            return this;
+        }
+
+        @Override
+        public void releaseToPool() {
+            synchronized (this) {
+                reset();
+                // don't hold on to the buffers of the occasional large payloads
+                if (buf.length > maxPooledSize) {
+                    buf = new byte[initialSize];
+                }
+                users = 1;
+                closed = false;
+            }
+            pool.releasePooled(this);
+        }
+    }
+
     public void close() throws IOException {
         if (this.generator != null && !this.generator.isClosed()) {
             this.generator.close();
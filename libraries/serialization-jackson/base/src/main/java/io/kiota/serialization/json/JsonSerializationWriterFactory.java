@@ -33,6 +33,10 @@ public class JsonSerializationWriterFactory implements SerializationWriterFactor
         } else if (!contentType.equals(validContentType)) {
             throw new IllegalArgumentException("expected a " + validContentType + " content type");
         }
+        return createJsonSerializationWriter();
+    }
+
+    protected JsonSerializationWriter createJsonSerializationWriter() {
         return new JsonSerializationWriter(getObjectWriter());
     }
 }
@@ -0,0 +1,49 @@
+package io.kiota.serialization.json;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import java.io.ByteArrayInputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * The content produced by a JsonSerializationWriter, backed by the buffer of the writer.
+ * Request adapters can detect it and send the bytes without reading them through the stream.
+ * When the writer comes from a PooledJsonSerializationWriterFactory, closing the content
+ * returns the buffer to the pool, the content is empty afterwards.
+ */
+public final class JsonSerializedContent extends ByteArrayInputStream {
+    private Runnable release;
+
+    JsonSerializedContent(
+            @Nonnull final byte[] buffer, final int length, @Nullable final Runnable release) {
+        super(buffer, 0, length);
+        this.release = release;
+    }
+
+    /**
+     * Returns the bytes not yet read from the stream.
+     * @return a view of the serialized bytes, not a copy, the stream position is not changed.
+     */
+    @Nonnull
+    public synchronized ByteBuffer getByteBuffer() {
+        return ByteBuffer.wrap(buf, pos, count - pos).slice();
+    }
+
+    @Override
+    public void close() {
+        final Runnable toRun;
+        synchronized (this) {
+            toRun = release;
+            if (toRun == null) {
+                return;
+            }
+            release = null;
+            // the buffer is reused by other writers from now on
+            buf = new byte[0];
+            pos = 0;
+            count = 0;
+            mark = 0;
+        }
+        toRun.run();
+    }
+}
@@ -0,0 +1,701 @@
+package io.kiota.serialization.json;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.MissingNode;
+import com.microsoft.kiota.PeriodAndDuration;
+import com.microsoft.kiota.serialization.AdditionalDataHolder;
+import com.microsoft.kiota.serialization.Parsable;
+import com.microsoft.kiota.serialization.ParsableFactory;
+import com.microsoft.kiota.serialization.ParseNode;
+import com.microsoft.kiota.serialization.ValuedEnumParser;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * ParseNode implementation for JSON that reads the payload token by token.
+ * The node is positioned on the first token of its value and consumes it at most once,
+ * the value is buffered in a tree only when random access is required, e.g. when a factory
+ * looks for a discriminator or when an unknown field is stored in the additional data.
+ * The nodes handed to the field deserializers and to the factories of the collection elements
+ * are reused for the following values, they must not be retained after the callback returns.
+ */
+public class JsonStreamingParseNode implements ParseNode {
+    private static final BigInteger MIN_INT = BigInteger.valueOf(Integer.MIN_VALUE);
+    private static final BigInteger MAX_INT = BigInteger.valueOf(Integer.MAX_VALUE);
+    private static final BigInteger MIN_LONG = BigInteger.valueOf(Long.MIN_VALUE);
+    private static final BigInteger MAX_LONG = BigInteger.valueOf(Long.MAX_VALUE);
+
+    private final JsonStreamingParseNodeFactory factory;
+    protected final JsonParser parser;
+    // the fallback tree, set once the value has been buffered
+    private JsonParseNode treeNode;
+    private boolean consumed;
+    private boolean creating;
+    private JsonStreamingParseNode childNode;
+    boolean closeParserWhenDone;
+
+    /**
+     * Creates a new instance of the JsonStreamingParseNode class.
+     * @param nodeFactory the factory used to create the child nodes.
+     * @param parser the parser, positioned on the first token of the value.
+     */
+    public JsonStreamingParseNode(
+            @Nonnull final JsonStreamingParseNodeFactory nodeFactory,
+            @Nonnull final JsonParser parser) {
+        factory = Objects.requireNonNull(nodeFactory, "parameter nodeFactory cannot be null");
+        this.parser = Objects.requireNonNull(parser, "parameter parser cannot be null");
+    }
+
+    /** {@inheritDoc} */
+    @Nullable
+    public ParseNode getChildNode(@Nonnull final String identifier) {
+        Objects.requireNonNull(identifier, "identifier parameter is required");
+        if (treeNode == null) {
+            ensureNotConsumed();
+            if (parser.currentToken() != JsonToken.START_OBJECT) {
+                releaseIfRead();
+                return null;
+            }
+            materialize();
+        }
+        return treeNode.getChildNode(identifier);
+    }
+
+    @Nullable
+    public String getStringValue() {
+        if (treeNode != null) return treeNode.getStringValue();
+        try {
+            return parser.currentToken() == JsonToken.VALUE_STRING ? parser.getText() : null;
+        } catch (IOException ex) {
+            throw new RuntimeException("could not read the value", ex);
+        } finally {
+            releaseIfRead();
+        }
+    }
+
+    @Nullable
+    public Boolean getBooleanValue() {
+        if (treeNode != null) return treeNode.getBooleanValue();
+        try {
+            final JsonToken token = parser.currentToken();
+            return token != null && token.isBoolean() ? token == JsonToken.VALUE_TRUE : null;
+        } finally {
+            releaseIfRead();
+        }
+    }
+
+    @Nullable
+    public Byte getByteValue() {
+        if (treeNode != null) return treeNode.getByteValue();
+        try {
+            if (parser.currentToken() == JsonToken.VALUE_NUMBER_INT
+                    && parser.getNumberType() == JsonParser.NumberType.INT) {
+                int intValue = parser.getIntValue();
+                if (intValue >= Byte.MIN_VALUE && intValue <= Byte.MAX_VALUE) {
+                    return Integer.valueOf(intValue).byteValue();
+                }
+            }
+            return null;
+        } catch (IOException ex) {
+            throw new RuntimeException("could not read the value", ex);
+        } finally {
+            releaseIfRead();
+        }
+    }
+
+    @Nullable
+    public Short getShortValue() {
+        if (treeNode != null) return treeNode.getShortValue();
+        try {
+            return canConvertToInt() ? (short) parser.getIntValue() : null;
+        } catch (IOException ex) {
+            throw new RuntimeException("could not read the value", ex);
+        } finally {
+            releaseIfRead();
+        }
+    }
+
+    @Nullable
+    public BigDecimal getBigDecimalValue() {
+        if (treeNode != null) return treeNode.getBigDecimalValue();
+        try {
+            return isNumeric() ? parser.getDecimalValue() : null;
+        } catch (IOException ex) {
+            throw new RuntimeException("could not read the value", ex);
+        } finally {
+            releaseIfRead();
+        }
+    }
+
+    @Nullable
+    public Integer getIntegerValue() {
+        if (treeNode != null) return treeNode.getIntegerValue();
+        try {
+            return canConvertToInt() ? parser.getIntValue() : null;
+        } catch (IOException ex) {
+            throw new RuntimeException("could not read the value", ex);
+        } finally {
+            releaseIfRead();
+        }
+    }
+
+    @Nullable
+    public Float getFloatValue() {
+        if (treeNode != null) return treeNode.getFloatValue();
+        try {
+            if (isNumeric()) {
+                double doubleValue = parser.getDoubleValue();
+                if (doubleValue >= Float.MIN_VALUE && doubleValue <= Float.MAX_VALUE) {
+                    return Double.valueOf(doubleValue).floatValue();
+                }
+            }
+            return null;
+        } catch (IOException ex) {
+            throw new RuntimeException("could not read the value", ex);
+        } finally {
+            releaseIfRead();
+        }
+    }
+
+    @Nullable
+    public Double getDoubleValue() {
+        if (treeNode != null) return treeNode.getDoubleValue();
+        try {
+            return isNumeric() ? parser.getDoubleValue() : null;
+        } catch (IOException ex) {
+            throw new RuntimeException("could not read the value", ex);
+        } finally {
+            releaseIfRead();
+        }
+    }
+
+    @Nullable
+    public Long getLongValue() {
+        if (treeNode != null) return treeNode.getLongValue();
+        try {
+            return canConvertToLong() ? parser.getLongValue() : null;
+        } catch (IOException ex) {
+            throw new RuntimeException("could not read the value", ex);
+        } finally {
+            releaseIfRead();
+        }
+    }
+
+    @Nullable
+    public UUID getUUIDValue() {
+        final String value = getStringValue();
+        if (value != null) {
+            return UUID.fromString(value);
+        }
+        return null;
+    }
+
+    @Nullable
+    public OffsetDateTime getOffsetDateTimeValue() {
+        final String value = getStringValue();
+        if (value != null) {
+            return OffsetDateTime.parse(value);
+        }
+        return null;
+    }
+
+    @Nullable
+    public LocalDate getLocalDateValue() {
+        final String value = getStringValue();
+        if (value != null) {
+            return LocalDate.parse(value);
+        }
+        return null;
+    }
+
+    @Nullable
+    public LocalTime getLocalTimeValue() {
+        final String value = getStringValue();
+        if (value != null) {
+            return LocalTime.parse(value);
+        }
+        return null;
+    }
+
+    @Nullable
+    public PeriodAndDuration getPeriodAndDurationValue() {
+        final String value = getStringValue();
+        if (value != null) {
+            return PeriodAndDuration.parse(value);
+        }
+        return null;
+    }
+
+    @Nullable
+    public <T> List<T> getCollectionOfPrimitiveValues(@Nonnull final Class<T> targetClass) {
+        Objects.requireNonNull(targetClass, "parameter targetClass cannot be null");
+        if (useTree()) return treeNode.getCollectionOfPrimitiveValues(targetClass);
+        try {
+            final JsonToken token = parser.currentToken();
+            if (token == JsonToken.VALUE_NULL) {
+                return null;
+            } else if (token == JsonToken.START_ARRAY) {
+                List<T> result = new ArrayList<>();
+                while (nextToken() != JsonToken.END_ARRAY) {
+                    final JsonStreamingParseNode itemNode = childNode();
+                    result.add(JsonParseNode.getPrimitiveElement(targetClass, itemNode));
+                    itemNode.skipIfNotConsumed();
+                }
+                complete();
+                return result;
+            } else throw new RuntimeException("invalid state expected to have an array node");
+        } finally {
+            releaseIfRead();
+        }
+    }
+
+    @Nullable
+    public <T extends Parsable> List<T> getCollectionOfObjectValues(
+            @Nonnull final ParsableFactory<T> factory) {
+        Objects.requireNonNull(factory, "parameter factory cannot be null");
+        if (useTree()) return treeNode.getCollectionOfObjectValues(factory);
+        try {
+            if (parser.currentToken() == JsonToken.START_ARRAY) {
+                List<T> result = new ArrayList<>();
+                while (nextToken() != JsonToken.END_ARRAY) {
+                    final JsonStreamingParseNode itemNode = childNode();
+                    result.add(itemNode.getObjectValue(factory));
+                    itemNode.skipIfNotConsumed();
+                }
+                complete();
+                return result;
+            } else return null;
+        } finally {
+            releaseIfRead();
+        }
+    }
+
+    /**
+     * Reads the elements of the array one at a time, as the iterator is consumed.
+     * @param factory the factory to create the elements with.
+     * @return an iterator over the elements, empty when the value is not an array.
+     */
+    @Nonnull
+    public <T extends Parsable> Iterator<T> iterateCollectionOfObjectValues(
+            @Nonnull final ParsableFactory<T> factory) {
+        Objects.requireNonNull(factory, "parameter factory cannot be null");
+        if (useTree()) {
+            final List<T> result = treeNode.getCollectionOfObjectValues(factory);
+            return result == null ? Collections.emptyIterator() : result.iterator();
+        }
+        if (parser.currentToken() != JsonToken.START_ARRAY) {
+            release();
+            return Collections.emptyIterator();
+        }
+        consumed = true;
+        return new Iterator<T>() {
+            private JsonToken next;
+
+            @Override
+            public boolean hasNext() {
+                if (next == null) {
+                    try {
+                        final JsonToken token = parser.isClosed() ? null : nextToken();
+                        next = token == null ? JsonToken.END_ARRAY : token;
+                    } catch (RuntimeException ex) {
+                        release();
+                        throw ex;
+                    }
+                    if (next == JsonToken.END_ARRAY) {
+                        complete();
+                    }
+                }
+                return next != JsonToken.END_ARRAY;
+            }
+
+            @Override
+            public T next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                next = null;
+                try {
+                    final JsonStreamingParseNode itemNode = childNode();
+                    final T item = itemNode.getObjectValue(factory);
+                    itemNode.skipIfNotConsumed();
+                    return item;
+                } catch (RuntimeException ex) {
+                    release();
+                    throw ex;
+                }
+            }
+        };
+    }
+
+    /**
+     * Reads the elements of the array one at a time, as the stream is consumed.
+     * Closing the stream releases the payload even if not all the elements have been read.
+     * @param factory the factory to create the elements with.
+     * @return a sequential stream of the elements, empty when the value is not an array.
+     */
+    @Nonnull
+    public <T extends Parsable> Stream<T> streamCollectionOfObjectValues(
+            @Nonnull final ParsableFactory<T> factory) {
+        final Iterator<T> iterator = iterateCollectionOfObjectValues(factory);
+        return StreamSupport.stream(
+                        Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED), false)
+                .onClose(this::release);
+    }
+
+    @Nullable
+    public <T extends Enum<T>> List<T> getCollectionOfEnumValues(
+            @Nonnull final ValuedEnumParser<T> enumParser) {
+        Objects.requireNonNull(enumParser, "parameter enumParser cannot be null");
+        if (useTree()) return treeNode.getCollectionOfEnumValues(enumParser);
+        try {
+            final JsonToken token = parser.currentToken();
+            if (token == JsonToken.VALUE_NULL) {
+                return null;
+            } else if (token == JsonToken.START_ARRAY) {
+                List<T> result = new ArrayList<>();
+                while (nextToken() != JsonToken.END_ARRAY) {
+                    final JsonStreamingParseNode itemNode = childNode();
+                    result.add(itemNode.getEnumValue(enumParser));
+                    itemNode.skipIfNotConsumed();
+                }
+                complete();
+                return result;
+            } else throw new RuntimeException("invalid state expected to have an array node");
+        } finally {
+            releaseIfRead();
+        }
+    }
+
+    @Nonnull
+    public <T extends Parsable> T getObjectValue(@Nonnull final ParsableFactory<T> factory) {
+        Objects.requireNonNull(factory, "parameter factory cannot be null");
+        if (useTree()) return treeNode.getObjectValue(factory);
+        try {
+            final T item;
+            creating = true;
+            try {
+                item = factory.create(this);
+            } finally {
+                creating = false;
+            }
+            if (treeNode != null) {
+                // the factory needed to look ahead, the fields are assigned from the buffered tree
+                return treeNode.getObjectValue(n -> item);
+            }
+            assignFieldValues(item, item.getFieldDeserializers());
+            return item;
+        } finally {
+            releaseIfRead();
+        }
+    }
+
+    @Nullable
+    public <T extends Enum<T>> T getEnumValue(@Nonnull final ValuedEnumParser<T> enumParser) {
+        final String rawValue = this.getStringValue();
+        if (rawValue == null || rawValue.isEmpty()) {
+            return null;
+        }
+        return enumParser.forValue(rawValue);
+    }
+
+    @Nullable
+    public <T extends Enum<T>> EnumSet<T> getEnumSetValue(
+            @Nonnull final ValuedEnumParser<T> enumParser) {
+        final String rawValue = this.getStringValue();
+        if (rawValue == null || rawValue.isEmpty()) {
+            return null;
+        }
+        final List<T> result = new ArrayList<>();
+        final String[] rawValues = rawValue.split(",");
+        for (final String rawValueItem : rawValues) {
+            final T value = enumParser.forValue(rawValueItem);
+            if (value != null) {
+                result.add(value);
+            }
+        }
+        return EnumSet.copyOf(result);
+    }
+
+    private <T extends Parsable> void assignFieldValues(
+            final T item, final Map<String, Consumer<ParseNode>> fieldDeserializers) {
+        if (parser.currentToken() == JsonToken.START_OBJECT) {
+            if (this.onBeforeAssignFieldValues != null) {
+                this.onBeforeAssignFieldValues.accept(item);
+            }
+            Map<String, Object> itemAdditionalData = null;
+            if (item instanceof AdditionalDataHolder) {
+                itemAdditionalData = ((AdditionalDataHolder) item).getAdditionalData();
+            }
+            final FieldNames.Reader fieldNames = FieldNames.of(item.getClass()).reader();
+            String fieldKey;
+            while ((fieldKey = nextFieldName(fieldNames)) != null) {
+                final Consumer<ParseNode> fieldDeserializer = fieldDeserializers.get(fieldKey);
+                if (fieldDeserializer != null) {
+                    fieldNames.accepted(fieldKey);
+                }
+                if (nextToken() == JsonToken.VALUE_NULL) continue;
+                if (fieldDeserializer != null) {
+                    final JsonStreamingParseNode itemNode = childNode();
+                    fieldDeserializer.accept(itemNode);
+                    itemNode.skipIfNotConsumed();
+                } else if (itemAdditionalData != null) {
+                    itemAdditionalData.put(fieldKey, this.tryGetAnything());
+                } else {
+                    skipChildren();
+                }
+            }
+            fieldNames.done();
+            if (this.onAfterAssignFieldValues != null) {
+                this.onAfterAssignFieldValues.accept(item);
+            }
+        } else {
+            skipChildren();
+        }
+        complete();
+    }
+
+    private Object tryGetAnything() {
+        try {
+            switch (parser.currentToken()) {
+                case VALUE_TRUE:
+                case VALUE_FALSE:
+                    return parser.getBooleanValue();
+                case VALUE_STRING:
+                    return parser.getText();
+                case VALUE_NUMBER_INT:
+                    if (parser.getNumberType() == JsonParser.NumberType.INT)
+                        return parser.getIntValue();
+                    else if (parser.getNumberType() == JsonParser.NumberType.LONG)
+                        return parser.getLongValue();
+                    break;
+                case VALUE_NUMBER_FLOAT:
+                    if (parser.getNumberType() == JsonParser.NumberType.FLOAT)
+                        return parser.getFloatValue();
+                    else if (parser.getNumberType() == JsonParser.NumberType.DOUBLE)
+                        return parser.getDoubleValue();
+                    break;
+                case START_OBJECT:
+                case START_ARRAY:
+                    // unknown structured values are kept as trees, as in JsonParseNode
+                    return parser.readValueAsTree();
+                default:
+                    break;
+            }
+        } catch (IOException ex) {
+            throw new RuntimeException("could not read the value", ex);
+        }
+        throw new RuntimeException(
+                "Could not get the value during deserialization, unknown primitive type");
+    }
+
+    // the token is null when the payload is empty
+    private boolean isNumeric() {
+        final JsonToken token = parser.currentToken();
+        return token != null && token.isNumeric();
+    }
+
+    private boolean canConvertToInt() throws IOException {
+        final JsonToken token = parser.currentToken();
+        if (token == JsonToken.VALUE_NUMBER_INT) {
+            switch (parser.getNumberType()) {
+                case INT:
+                    return true;
+                case LONG:
+                    final long longValue = parser.getLongValue();
+                    return longValue >= Integer.MIN_VALUE && longValue <= Integer.MAX_VALUE;
+                default:
+                    final BigInteger bigValue = parser.getBigIntegerValue();
+                    return bigValue.compareTo(MIN_INT) >= 0 && bigValue.compareTo(MAX_INT) <= 0;
+            }
+        } else if (token == JsonToken.VALUE_NUMBER_FLOAT) {
+            final double doubleValue = parser.getDoubleValue();
+            return doubleValue >= Integer.MIN_VALUE && doubleValue <= Integer.MAX_VALUE;
+        }
+        return false;
+    }
+
+    private boolean canConvertToLong() throws IOException {
+        final JsonToken token = parser.currentToken();
+        if (token == JsonToken.VALUE_NUMBER_INT) {
+            switch (parser.getNumberType()) {
+                case INT:
+                case LONG:
+                    return true;
+                default:
+                    final BigInteger bigValue = parser.getBigIntegerValue();
+                    return bigValue.compareTo(MIN_LONG) >= 0 && bigValue.compareTo(MAX_LONG) <= 0;
+            }
+        } else if (token == JsonToken.VALUE_NUMBER_FLOAT) {
+            final double doubleValue = parser.getDoubleValue();
+            return doubleValue >= Long.MIN_VALUE && doubleValue <= Long.MAX_VALUE;
+        }
+        return false;
+    }
+
+    /**
+     * Structured values read while the object is being created (e.g. composed types looking for
+     * a discriminator or trying several shapes) need random access and are buffered in a tree.
+     */
+    private boolean useTree() {
+        if (treeNode != null) {
+            return true;
+        }
+        ensureNotConsumed();
+        if (creating) {
+            materialize();
+            return true;
+        }
+        return false;
+    }
+
+    private void materialize() {
+        try {
+            final JsonNode node =
+                    parser.currentToken() == null
+                            ? MissingNode.getInstance()
+                            : parser.readValueAsTree();
+            treeNode = factory.createJsonParseNode(node);
+            treeNode.setOnBeforeAssignFieldValues(this.onBeforeAssignFieldValues);
+            treeNode.setOnAfterAssignFieldValues(this.onAfterAssignFieldValues);
+        } catch (IOException ex) {
+            throw new RuntimeException("could not read the value", ex);
+        } finally {
+            complete();
+        }
+    }
+
+    private void ensureNotConsumed() {
+        if (consumed) {
+            throw new IllegalStateException("the value of this node has already been consumed");
+        }
+    }
+
+    // the child node is reused for every value one level down, see the class comment
+    private JsonStreamingParseNode childNode() {
+        JsonStreamingParseNode node = this.childNode;
+        if (node == null) {
+            node = factory.createJsonStreamingParseNode(parser);
+            this.childNode = node;
+        } else {
+            node.treeNode = null;
+            node.consumed = false;
+            node.creating = false;
+        }
+        node.setOnBeforeAssignFieldValues(this.onBeforeAssignFieldValues);
+        node.setOnAfterAssignFieldValues(this.onAfterAssignFieldValues);
+        return node;
+    }
+
+    /** Moves the parser past the value when the caller didn't read it. */
+    void skipIfNotConsumed() {
+        if (!consumed && treeNode == null) {
+            skipChildren();
+        }
+    }
+
+    private void complete() {
+        consumed = true;
+        release();
+    }
+
+    // the root value is read at most once, the payload is released even if the read failed
+    private void releaseIfRead() {
+        if (!creating) {
+            release();
+        }
+    }
+
+    private void release() {
+        if (closeParserWhenDone) {
+            try {
+                parser.close();
+            } catch (IOException ex) {
+                throw new RuntimeException("could not close the parser", ex);
+            }
+        }
+    }
+
+    private JsonToken nextToken() {
+        try {
+            return parser.nextToken();
+        } catch (IOException ex) {
+            throw new RuntimeException("could not read the payload", ex);
+        }
+    }
+
+    private String nextFieldName(final FieldNames.Reader fieldNames) {
+        try {
+            return fieldNames.nextFieldName(parser);
+        } catch (IOException ex) {
+            throw new RuntimeException("could not read the payload", ex);
+        }
+    }
+
+    private void skipChildren() {
+        try {
+            parser.skipChildren();
+        } catch (IOException ex) {
+            throw new RuntimeException("could not read the payload", ex);
+        }
+    }
+
+    @Nullable
+    public Consumer<Parsable> getOnBeforeAssignFieldValues() {
+        return this.onBeforeAssignFieldValues;
+    }
+
+    @Nullable
+    public Consumer<Parsable> getOnAfterAssignFieldValues() {
+        return this.onAfterAssignFieldValues;
+    }
+
+    private Consumer<Parsable> onBeforeAssignFieldValues;
+
+    public void setOnBeforeAssignFieldValues(@Nullable final Consumer<Parsable> value) {
+        this.onBeforeAssignFieldValues = value;
+        if (treeNode != null) {
+            treeNode.setOnBeforeAssignFieldValues(value);
+        }
+    }
+
+    private Consumer<Parsable> onAfterAssignFieldValues;
+
+    public void setOnAfterAssignFieldValues(@Nullable final Consumer<Parsable> value) {
+        this.onAfterAssignFieldValues = value;
+        if (treeNode != null) {
+            treeNode.setOnAfterAssignFieldValues(value);
+        }
+    }
+
+    @Nullable
+    public byte[] getByteArrayValue() {
+        final String base64 = this.getStringValue();
+        if (base64 == null || base64.isEmpty()) {
+            return null;
+        }
+        return Base64.getDecoder().decode(base64);
+    }
+}
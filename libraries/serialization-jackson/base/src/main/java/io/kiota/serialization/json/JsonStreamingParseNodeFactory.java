@@ -0,0 +1,67 @@
+package io.kiota.serialization.json;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.MissingNode;
+import com.microsoft.kiota.serialization.ParseNode;
+import jakarta.annotation.Nonnull;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Creates new Json parse nodes that read the payload as a stream of tokens,
+ * without buffering the whole document in a tree.
+ */
+public class JsonStreamingParseNodeFactory extends JsonParseNodeFactory {
+    /** Creates a new factory */
+    public JsonStreamingParseNodeFactory() {}
+
+    protected JsonStreamingParseNode createJsonStreamingParseNode(JsonParser parser) {
+        return new JsonStreamingParseNode(this, parser);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    @Nonnull
+    protected ParseNode readParseNode(@Nonnull final InputStream rawResponse) {
+        try {
+            return readParseNode(getObjectReader().createParser(rawResponse));
+        } catch (IOException ex) {
+            throw new RuntimeException("could not read the payload", ex);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    @Nonnull
+    protected ParseNode readParseNode(
+            @Nonnull final byte[] content, final int offset, final int length) {
+        try {
+            return readParseNode(getObjectReader().createParser(content, offset, length));
+        } catch (IOException ex) {
+            throw new RuntimeException("could not read the payload", ex);
+        }
+    }
+
+    private ParseNode readParseNode(final JsonParser newParser) throws IOException {
+        JsonParser parser = newParser;
+        try {
+            final JsonToken token = parser.nextToken();
+            if (token == JsonToken.START_OBJECT || token == JsonToken.START_ARRAY) {
+                final JsonStreamingParseNode node = createJsonStreamingParseNode(parser);
+                node.closeParserWhenDone = true;
+                parser = null;
+                return node;
+            }
+            // scalar payloads are small, read them at once and release the stream
+            final JsonNode node =
+                    token == null ? MissingNode.getInstance() : parser.readValueAsTree();
+            return createJsonParseNode(node);
+        } finally {
+            if (parser != null) {
+                parser.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package io.kiota.serialization.json;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.util.BufferRecycler;
+import com.fasterxml.jackson.core.util.JsonRecyclerPools;
+import com.fasterxml.jackson.core.util.RecyclerPool;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+/**
+ * Creates Json serialization writers that reuse their buffers: the output buffer goes back to
+ * the pool once the writer and the contents it handed out are closed, the generator buffers
+ * once the writer is closed. The pools are shared by all threads and bounded, so they work the
+ * same with virtual threads. The serialized content must be closed after it has been sent.
+ */
+public class PooledJsonSerializationWriterFactory extends JsonSerializationWriterFactory {
+    private static final int initialBufferSize = 8192;
+
+    private final RecyclerPool<BufferRecycler> generatorBuffers;
+    private final RecyclerPool<JsonSerializationWriter.ContentStream> contentBuffers;
+    private volatile ObjectWriter pooledWriter;
+
+    /** Creates a new factory pooling up to 100 sets of buffers */
+    public PooledJsonSerializationWriterFactory() {
+        this(RecyclerPool.BoundedPoolBase.DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a new factory
+     * @param capacity the maximum number of buffers kept in each pool.
+     */
+    public PooledJsonSerializationWriterFactory(final int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be positive");
+        }
+        this.generatorBuffers = JsonRecyclerPools.newBoundedPool(capacity);
+        this.contentBuffers =
+                new RecyclerPool.BoundedPoolBase<JsonSerializationWriter.ContentStream>(capacity) {
+                    private static final long serialVersionUID = 1L;
+
+                    @Override
+                    public JsonSerializationWriter.ContentStream createPooled() {
+                        return new JsonSerializationWriter.ContentStream(initialBufferSize);
+                    }
+                };
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected JsonSerializationWriter createJsonSerializationWriter() {
+        return new JsonSerializationWriter(
+                getPooledWriter(), contentBuffers.acquireAndLinkPooled());
+    }
+
+    private ObjectWriter getPooledWriter() {
+        ObjectWriter writer = pooledWriter;
+        if (writer == null) {
+            writer = getObjectWriter();
+            final JsonFactory factory = writer.getFactory().copy();
+            factory.setRecyclerPool(generatorBuffers);
+            writer = writer.with(factory);
+            pooledWriter = writer;
+        }
+        return writer;
+    }
+}
@@ -0,0 +1,290 @@
+package io.kiota.serialization.json;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.microsoft.kiota.serialization.ParseNode;
+import io.kiota.serialization.json.mocks.MyEnum;
+import io.kiota.serialization.json.mocks.TestEntity;
+import io.kiota.serialization.json.mocks.UnionTypeMock;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.Test;
+
+class JsonStreamingParseNodeTests {
+    private static final JsonStreamingParseNodeFactory _parseNodeFactory =
+            new JsonStreamingParseNodeFactory();
+    private static final String contentType = "application/json";
+
+    private static ParseNode parse(final String json) {
+        return _parseNodeFactory.getParseNode(
+                contentType, new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    void readsObjectWithoutBufferingTheTree() {
+        final var parseNode =
+                parse("{\"id\":\"opaque\",\"birthDay\":\"2017-09-04\",\"myEnum\":\"VALUE2\"}");
+        assertInstanceOf(JsonStreamingParseNode.class, parseNode);
+
+        final var result = parseNode.getObjectValue(TestEntity::createFromDiscriminatorValue);
+        assertEquals("opaque", result.getId());
+        assertEquals(LocalDate.of(2017, 9, 4), result.getBirthDay());
+        assertEquals(MyEnum.MY_VALUE2, result.getMyEnum());
+        assertTrue(result.getAdditionalData().isEmpty());
+    }
+
+    @Test
+    void storesUnknownFieldsInAdditionalData() {
+        final var parseNode =
+                parse(
+                        "{\"id\":\"opaque\",\"int\":1,\"long\":9999999999,\"double\":0.5,"
+                                + "\"bool\":false,\"text\":\"foo\",\"none\":null,"
+                                + "\"obj\":{\"nested\":[1,2]},\"arr\":[{\"a\":1}],"
+                                + "\"officeLocation\":\"Montreal\"}");
+
+        final var result = parseNode.getObjectValue(TestEntity::createFromDiscriminatorValue);
+        final var additionalData = result.getAdditionalData();
+        assertEquals("opaque", result.getId());
+        assertEquals("Montreal", result.getOfficeLocation());
+        assertEquals(1, additionalData.get("int"));
+        assertEquals(9999999999L, additionalData.get("long"));
+        assertEquals(0.5, additionalData.get("double"));
+        assertEquals(false, additionalData.get("bool"));
+        assertEquals("foo", additionalData.get("text"));
+        assertFalse(additionalData.containsKey("none"));
+        assertEquals(2, ((JsonNode) additionalData.get("obj")).get("nested").get(1).intValue());
+        assertTrue(((JsonNode) additionalData.get("arr")).isArray());
+    }
+
+    @Test
+    void skipsStructuredValuesNotReadByTheDeserializer() {
+        final var parseNode =
+                parse(
+                        "{\"id\":{\"unexpected\":[{\"a\":\"b\"}]},\"officeLocation\":[1,2,3],"
+                                + "\"birthDay\":\"2017-09-04\"}");
+
+        final var result = parseNode.getObjectValue(TestEntity::createFromDiscriminatorValue);
+        assertNull(result.getId());
+        assertNull(result.getOfficeLocation());
+        assertEquals(LocalDate.of(2017, 9, 4), result.getBirthDay());
+    }
+
+    @Test
+    void readsCollectionOfObjectValues() {
+        final var parseNode =
+                parse("[{\"id\":\"1\",\"officeLocation\":\"Ottawa\"},{\"id\":\"2\",\"extra\":[]}]");
+
+        final List<TestEntity> result =
+                parseNode.getCollectionOfObjectValues(TestEntity::createFromDiscriminatorValue);
+        assertEquals(2, result.size());
+        assertEquals("1", result.get(0).getId());
+        assertEquals("Ottawa", result.get(0).getOfficeLocation());
+        assertEquals("2", result.get(1).getId());
+        assertTrue(result.get(1).getAdditionalData().containsKey("extra"));
+    }
+
+    @Test
+    void readsObjectsWithFieldsInAnyOrder() {
+        final var parseNode =
+                parse(
+                        "[{\"id\":\"1\"},{\"officeLocation\":\"Ottawa\",\"extra\":1,\"id\":\"2\"},"
+                            + "{\"id\":\"3\",\"officeLocation\":\"Montreal\"},"
+                            + "{\"id\":\"4\",\"officeLocation\":null,\"birthDay\":\"2017-09-04\"},"
+                            + "{\"birthDay\":\"2017-09-05\",\"id\":\"5\",\"officeLocation\":\"Quebec\"},"
+                            + "{\"extra\":2,\"officeLocation\":\"Toronto\",\"id\":\"6\"}]");
+
+        final List<TestEntity> result =
+                parseNode.getCollectionOfObjectValues(TestEntity::createFromDiscriminatorValue);
+        assertEquals(6, result.size());
+        for (int i = 0; i < result.size(); i++) {
+            assertEquals(String.valueOf(i + 1), result.get(i).getId());
+        }
+        assertNull(result.get(0).getOfficeLocation());
+        assertEquals("Ottawa", result.get(1).getOfficeLocation());
+        assertEquals(1, result.get(1).getAdditionalData().get("extra"));
+        assertEquals("Montreal", result.get(2).getOfficeLocation());
+        assertNull(result.get(3).getOfficeLocation());
+        assertEquals(LocalDate.of(2017, 9, 4), result.get(3).getBirthDay());
+        assertEquals("Quebec", result.get(4).getOfficeLocation());
+        assertEquals(LocalDate.of(2017, 9, 5), result.get(4).getBirthDay());
+        assertEquals("Toronto", result.get(5).getOfficeLocation());
+        assertEquals(2, result.get(5).getAdditionalData().get("extra"));
+    }
+
+    @Test
+    void readsCollectionOfPrimitiveValues() {
+        final var parseNode = parse("[1,2,{\"skipped\":true},3]");
+
+        final List<Integer> result = parseNode.getCollectionOfPrimitiveValues(Integer.class);
+        assertEquals(4, result.size());
+        assertEquals(1, result.get(0));
+        assertEquals(2, result.get(1));
+        assertNull(result.get(2));
+        assertEquals(3, result.get(3));
+    }
+
+    @Test
+    void buffersTheValueWhenTheFactoryLooksForADiscriminator() {
+        final var parseNode =
+                parse(
+                        "{\"@odata.type\":\"#microsoft.graph.testEntity\",\"officeLocation\":\"Montreal\","
+                            + " \"id\": \"opaque\"}");
+
+        final var result = parseNode.getObjectValue(UnionTypeMock::createFromDiscriminatorValue);
+        assertNotNull(result.getComposedType1());
+        assertEquals("Montreal", result.getComposedType1().getOfficeLocation());
+        assertEquals("opaque", result.getComposedType1().getId());
+    }
+
+    @Test
+    void buffersTheValueWhenTheFactoryTriesSeveralShapes() {
+        final var parseNode =
+                parse("[{\"officeLocation\":\"Ottawa\",\"id\":\"11\"},{\"id\":\"10\"}]");
+
+        final var result = parseNode.getObjectValue(UnionTypeMock::createFromDiscriminatorValue);
+        assertNotNull(result.getComposedType3());
+        assertEquals(2, result.getComposedType3().size());
+        assertEquals("11", result.getComposedType3().get(0).getId());
+    }
+
+    @Test
+    void readsScalarPayloads() {
+        assertEquals("officeLocation", parse("\"officeLocation\"").getStringValue());
+        assertEquals(123L, parse("123").getLongValue());
+        assertNull(parse("").getStringValue());
+    }
+
+    @Test
+    void readsNoValueFromAParserBeforeItsFirstToken() throws IOException {
+        final var parseNode =
+                new JsonStreamingParseNode(_parseNodeFactory, new JsonFactory().createParser(""));
+
+        assertNull(parseNode.getBooleanValue());
+        assertNull(parseNode.getBigDecimalValue());
+        assertNull(parseNode.getFloatValue());
+        assertNull(parseNode.getDoubleValue());
+    }
+
+    @Test
+    void readsPayloadsFromASliceOfABuffer() {
+        final byte[] buffer = "xx{\"id\":\"1\"}xx".getBytes(StandardCharsets.UTF_8);
+        final var parseNode = _parseNodeFactory.getParseNode(contentType, buffer, 2, 10);
+        assertInstanceOf(JsonStreamingParseNode.class, parseNode);
+
+        assertEquals(
+                "1", parseNode.getObjectValue(TestEntity::createFromDiscriminatorValue).getId());
+    }
+
+    @Test
+    void refusesToReadTheSameValueTwice() {
+        final var parseNode = parse("[{\"id\":\"1\"}]");
+        parseNode.getCollectionOfObjectValues(TestEntity::createFromDiscriminatorValue);
+
+        assertThrows(
+                IllegalStateException.class,
+                () ->
+                        parseNode.getCollectionOfObjectValues(
+                                TestEntity::createFromDiscriminatorValue));
+    }
+
+    @Test
+    void closesThePayloadOnceTheRootValueIsRead() {
+        final AtomicBoolean closed = new AtomicBoolean();
+        final var rawResponse =
+                new ByteArrayInputStream("{\"id\":\"1\"}".getBytes(StandardCharsets.UTF_8)) {
+                    @Override
+                    public void close() throws IOException {
+                        closed.set(true);
+                        super.close();
+                    }
+                };
+        final var parseNode = _parseNodeFactory.getParseNode(contentType, rawResponse);
+        assertFalse(closed.get());
+
+        parseNode.getObjectValue(TestEntity::createFromDiscriminatorValue);
+        assertTrue(closed.get());
+    }
+
+    @Test
+    void closesThePayloadWhenTheRootValueCannotBeRead() {
+        final AtomicBoolean closed = new AtomicBoolean();
+        final var rawResponse =
+                new ByteArrayInputStream("{\"id\":\"1\"}".getBytes(StandardCharsets.UTF_8)) {
+                    @Override
+                    public void close() throws IOException {
+                        closed.set(true);
+                        super.close();
+                    }
+                };
+        final var parseNode = _parseNodeFactory.getParseNode(contentType, rawResponse);
+
+        assertThrows(
+                IllegalArgumentException.class,
+                () ->
+                        parseNode.getObjectValue(
+                                n -> {
+                                    throw new IllegalArgumentException("unexpected value");
+                                }));
+        assertTrue(closed.get());
+    }
+
+    @Test
+    void closesThePayloadWhenTheRootValueIsReadAsAnotherType() {
+        final AtomicBoolean closed = new AtomicBoolean();
+        final var rawResponse =
+                new ByteArrayInputStream("[1,2]".getBytes(StandardCharsets.UTF_8)) {
+                    @Override
+                    public void close() throws IOException {
+                        closed.set(true);
+                        super.close();
+                    }
+                };
+
+        assertNull(_parseNodeFactory.getParseNode(contentType, rawResponse).getBooleanValue());
+        assertTrue(closed.get());
+    }
+
+    @Test
+    void iteratesCollectionOfObjectValuesLazily() {
+        // the payload is truncated after the second element
+        final var parseNode =
+                (JsonStreamingParseNode) parse("[{\"id\":\"1\"},{\"id\":\"2\"},{\"id\":");
+
+        final var iterator =
+                parseNode.iterateCollectionOfObjectValues(TestEntity::createFromDiscriminatorValue);
+        assertEquals("1", iterator.next().getId());
+        assertEquals("2", iterator.next().getId());
+        assertTrue(iterator.hasNext());
+        assertThrows(RuntimeException.class, iterator::next);
+    }
+
+    @Test
+    void streamsCollectionOfObjectValues() {
+        final AtomicBoolean closed = new AtomicBoolean();
+        final var rawResponse =
+                new ByteArrayInputStream(
+                        "[{\"id\":\"1\"},{\"id\":\"2\"},{\"id\":\"3\"}]"
+                                .getBytes(StandardCharsets.UTF_8)) {
+                    @Override
+                    public void close() throws IOException {
+                        closed.set(true);
+                        super.close();
+                    }
+                };
+        final var parseNode =
+                (JsonStreamingParseNode) _parseNodeFactory.getParseNode(contentType, rawResponse);
+
+        try (final var stream =
+                parseNode.streamCollectionOfObjectValues(
+                        TestEntity::createFromDiscriminatorValue)) {
+            assertEquals("1", stream.findFirst().orElseThrow().getId());
+        }
+        assertTrue(closed.get());
+    }
+}
@@ -8,7 +8,9 @@ import com.microsoft.kiota.serialization.Parsable;
 import com.microsoft.kiota.serialization.ParseNode;
 import com.microsoft.kiota.serialization.SerializationWriter;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.function.Consumer;
@@ -198,4 +200,30 @@ public class ObjectTypeTests {
         var objValue = node.getObjectValue(TestObject::createFromDiscriminatorValue);
         assertEquals(true, objValue.getAdditionalData().get("unknownbool"));
     }
+
+    @Test
+    public void keepsTheElementNodesOfACollection() throws IOException {
+        // Arrange
+        JsonParseNodeFactory factory = new JsonParseNodeFactory();
+        JsonParseNode node =
+                factory.createJsonParseNode(
+                        mapper.readTree("[{\"integer\":1},{\"integer\":2},{\"integer\":3}]"));
+        List<ParseNode> elements = new ArrayList<>();
+
+        // Act
+        node.getCollectionOfObjectValues(
+                parseNode -> {
+                    elements.add(parseNode);
+                    return TestObject.createFromDiscriminatorValue(parseNode);
+                });
+
+        // Assert
+        assertEquals(3, elements.size());
+        for (int i = 0; i < elements.size(); i++) {
+            assertEquals(
+                    i + 1,
+                    elements.get(i).getChildNode("integer").getIntegerValue(),
+                    "a node stays valid once its following sibling is read");
+        }
+    }
 }
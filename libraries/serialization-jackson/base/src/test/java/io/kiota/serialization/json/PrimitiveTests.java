@@ -2,8 +2,11 @@ package io.kiota.serialization.json;
 
 import static io.kiota.serialization.json.JsonMapper.mapper;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 import com.microsoft.kiota.serialization.SerializationWriter;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.math.BigDecimal;
 import java.nio.charset.StandardCharsets;
@@ -26,6 +29,55 @@ public class PrimitiveTests {
         assertEquals("\"foo\"", result);
     }
 
+    @Test
+    public void serializedContentOutlivesTheWriter() throws IOException {
+        // Arrange
+        SerializationWriter writer =
+                new JsonSerializationWriterFactory().getSerializationWriter("application/json");
+
+        // Act
+        writer.writeStringValue(null, "foo");
+        var content = writer.getSerializedContent();
+        writer.close();
+
+        // Assert
+        var bytes = ((JsonSerializedContent) content).getByteBuffer();
+        assertEquals("\"foo\"", StandardCharsets.UTF_8.decode(bytes).toString());
+        assertEquals("\"foo\"", new String(content.readAllBytes(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void pooledWritersReuseTheBufferOnceTheContentIsClosed() throws IOException {
+        // Arrange
+        var factory = new PooledJsonSerializationWriterFactory(1);
+        SerializationWriter writer = factory.getSerializationWriter("application/json");
+
+        // Act
+        writer.writeStringValue(null, "foo");
+        var content = (JsonSerializedContent) writer.getSerializedContent();
+        var buffer = content.getByteBuffer().array();
+        writer.close();
+        writer.close();
+        SerializationWriter whileSending = factory.getSerializationWriter("application/json");
+        whileSending.writeStringValue(null, "bar");
+        var bytes = content.readAllBytes();
+        content.close();
+        SerializationWriter afterSending = factory.getSerializationWriter("application/json");
+        afterSending.writeStringValue(null, "baz");
+        var reused = (JsonSerializedContent) afterSending.getSerializedContent();
+
+        // Assert
+        assertEquals("\"foo\"", new String(bytes, StandardCharsets.UTF_8));
+        assertEquals(-1, content.read());
+        assertNotSame(
+                buffer,
+                ((JsonSerializedContent) whileSending.getSerializedContent())
+                        .getByteBuffer()
+                        .array());
+        assertSame(buffer, reused.getByteBuffer().array());
+        assertEquals("\"baz\"", new String(reused.readAllBytes(), StandardCharsets.UTF_8));
+    }
+
     @Test
     public void deserializePrimitiveTypes() throws IOException {
         // Arrange
@@ -50,4 +102,23 @@ public class PrimitiveTests {
         assertEquals(new BigDecimal(123), bigDecValue);
         assertEquals((byte) 123, byteValue);
     }
+
+    @Test
+    public void deserializeUtf8Payloads() {
+        // Arrange
+        JsonParseNodeFactory factory = new JsonParseNodeFactory();
+        byte[] payload = "[\"h\u00e9llo \u2603 \ud83d\ude00\"]".getBytes(StandardCharsets.UTF_8);
+
+        // Act
+        var fromStream =
+                factory.getParseNode("application/json", new ByteArrayInputStream(payload))
+                        .getCollectionOfPrimitiveValues(String.class);
+        var fromBytes =
+                factory.getParseNode("application/json", payload, 1, payload.length - 2)
+                        .getStringValue();
+
+        // Assert
+        assertEquals("h\u00e9llo \u2603 \ud83d\ude00", fromStream.get(0));
+        assertEquals("h\u00e9llo \u2603 \ud83d\ude00", fromBytes);
+    }
 }